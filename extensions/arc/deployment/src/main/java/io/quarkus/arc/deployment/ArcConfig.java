@@ -46,6 +46,30 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "all")
     public String removeUnusedBeans;
 
+    /**
+     * If set to true then the unused beans are removed more aggressively. The container only keeps the beans reachable from
+     * an unremovable component, i.e. the injection points of unused beans are not taken into account. For example, a bean
+     * that is only injected in an {@code Instance<T>} injection point of an unused bean, or a cycle of unused beans, is
+     * removed.
+     * <p>
+     * This option has no effect if the removal of unused beans is disabled.
+     *
+     * @see #removeUnusedBeans
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean strictUnusedBeansRemoval;
+
+    /**
+     * If set to true then a report of the application components is generated in the
+     * {@code quarkus-arc-bean-report.json} file in the output directory. For each bean, interceptor and decorator, the
+     * report lists the generated classes with their size in bytes and the reasons why the component was not removed. The
+     * removed beans are listed too.
+     * <p>
+     * In the dev mode, the report is also available in the Dev UI.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean beanReport;
+
     /**
      * If set to true {@code @Inject} is automatically added to all non-static non-final fields that are annotated with
      * one of the annotations defined by {@link AutoInjectAnnotationBuildItem}.
@@ -200,6 +224,35 @@ public class ArcConfig {
     @ConfigItem
     public ArcContextPropagationConfig contextPropagation;
 
+    /**
+     * If set to true, the asynchronous observers are notified on virtual threads, unless an executor is specified in the
+     * notification options. A new virtual thread is started for each asynchronous event.
+     * <p>
+     * Virtual threads require Java 19+ with preview features enabled, or Java 21+. If they are not available, the
+     * asynchronous observers are notified with the default executor and a warning is logged.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean asyncObserversOnVirtualThreads;
+
+    /**
+     * If set to true, the {@link io.quarkus.runtime.Startup} beans with the same priority are initialized concurrently.
+     * <p>
+     * A startup bean is only initialized once all the startup beans it depends on, i.e. the startup beans reachable
+     * through its injection points, are initialized. Beans that are looked up programmatically are not considered. Only
+     * {@code @ApplicationScoped}, {@code @Singleton} and {@code @Dependent} startup beans are initialized concurrently.
+     * The initialization times are logged on the DEBUG level.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean parallelStartup;
+
+    /**
+     * If set to true, the injection points of beans, observers, interceptors and decorators are resolved concurrently on
+     * the build executor when the bean deployment is initialized. The resolution errors are reported in the same order as
+     * with the sequential resolution.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean parallelInjectionPointResolution;
+
     public final boolean isRemoveUnusedBeansFieldValid() {
         return ALLOWED_REMOVE_UNUSED_BEANS_VALUES.contains(removeUnusedBeans.toLowerCase());
     }
@@ -310,6 +310,7 @@ public void transform(TransformationContext transformationContext) {
             builder.addStereotypeRegistrar(registrar.getStereotypeRegistrar());
         }
         builder.setRemoveUnusedBeans(arcConfig.shouldEnableBeanRemoval());
+        builder.setStrictUnusedBeansRemoval(arcConfig.strictUnusedBeansRemoval);
         if (arcConfig.shouldOnlyKeepAppBeans()) {
             builder.addRemovalExclusion(new AbstractCompositeApplicationClassesPredicate<BeanInfo>(
                     applicationClassesIndex, generatedClassNames, applicationClassPredicates, testClassPredicate) {
@@ -510,7 +511,8 @@ public ValidationPhaseBuildItem validate(ObserverRegistrationPhaseBuildItem obse
             List<ObserverConfiguratorBuildItem> observerConfigurationRegistry,
             List<UnremovableBeanBuildItem> unremovableBeans,
             BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer,
-            BuildProducer<SynthesisFinishedBuildItem> synthesisFinished) {
+            BuildProducer<SynthesisFinishedBuildItem> synthesisFinished,
+            ExecutorService buildExecutor, ArcConfig config) {
 
         for (ObserverConfiguratorBuildItem configurator : observerConfigurationRegistry) {
             // Just make sure the configurator is processed
@@ -523,7 +525,8 @@ public ValidationPhaseBuildItem validate(ObserverRegistrationPhaseBuildItem obse
         Consumer<BytecodeTransformer> bytecodeTransformerConsumer = new BytecodeTransformerConsumer(bytecodeTransformer);
 
         beanProcessor.initialize(bytecodeTransformerConsumer,
-                unremovableBeans.stream().map(UnremovableBeanBuildItem::getPredicate).collect(Collectors.toList()));
+                unremovableBeans.stream().map(UnremovableBeanBuildItem::getPredicate).collect(Collectors.toList()),
+                config.parallelInjectionPointResolution ? buildExecutor : null);
         BeanDeploymentValidator.ValidationContext validationContext = beanProcessor.validate(bytecodeTransformerConsumer);
 
         return new ValidationPhaseBuildItem(validationContext, beanProcessor);
@@ -684,8 +687,11 @@ List<AdditionalApplicationArchiveMarkerBuildItem> marker() {
 
     @BuildStep
     @Record(value = RUNTIME_INIT)
-    void setupExecutor(ExecutorBuildItem executor, ArcRecorder recorder) {
+    void setupExecutor(ExecutorBuildItem executor, ArcRecorder recorder, ArcConfig config, ShutdownContextBuildItem shutdown) {
         recorder.initExecutor(executor.getExecutorProxy());
+        if (config.asyncObserversOnVirtualThreads) {
+            recorder.initVirtualThreadsAsyncObserverExecutor(shutdown);
+        }
     }
 
     @BuildStep
@@ -0,0 +1,143 @@
+package io.quarkus.arc.deployment;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Holds the size and reachability information about the components of the application.
+ *
+ * @see BeanReportProcessor
+ */
+public final class BeanReportBuildItem extends SimpleBuildItem {
+
+    private final List<Component> components;
+    private final List<String> removedBeans;
+
+    BeanReportBuildItem(List<Component> components, List<String> removedBeans) {
+        this.components = components;
+        this.removedBeans = removedBeans;
+    }
+
+    /**
+     * @return the components sorted by the total size of the generated classes, the largest first
+     */
+    public List<Component> getComponents() {
+        return components;
+    }
+
+    /**
+     * @return the descriptions of the removed beans
+     */
+    public List<String> getRemovedBeans() {
+        return removedBeans;
+    }
+
+    public long getTotalSize() {
+        long total = 0;
+        for (Component component : components) {
+            total += component.getTotalSize();
+        }
+        return total;
+    }
+
+    public static final class Component {
+
+        private final String id;
+        private final String kind;
+        private final String providerType;
+        private final String scope;
+        private final List<GeneratedClass> generatedClasses;
+        private final int injectionPoints;
+        private final List<String> reachability;
+
+        Component(String id, String kind, String providerType, String scope, List<GeneratedClass> generatedClasses,
+                int injectionPoints, List<String> reachability) {
+            this.id = id;
+            this.kind = kind;
+            this.providerType = providerType;
+            this.scope = scope;
+            this.generatedClasses = generatedClasses;
+            this.injectionPoints = injectionPoints;
+            this.reachability = reachability;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @return the kind, e.g. {@code CLASS}, {@code PRODUCER_METHOD} or {@code INTERCEPTOR}
+         */
+        public String getKind() {
+            return kind;
+        }
+
+        public String getProviderType() {
+            return providerType;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+
+        public List<GeneratedClass> getGeneratedClasses() {
+            return generatedClasses;
+        }
+
+        /**
+         * @return the total size of the generated classes in bytes, the classes of unknown size are ignored
+         */
+        public long getTotalSize() {
+            long total = 0;
+            for (GeneratedClass generatedClass : generatedClasses) {
+                if (generatedClass.getSize() > 0) {
+                    total += generatedClass.getSize();
+                }
+            }
+            return total;
+        }
+
+        /**
+         * @return the number of injection points that resolve to this component
+         */
+        public int getInjectionPoints() {
+            return injectionPoints;
+        }
+
+        /**
+         * @return the reasons why this component was not removed, e.g. {@code injected} or {@code named}
+         */
+        public List<String> getReachability() {
+            return reachability;
+        }
+
+    }
+
+    public static final class GeneratedClass {
+
+        private final String name;
+        private final int size;
+
+        GeneratedClass(String name, int size) {
+            this.name = name;
+            this.size = size;
+        }
+
+        /**
+         * @return the fully qualified class name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the size of the bytecode in bytes, including the nested classes, or {@code -1} if unknown
+         */
+        public int getSize() {
+            return size;
+        }
+
+    }
+
+}
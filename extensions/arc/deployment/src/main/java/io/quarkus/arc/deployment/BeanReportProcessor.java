@@ -0,0 +1,231 @@
+package io.quarkus.arc.deployment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.jandex.Type;
+
+import io.quarkus.arc.deployment.BeanReportBuildItem.Component;
+import io.quarkus.arc.deployment.BeanReportBuildItem.GeneratedClass;
+import io.quarkus.arc.processor.BeanDeploymentValidator.ValidationContext;
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.arc.processor.BeanResolver;
+import io.quarkus.arc.processor.BuildExtension;
+import io.quarkus.arc.processor.DecoratorInfo;
+import io.quarkus.arc.processor.InjectionPointInfo;
+import io.quarkus.arc.processor.InterceptorInfo;
+import io.quarkus.arc.processor.ObserverInfo;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedFileSystemResourceBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+import io.quarkus.runtime.LaunchMode;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Collects the size of the classes generated for each component and the reasons why the component was not removed.
+ *
+ * @see ArcConfig#beanReport
+ */
+public class BeanReportProcessor {
+
+    static final String REPORT_FILE = "quarkus-arc-bean-report.json";
+
+    @BuildStep(onlyIf = BeanReportEnabled.class)
+    BeanReportBuildItem collectBeanReport(ValidationPhaseBuildItem validationPhase,
+            List<GeneratedClassBuildItem> generatedClasses, LiveReloadBuildItem liveReload) {
+        // The framework classes are only generated once in the dev mode, i.e. we need to keep the sizes between restarts
+        GeneratedClassSizes sizes = liveReload.getContextObject(GeneratedClassSizes.class);
+        if (sizes == null) {
+            sizes = new GeneratedClassSizes();
+            liveReload.setContextObject(GeneratedClassSizes.class, sizes);
+        }
+        Map<BeanInfo, List<String>> generatedClassNames = validationPhase.getBeanProcessor().getGeneratedClassNames();
+        Set<String> ownerNames = new HashSet<>();
+        for (List<String> names : generatedClassNames.values()) {
+            ownerNames.addAll(names);
+        }
+        Map<String, Integer> currentSizes = new HashMap<>();
+        for (GeneratedClassBuildItem generatedClass : generatedClasses) {
+            String owner = findOwner(generatedClass.getName(), ownerNames);
+            if (owner != null) {
+                currentSizes.merge(owner, generatedClass.getClassData().length, Integer::sum);
+            }
+        }
+        sizes.sizes.putAll(currentSizes);
+
+        ValidationContext context = validationPhase.getContext();
+        BeanResolver beanResolver = validationPhase.getBeanResolver();
+        Map<BeanInfo, Integer> injected = new HashMap<>();
+        Set<BeanInfo> lookedUp = new HashSet<>();
+        for (InjectionPointInfo injectionPoint : context.get(BuildExtension.Key.INJECTION_POINTS)) {
+            if (injectionPoint.isDelegate()) {
+                continue;
+            }
+            if (injectionPoint.isProgrammaticLookup()) {
+                Type requiredType = injectionPoint.getType().asParameterizedType().arguments().get(0);
+                lookedUp.addAll(beanResolver.resolveBeans(requiredType, injectionPoint.getRequiredQualifiers()));
+            } else if (injectionPoint.hasResolvedBean()) {
+                injected.merge(injectionPoint.getResolvedBean(), 1, Integer::sum);
+            }
+        }
+        Set<BeanInfo> declaresObserver = new HashSet<>();
+        for (ObserverInfo observer : context.get(BuildExtension.Key.OBSERVERS)) {
+            if (observer.getDeclaringBean() != null) {
+                declaresObserver.add(observer.getDeclaringBean());
+            }
+        }
+        Set<BeanInfo> declaresProducer = new HashSet<>();
+        Set<BeanInfo> bound = new HashSet<>();
+        for (BeanInfo bean : context.get(BuildExtension.Key.BEANS)) {
+            if (bean.getDeclaringBean() != null) {
+                declaresProducer.add(bean.getDeclaringBean());
+            }
+            bound.addAll(bean.getBoundInterceptors());
+            bound.addAll(bean.getBoundDecorators());
+        }
+
+        List<BeanInfo> allComponents = new ArrayList<>(context.get(BuildExtension.Key.BEANS));
+        allComponents.addAll(context.get(BuildExtension.Key.INTERCEPTORS));
+        allComponents.addAll(context.get(BuildExtension.Key.DECORATORS));
+        List<Component> components = new ArrayList<>(allComponents.size());
+        for (BeanInfo bean : allComponents) {
+            List<GeneratedClass> beanClasses = new ArrayList<>();
+            for (String name : generatedClassNames.getOrDefault(bean, List.of())) {
+                beanClasses.add(new GeneratedClass(name.replace('/', '.'), sizes.sizes.getOrDefault(name, -1)));
+            }
+            List<String> reachability = new ArrayList<>();
+            if (!bean.isRemovable()) {
+                reachability.add("unremovable");
+            }
+            if (bean.getName() != null) {
+                reachability.add("named");
+            }
+            if (injected.containsKey(bean)) {
+                reachability.add("injected");
+            }
+            if (lookedUp.contains(bean)) {
+                reachability.add("programmatic lookup");
+            }
+            if (declaresObserver.contains(bean)) {
+                reachability.add("declares observer");
+            }
+            if (declaresProducer.contains(bean)) {
+                reachability.add("declares producer");
+            }
+            if (bound.contains(bean)) {
+                reachability.add("bound");
+            }
+            if (reachability.isEmpty()) {
+                reachability.add("excluded");
+            }
+            components.add(new Component(bean.getIdentifier(), kind(bean), bean.getProviderType().name().toString(),
+                    bean.getScope().getDotName().toString(), beanClasses, injected.getOrDefault(bean, 0), reachability));
+        }
+        components.sort(Comparator.comparingLong(Component::getTotalSize).reversed());
+
+        List<String> removedBeans = new ArrayList<>();
+        for (BeanInfo removed : context.removedBeans()) {
+            removedBeans.add(removed.toString());
+        }
+        Collections.sort(removedBeans);
+        return new BeanReportBuildItem(components, removedBeans);
+    }
+
+    @BuildStep
+    void writeBeanReport(ArcConfig config, Optional<BeanReportBuildItem> beanReport,
+            BuildProducer<GeneratedFileSystemResourceBuildItem> generatedResources) {
+        if (!config.beanReport || beanReport.isEmpty()) {
+            return;
+        }
+        BeanReportBuildItem report = beanReport.get();
+        JsonArray components = new JsonArray();
+        for (Component component : report.getComponents()) {
+            JsonArray generatedClasses = new JsonArray();
+            for (GeneratedClass generatedClass : component.getGeneratedClasses()) {
+                generatedClasses.add(new JsonObject()
+                        .put("name", generatedClass.getName())
+                        .put("size", generatedClass.getSize()));
+            }
+            components.add(new JsonObject()
+                    .put("id", component.getId())
+                    .put("kind", component.getKind())
+                    .put("providerType", component.getProviderType())
+                    .put("scope", component.getScope())
+                    .put("totalSize", component.getTotalSize())
+                    .put("generatedClasses", generatedClasses)
+                    .put("injectionPoints", component.getInjectionPoints())
+                    .put("reachability", new JsonArray(component.getReachability())));
+        }
+        JsonObject json = new JsonObject()
+                .put("totalSize", report.getTotalSize())
+                .put("components", components)
+                .put("removedBeans", new JsonArray(report.getRemovedBeans()));
+        generatedResources.produce(new GeneratedFileSystemResourceBuildItem(REPORT_FILE,
+                json.encodePrettily().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String findOwner(String name, Set<String> ownerNames) {
+        // Nested classes, e.g. com/foo/MyBean_Bean$1, are attributed to the top-level generated class
+        String current = name;
+        while (!ownerNames.contains(current)) {
+            int idx = current.lastIndexOf('$');
+            if (idx == -1) {
+                return null;
+            }
+            current = current.substring(0, idx);
+        }
+        return current;
+    }
+
+    private static String kind(BeanInfo bean) {
+        if (bean instanceof InterceptorInfo) {
+            return "INTERCEPTOR";
+        } else if (bean instanceof DecoratorInfo) {
+            return "DECORATOR";
+        } else if (bean.isProducerMethod()) {
+            return "PRODUCER_METHOD";
+        } else if (bean.isProducerField()) {
+            return "PRODUCER_FIELD";
+        } else if (bean.isSynthetic()) {
+            return "SYNTHETIC";
+        }
+        return "CLASS";
+    }
+
+    static final class BeanReportEnabled implements BooleanSupplier {
+
+        private final LaunchMode launchMode;
+        private final ArcConfig config;
+
+        BeanReportEnabled(LaunchMode launchMode, ArcConfig config) {
+            this.launchMode = launchMode;
+            this.config = config;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            // The report is also displayed in the Dev UI
+            return config.beanReport || launchMode == LaunchMode.DEVELOPMENT;
+        }
+
+    }
+
+    static final class GeneratedClassSizes {
+
+        final Map<String, Integer> sizes = new HashMap<>();
+
+    }
+
+}
@@ -3,7 +3,15 @@
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
@@ -28,11 +36,15 @@
 import io.quarkus.arc.processor.BuildExtension;
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.DotNames;
+import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.arc.processor.ObserverConfigurator;
+import io.quarkus.arc.runtime.ParallelStartup;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.Startup;
 import io.quarkus.runtime.StartupEvent;
 
@@ -52,6 +64,9 @@ public class StartupBuildSteps {
             "create", Object.class, CreationalContext.class);
     static final MethodDescriptor CONTEXTUAL_DESTROY = MethodDescriptor.ofMethod(Contextual.class,
             "destroy", void.class, Object.class, CreationalContext.class);
+    static final MethodDescriptor PARALLEL_STARTUP_ADD = MethodDescriptor.ofMethod(ParallelStartup.class, "add", void.class,
+            String.class, String.class, int[].class);
+    static final MethodDescriptor PARALLEL_STARTUP_RUN = MethodDescriptor.ofMethod(ParallelStartup.class, "run", void.class);
 
     @BuildStep
     AutoAddScopeBuildItem addScope(CustomScopeAnnotationsBuildItem customScopes) {
@@ -70,10 +85,15 @@ UnremovableBeanBuildItem unremovableBeans() {
     }
 
     @BuildStep
-    void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistration,
-            BuildProducer<ObserverConfiguratorBuildItem> configurators) {
+    void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistration, ArcConfig config,
+            LaunchModeBuildItem launchMode, BuildProducer<ObserverConfiguratorBuildItem> configurators) {
 
         AnnotationStore annotationStore = observerRegistration.getContext().get(BuildExtension.Key.ANNOTATION_STORE);
+        // The observers of application beans may be mocked in the test mode; they must not be grouped
+        boolean parallelStartup = config.parallelStartup
+                && (launchMode.getLaunchMode() != LaunchMode.TEST || !config.test.disableApplicationLifecycleObservers);
+        // priority -> bean -> id
+        Map<Integer, Map<BeanInfo, String>> parallelStartupBeans = new TreeMap<>();
 
         for (BeanInfo bean : observerRegistration.getContext().beans().withTarget()) {
             // First check if the target is annotated with @Startup
@@ -90,8 +110,12 @@ void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistr
                     id = target.asClass().name().toString();
                 }
                 AnnotationValue priority = startupAnnotation.value();
-                registerStartupObserver(observerRegistration, bean, id,
-                        priority != null ? priority.asInt() : ObserverMethod.DEFAULT_PRIORITY, null);
+                int priorityValue = priority != null ? priority.asInt() : ObserverMethod.DEFAULT_PRIORITY;
+                if (parallelStartup && isParallelStartupSupported(bean)) {
+                    parallelStartupBeans.computeIfAbsent(priorityValue, p -> new LinkedHashMap<>()).put(bean, id);
+                } else {
+                    registerStartupObserver(observerRegistration, bean, id, priorityValue, null);
+                }
             }
 
             List<MethodInfo> startupMethods = Collections.emptyList();
@@ -117,6 +141,95 @@ void registerStartupObservers(ObserverRegistrationPhaseBuildItem observerRegistr
                 }
             }
         }
+
+        for (Entry<Integer, Map<BeanInfo, String>> entry : parallelStartupBeans.entrySet()) {
+            // A single observer is registered for all startup beans with the same priority
+            registerParallelStartupObserver(observerRegistration, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static boolean isParallelStartupSupported(BeanInfo bean) {
+        // The request context is not active on the threads used to initialize the beans
+        return BuiltinScope.APPLICATION.is(bean.getScope()) || BuiltinScope.SINGLETON.is(bean.getScope())
+                || BuiltinScope.DEPENDENT.is(bean.getScope());
+    }
+
+    private void registerParallelStartupObserver(ObserverRegistrationPhaseBuildItem observerRegistration, int priority,
+            Map<BeanInfo, String> beans) {
+        // A startup bean depends on all startup beans reachable through its injection points
+        Map<BeanInfo, Set<BeanInfo>> dependencies = new HashMap<>();
+        for (BeanInfo bean : beans.keySet()) {
+            Set<BeanInfo> found = new HashSet<>();
+            collectStartupDependencies(bean, beans.keySet(), new HashSet<>(), found);
+            found.remove(bean);
+            dependencies.put(bean, found);
+        }
+
+        // Sort the beans so that each bean is preceded by its dependencies
+        Map<BeanInfo, Integer> indexes = new LinkedHashMap<>();
+        List<BeanInfo> remaining = new ArrayList<>(beans.keySet());
+        while (!remaining.isEmpty()) {
+            boolean added = false;
+            for (Iterator<BeanInfo> it = remaining.iterator(); it.hasNext();) {
+                BeanInfo bean = it.next();
+                if (indexes.keySet().containsAll(dependencies.get(bean))) {
+                    indexes.put(bean, indexes.size());
+                    it.remove();
+                    added = true;
+                }
+            }
+            if (!added) {
+                // Dependency cycle - the first remaining bean only waits for the beans that are already sorted
+                BeanInfo bean = remaining.remove(0);
+                dependencies.get(bean).retainAll(indexes.keySet());
+                indexes.put(bean, indexes.size());
+            }
+        }
+
+        ObserverConfigurator configurator = observerRegistration.getContext().configure()
+                .beanClass(DotName.createSimple(ParallelStartup.class.getName()))
+                .observedType(StartupEvent.class);
+        configurator.id(ParallelStartup.class.getName() + "#" + priority);
+        configurator.priority(priority);
+        configurator.notify(mc -> {
+            // ParallelStartup startup = new ParallelStartup();
+            // startup.add("bflmpsvz", "org.acme.Foo", new int[] { 0, 1 });
+            // startup.run();
+            ResultHandle startupHandle = mc.newInstance(MethodDescriptor.ofConstructor(ParallelStartup.class));
+            for (BeanInfo bean : indexes.keySet()) {
+                Set<BeanInfo> beanDependencies = dependencies.get(bean);
+                ResultHandle dependenciesHandle = mc.newArray(int.class, beanDependencies.size());
+                int idx = 0;
+                for (BeanInfo dependency : beanDependencies) {
+                    mc.writeArrayValue(dependenciesHandle, idx++, mc.load(indexes.get(dependency)));
+                }
+                mc.invokeVirtualMethod(PARALLEL_STARTUP_ADD, startupHandle, mc.load(bean.getIdentifier()),
+                        mc.load(beans.get(bean)), dependenciesHandle);
+            }
+            mc.invokeVirtualMethod(PARALLEL_STARTUP_RUN, startupHandle);
+            mc.returnValue(null);
+        });
+        configurator.done();
+    }
+
+    private static void collectStartupDependencies(BeanInfo bean, Set<BeanInfo> startupBeans, Set<BeanInfo> visited,
+            Set<BeanInfo> found) {
+        if (!visited.add(bean)) {
+            return;
+        }
+        if (startupBeans.contains(bean)) {
+            found.add(bean);
+        }
+        for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+            BeanInfo resolved = injectionPoint.getResolvedBean();
+            if (resolved != null) {
+                collectStartupDependencies(resolved, startupBeans, visited, found);
+            }
+        }
+        if (bean.getDeclaringBean() != null) {
+            // Producer method/field
+            collectStartupDependencies(bean.getDeclaringBean(), startupBeans, visited, found);
+        }
     }
 
     private void registerStartupObserver(ObserverRegistrationPhaseBuildItem observerRegistration, BeanInfo bean, String id,
@@ -17,6 +17,7 @@
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.ArcConfig;
 import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
+import io.quarkus.arc.deployment.BeanReportBuildItem;
 import io.quarkus.arc.deployment.CompletedApplicationClassPredicateBuildItem;
 import io.quarkus.arc.deployment.CustomScopeAnnotationsBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
@@ -216,6 +217,11 @@ public void handle(Void ignore) {
         }));
     }
 
+    @BuildStep(onlyIf = IsDevelopment.class)
+    public DevConsoleTemplateInfoBuildItem collectBeanReport(BeanReportBuildItem beanReport) {
+        return new DevConsoleTemplateInfoBuildItem("beanReport", beanReport);
+    }
+
     static final String BEAN_DESCRIPTION = "io.quarkus.arc.beanDescription";
     static final String MAX_DEPENDENCY_LEVEL = "io.quarkus.arc.maxDependencyLevel";
     public static final String BEAN_DEPENDENCIES = "io.quarkus.arc.beanDependencies";
@@ -0,0 +1,105 @@
+package io.quarkus.arc.test.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.Startup;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ParallelStartupTest {
+
+    static final List<String> LOG = new CopyOnWriteArrayList<String>();
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Database.class, Repository.class, Cache.class, Helper.class, Late.class))
+            .overrideConfigKey("quarkus.arc.parallel-startup", "true");
+
+    @Test
+    public void testStartup() {
+        assertEquals(4, LOG.size(), "Unexpected number of log messages: " + LOG);
+        // Repository depends on Database through Helper
+        assertTrue(LOG.indexOf("database") < LOG.indexOf("repository"), LOG.toString());
+        // Late has a lower priority
+        assertEquals("late", LOG.get(3));
+        assertTrue(LOG.contains("cache"), LOG.toString());
+    }
+
+    @Startup
+    @ApplicationScoped
+    static class Database {
+
+        @PostConstruct
+        void init() throws InterruptedException {
+            Thread.sleep(50);
+            LOG.add("database");
+        }
+
+        void ping() {
+        }
+
+    }
+
+    @Startup
+    @Singleton
+    static class Repository {
+
+        @Inject
+        Helper helper;
+
+        @PostConstruct
+        void init() {
+            helper.ping();
+            LOG.add("repository");
+        }
+
+    }
+
+    @Dependent
+    static class Helper {
+
+        @Inject
+        Database database;
+
+        void ping() {
+            database.ping();
+        }
+
+    }
+
+    @Startup
+    @ApplicationScoped
+    static class Cache {
+
+        @PostConstruct
+        void init() {
+            LOG.add("cache");
+        }
+
+    }
+
+    @Startup(Integer.MAX_VALUE)
+    @Singleton
+    static class Late {
+
+        @PostConstruct
+        void init() {
+            LOG.add("late");
+        }
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.quarkus.arc.runtime;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -7,6 +8,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -54,6 +56,32 @@ public void initExecutor(ExecutorService executor) {
         Arc.setExecutor(executor);
     }
 
+    public void initVirtualThreadsAsyncObserverExecutor(ShutdownContext shutdown) {
+        ExecutorService executor;
+        try {
+            // Executors.newVirtualThreadPerTaskExecutor() is not available in Java 11
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            LOG.warn("Virtual threads are not supported by the current JVM - async observers are notified with the "
+                    + "default executor");
+            return;
+        } catch (InvocationTargetException e) {
+            // UnsupportedOperationException is thrown if preview features are not enabled
+            LOG.warnf("Unable to create a virtual thread executor - async observers are notified with the default "
+                    + "executor: %s", e.getCause());
+            return;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        Arc.setAsyncObserverExecutor(executor);
+        shutdown.addLastShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                executor.shutdown();
+            }
+        });
+    }
+
     public void initStaticSupplierBeans(Map<String, Supplier<?>> beans) {
         supplierMap = new ConcurrentHashMap<>(beans);
     }
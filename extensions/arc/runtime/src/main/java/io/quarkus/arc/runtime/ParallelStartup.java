@@ -0,0 +1,151 @@
+package io.quarkus.arc.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.Dependent;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * Initializes a group of {@link io.quarkus.runtime.Startup} beans concurrently.
+ * <p>
+ * The beans must be added in topological order, i.e. a bean can only depend on the beans added before. A bean is
+ * initialized once all its dependencies are initialized.
+ * <p>
+ * This construct is not thread-safe and should only be used by the generated startup observers.
+ */
+public final class ParallelStartup {
+
+    private static final Logger LOG = Logger.getLogger(ParallelStartup.class);
+
+    private final List<StartupBean> beans = new ArrayList<>();
+
+    /**
+     *
+     * @param identifier the bean identifier
+     * @param name the name used in the startup report
+     * @param dependencies the indexes of the beans this bean depends on
+     */
+    public void add(String identifier, String name, int... dependencies) {
+        for (int dependency : dependencies) {
+            if (dependency < 0 || dependency >= beans.size()) {
+                throw new IllegalArgumentException("Invalid dependency of " + name + ": " + dependency);
+            }
+        }
+        beans.add(new StartupBean(identifier, name, dependencies));
+    }
+
+    /**
+     * Initializes the beans and waits for the initialization to finish.
+     */
+    public void run() {
+        ArcContainer container = Arc.container();
+        ExecutorService executor = container.getExecutorService();
+        // The beans should be initialized with the class loader of the application
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        long start = System.nanoTime();
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[beans.size()];
+        for (int i = 0; i < futures.length; i++) {
+            StartupBean bean = beans.get(i);
+            Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                    Thread thread = Thread.currentThread();
+                    ClassLoader old = thread.getContextClassLoader();
+                    thread.setContextClassLoader(classLoader);
+                    bean.start = System.nanoTime() - start;
+                    try {
+                        initialize(container, bean);
+                    } finally {
+                        bean.duration = System.nanoTime() - start - bean.start;
+                        thread.setContextClassLoader(old);
+                    }
+                }
+            };
+            if (bean.dependencies.length == 0) {
+                futures[i] = CompletableFuture.runAsync(task, executor);
+            } else {
+                CompletableFuture<?>[] dependencies = new CompletableFuture<?>[bean.dependencies.length];
+                for (int j = 0; j < dependencies.length; j++) {
+                    dependencies[j] = futures[bean.dependencies[j]];
+                }
+                futures[i] = CompletableFuture.allOf(dependencies).thenRunAsync(task, executor);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            // Completion of the futures happens-before join() returns
+            StartupBean[] sorted = beans.toArray(new StartupBean[0]);
+            Arrays.sort(sorted, Comparator.comparingLong(b -> b.start));
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("Parallel startup of %s beans finished in %s ms:", sorted.length,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+            for (StartupBean bean : sorted) {
+                report.append(String.format("%n\t+%5d ms %5d ms %s", TimeUnit.NANOSECONDS.toMillis(bean.start),
+                        TimeUnit.NANOSECONDS.toMillis(bean.duration), bean.name));
+            }
+            LOG.debug(report);
+        }
+    }
+
+    private static void initialize(ArcContainer container, StartupBean startupBean) {
+        InjectableBean<?> bean = container.bean(startupBean.identifier);
+        if (bean == null) {
+            throw new IllegalStateException("Startup bean not found: " + startupBean.name);
+        }
+        InstanceHandle<?> handle = container.instance(bean);
+        Object instance = handle.get();
+        if (Dependent.class.equals(bean.getScope())) {
+            // The contextual instance is destroyed immediately for dependent beans
+            handle.destroy();
+        } else if (instance instanceof ClientProxy) {
+            // We need to unwrap the client proxy in order to create the contextual instance
+            ((ClientProxy) instance).arc_contextualInstance();
+        }
+    }
+
+    private static final class StartupBean {
+
+        private final String identifier;
+        private final String name;
+        private final int[] dependencies;
+
+        // written by the task, read after all tasks finished
+        private long start;
+        private long duration;
+
+        StartupBean(String identifier, String name, int[] dependencies) {
+            this.identifier = identifier;
+            this.name = name;
+            this.dependencies = dependencies;
+        }
+
+    }
+
+}
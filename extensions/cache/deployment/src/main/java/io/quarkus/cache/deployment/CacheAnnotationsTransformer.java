@@ -5,9 +5,11 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_PARAMETER_POSITIONS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_ALL;
 import static org.jboss.jandex.AnnotationInstance.create;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 import static org.jboss.jandex.AnnotationValue.createArrayValue;
+import static org.jboss.jandex.AnnotationValue.createClassValue;
 import static org.jboss.jandex.AnnotationValue.createShortValue;
 
 import java.util.ArrayList;
@@ -16,7 +18,9 @@
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget.Kind;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 import io.quarkus.arc.processor.AnnotationsTransformer;
 
@@ -30,23 +34,32 @@ public boolean appliesTo(Kind kind) {
     @Override
     public void transform(TransformationContext context) {
         MethodInfo method = context.getTarget().asMethod();
+        List<AnnotationValue> values = new ArrayList<>();
         if (requiresCacheKeyParameterPositionsInterceptorBinding(method)) {
             List<AnnotationValue> positions = new ArrayList<>();
             for (AnnotationInstance annotation : method.annotations(CACHE_KEY)) {
                 positions.add(createShortValue("", annotation.target().asMethodParameter().position()));
             }
             if (!positions.isEmpty()) {
-                AnnotationValue annotationValue = createArrayValue("value", toArray(positions));
-                AnnotationInstance binding = create(CACHE_KEY_PARAMETER_POSITIONS, method,
-                        new AnnotationValue[] { annotationValue });
-                context.transform().add(binding).done();
+                values.add(createArrayValue("value", toArray(positions)));
             }
         }
+        if (CacheKeyClassGenerator.getKeyElementPositions(method) != null) {
+            // The key factory class is generated by CacheProcessor#generateCacheKeyClasses.
+            Type keyFactory = Type.create(DotName.createSimple(CacheKeyClassGenerator.getKeyFactoryClassName(method)),
+                    Type.Kind.CLASS);
+            values.add(createClassValue("keyFactory", keyFactory));
+        }
+        if (!values.isEmpty()) {
+            AnnotationInstance binding = create(CACHE_KEY_PARAMETER_POSITIONS, method, toArray(values));
+            context.transform().add(binding).done();
+        }
     }
 
     private boolean requiresCacheKeyParameterPositionsInterceptorBinding(MethodInfo method) {
         return method.hasAnnotation(CACHE_KEY) && (method.hasAnnotation(CACHE_INVALIDATE)
-                || method.hasAnnotation(CACHE_INVALIDATE_LIST) || method.hasAnnotation(CACHE_RESULT));
+                || method.hasAnnotation(CACHE_INVALIDATE_LIST) || method.hasAnnotation(CACHE_RESULT)
+                || method.hasAnnotation(CACHE_RESULT_ALL));
     }
 
     private AnnotationValue[] toArray(List<AnnotationValue> parameters) {
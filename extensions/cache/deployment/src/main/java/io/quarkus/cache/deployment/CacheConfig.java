@@ -31,6 +31,11 @@ public class CacheConfig {
      */
     CaffeineConfig caffeine;
 
+    /**
+     * Redis configuration.
+     */
+    RedisConfig redis;
+
     @ConfigGroup
     public static class CaffeineConfig {
 
@@ -74,6 +79,16 @@ public static class CaffeineNamespaceConfig {
             @ConfigItem
             Optional<Duration> expireAfterAccess;
 
+            /**
+             * Specifies that each entry used by a {@code @CacheResult} method should be reloaded in the background once a
+             * fixed duration has elapsed after the entry's creation, or the most recent replacement of its value. The current
+             * value is still returned while it is reloaded, so the callers don't wait for the cache value computation. It is
+             * usually combined with a longer {@code expire-after-write} delay which removes the entries that are not used
+             * anymore.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -81,4 +96,56 @@ public static class CaffeineNamespaceConfig {
             boolean metricsEnabled;
         }
     }
+
+    @ConfigGroup
+    public static class RedisConfig {
+
+        /**
+         * Namespace configuration.
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        @ConfigDocMapKey("cache-name")
+        Map<String, RedisNamespaceConfig> namespace;
+
+        @ConfigGroup
+        public static class RedisNamespaceConfig {
+
+            /**
+             * The prefix of the Redis keys of the cache entries, the cache key is appended to it after a colon. Defaults to
+             * {@code cache:<cache-name>}. Several applications can share the same cache entries by using the same prefix.
+             */
+            @ConfigItem
+            Optional<String> keyPrefix;
+
+            /**
+             * Specifies that each entry should be automatically removed from Redis once a fixed duration has elapsed after
+             * the entry's creation, or the most recent replacement of its value. The entries never expire by default.
+             */
+            @ConfigItem
+            Optional<Duration> expireAfterWrite;
+
+            /**
+             * The fully qualified name of the type of the cached values, the values are encoded with the default Redis
+             * codec of this type. If not set, the type is inferred from the return type of the {@code @CacheResult} methods
+             * using the cache. It must be set if the cache is only used programmatically.
+             */
+            @ConfigItem
+            Optional<String> valueType;
+
+            /**
+             * The fully qualified name of a {@code io.quarkus.redis.datasource.codecs.Codec} implementation used to encode
+             * the cached values. The class must have a public no-args constructor. If set, {@code value-type} is ignored.
+             */
+            @ConfigItem
+            Optional<String> valueCodec;
+
+            /**
+             * Whether or not a Caffeine near cache is used in front of Redis. The near cache is configured with the
+             * {@code quarkus.cache.caffeine."cache-name".*} properties, including the metrics. The invalidations are published
+             * on a Redis channel so that the other application instances evict the invalidated entries from their near cache.
+             */
+            @ConfigItem
+            boolean nearCache;
+        }
+    }
 }
@@ -0,0 +1,310 @@
+package io.quarkus.cache.deployment;
+
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.runtime.CacheKeyFactory;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Generates a {@link CompositeCacheKey} subclass and a {@link CacheKeyFactory} for each method annotated with
+ * {@code @CacheResult} or {@code @CacheInvalidate} whose cache key is composed of several arguments. The key elements are
+ * stored in typed fields, so the primitive arguments are not boxed, and the hash code is computed once.
+ * <p>
+ * The generated keys must remain equal to the {@link CompositeCacheKey} built from the same key elements, because an entry
+ * can be invalidated by another method or accessed with the programmatic API. The hash code is therefore the one of
+ * {@link java.util.Arrays#deepHashCode(Object[])} and a key is only compared field by field with a key of the same class.
+ */
+public class CacheKeyClassGenerator {
+
+    private static final String KEY_CLASS_SUFFIX = "_CacheKey";
+    private static final String KEY_FACTORY_CLASS_SUFFIX = "_CacheKeyFactory";
+    private static final String HASH_CODE_FIELD = "hashCode";
+
+    // The types of the key elements which may hold an array and require Arrays.deepEquals.
+    private static final List<DotName> UNSUPPORTED_TYPES = List.of(DotName.createSimple(Object.class.getName()),
+            DotName.createSimple(Serializable.class.getName()), DotName.createSimple(Cloneable.class.getName()));
+
+    /**
+     * Returns the positions of the arguments composing the cache key of the given method, in the order used by
+     * {@code CacheInterceptor}, or {@code null} if no key class can be generated for that method.
+     */
+    static List<Short> getKeyElementPositions(MethodInfo method) {
+        if (!method.hasAnnotation(CACHE_RESULT) && !method.hasAnnotation(CACHE_INVALIDATE)
+                && !method.hasAnnotation(CACHE_INVALIDATE_LIST)) {
+            return null;
+        }
+        List<Short> positions = new ArrayList<>();
+        for (AnnotationInstance annotation : method.annotations(CACHE_KEY)) {
+            positions.add(annotation.target().asMethodParameter().position());
+        }
+        if (positions.isEmpty()) {
+            for (short i = 0; i < method.parametersCount(); i++) {
+                positions.add(i);
+            }
+        }
+        // A single argument is used as is, there's no composite key.
+        if (positions.size() < 2) {
+            return null;
+        }
+        for (short position : positions) {
+            Type type = method.parameterType(position);
+            if (type.kind() != Type.Kind.PRIMITIVE
+                    && ((type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE)
+                            || UNSUPPORTED_TYPES.contains(type.name()))) {
+                return null;
+            }
+        }
+        return positions;
+    }
+
+    static String getKeyFactoryClassName(MethodInfo method) {
+        return getClassNamePrefix(method) + KEY_FACTORY_CLASS_SUFFIX;
+    }
+
+    private static String getClassNamePrefix(MethodInfo method) {
+        // The parameter types are part of the hash because of the overloaded methods.
+        StringBuilder signature = new StringBuilder(method.name());
+        for (Type parameterType : method.parameterTypes()) {
+            signature.append(',').append(parameterType.name());
+        }
+        return method.declaringClass().name().toString() + "_" + method.name() + "_"
+                + HashUtil.sha1(signature.toString());
+    }
+
+    /**
+     * Generates the key class and the key factory of the given method.
+     *
+     * @return the name of the key factory class
+     */
+    static String generate(ClassOutput classOutput, MethodInfo method, List<Short> positions) {
+        String keyClassName = getClassNamePrefix(method) + KEY_CLASS_SUFFIX;
+        List<Type> types = new ArrayList<>();
+        for (short position : positions) {
+            types.add(method.parameterType(position));
+        }
+        generateKeyClass(classOutput, keyClassName, types);
+        String factoryClassName = getKeyFactoryClassName(method);
+        generateKeyFactoryClass(classOutput, factoryClassName, keyClassName, positions, types);
+        return factoryClassName;
+    }
+
+    private static void generateKeyClass(ClassOutput classOutput, String keyClassName, List<Type> types) {
+        try (ClassCreator keyClass = ClassCreator.builder().classOutput(classOutput).className(keyClassName)
+                .superClass(CompositeCacheKey.class).setFinal(true).build()) {
+
+            FieldDescriptor[] fields = new FieldDescriptor[types.size()];
+            for (int i = 0; i < types.size(); i++) {
+                fields[i] = keyClass.getFieldCreator("element" + i, descriptorType(types.get(i)))
+                        .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+            }
+            FieldDescriptor hashCodeField = keyClass.getFieldCreator(HASH_CODE_FIELD, int.class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+
+            // The constructor stores the key elements and computes the hash code like Arrays.deepHashCode.
+            Object[] constructorParameters = new Object[types.size()];
+            for (int i = 0; i < types.size(); i++) {
+                constructorParameters[i] = descriptorType(types.get(i));
+            }
+            MethodCreator constructor = keyClass.getMethodCreator(MethodDescriptor.ofConstructor(keyClassName,
+                    constructorParameters));
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(CompositeCacheKey.class), constructor.getThis());
+            ResultHandle hashCode = constructor.load(1);
+            for (int i = 0; i < types.size(); i++) {
+                ResultHandle element = constructor.getMethodParam(i);
+                constructor.writeInstanceField(fields[i], constructor.getThis(), element);
+                hashCode = constructor.add(constructor.multiply(hashCode, constructor.load(31)),
+                        elementHashCode(constructor, types.get(i), element));
+            }
+            constructor.writeInstanceField(hashCodeField, constructor.getThis(), hashCode);
+            constructor.returnValue(null);
+
+            MethodCreator hashCodeMethod = keyClass.getMethodCreator("hashCode", int.class);
+            hashCodeMethod.returnValue(hashCodeMethod.readInstanceField(hashCodeField, hashCodeMethod.getThis()));
+
+            MethodCreator equals = keyClass.getMethodCreator("equals", boolean.class, Object.class);
+            ResultHandle other = equals.getMethodParam(0);
+            equals.ifReferencesEqual(equals.getThis(), other).trueBranch().returnValue(equals.load(true));
+            // The keys of other classes are compared with the key elements.
+            BytecodeCreator otherClass = equals.ifFalse(equals.instanceOf(other, keyClassName)).trueBranch();
+            otherClass.returnValue(otherClass.invokeSpecialMethod(
+                    MethodDescriptor.ofMethod(CompositeCacheKey.class, "equals", boolean.class, Object.class),
+                    otherClass.getThis(), other));
+            ResultHandle otherKey = equals.checkCast(other, keyClassName);
+            equals.ifIntegerEqual(equals.readInstanceField(hashCodeField, equals.getThis()),
+                    equals.readInstanceField(hashCodeField, otherKey)).falseBranch().returnValue(equals.load(false));
+            for (int i = 0; i < types.size(); i++) {
+                returnFalseIfNotEqual(equals, types.get(i), equals.readInstanceField(fields[i], equals.getThis()),
+                        equals.readInstanceField(fields[i], otherKey));
+            }
+            equals.returnValue(equals.load(true));
+
+            MethodCreator getKeyElements = keyClass.getMethodCreator("getKeyElements", Object[].class)
+                    .setModifiers(ACC_PROTECTED);
+            ResultHandle elements = getKeyElements.newArray(Object.class, types.size());
+            for (int i = 0; i < types.size(); i++) {
+                getKeyElements.writeArrayValue(elements, i, box(getKeyElements, types.get(i),
+                        getKeyElements.readInstanceField(fields[i], getKeyElements.getThis())));
+            }
+            getKeyElements.returnValue(elements);
+        }
+    }
+
+    private static void generateKeyFactoryClass(ClassOutput classOutput, String factoryClassName, String keyClassName,
+            List<Short> positions, List<Type> types) {
+        try (ClassCreator factoryClass = ClassCreator.builder().classOutput(classOutput).className(factoryClassName)
+                .interfaces(CacheKeyFactory.class).setFinal(true).build()) {
+
+            MethodCreator create = factoryClass.getMethodCreator("create", Object.class, Object[].class);
+            ResultHandle methodParameterValues = create.getMethodParam(0);
+            Object[] constructorParameters = new Object[types.size()];
+            ResultHandle[] elements = new ResultHandle[types.size()];
+            for (int i = 0; i < types.size(); i++) {
+                constructorParameters[i] = descriptorType(types.get(i));
+                elements[i] = unbox(create, types.get(i), create.readArrayValue(methodParameterValues, positions.get(i)));
+            }
+            create.returnValue(create.newInstance(MethodDescriptor.ofConstructor(keyClassName, constructorParameters),
+                    elements));
+        }
+    }
+
+    private static ResultHandle elementHashCode(BytecodeCreator bytecode, Type type, ResultHandle element) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            Class<?> primitive = primitiveClass(type);
+            return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(boxedClass(primitive), "hashCode", int.class,
+                    primitive), element);
+        }
+        return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(Objects.class, "hashCode", int.class, Object.class),
+                element);
+    }
+
+    /*
+     * The primitive elements are compared like their boxed values are compared by Arrays.deepEquals.
+     */
+    private static void returnFalseIfNotEqual(BytecodeCreator bytecode, Type type, ResultHandle element,
+            ResultHandle otherElement) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            ResultHandle equal = bytecode.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(Objects.class, "equals", boolean.class, Object.class, Object.class), element,
+                    otherElement);
+            bytecode.ifFalse(equal).trueBranch().returnValue(bytecode.load(false));
+            return;
+        }
+        switch (type.asPrimitiveType().primitive()) {
+            case LONG:
+                bytecode.ifNonZero(bytecode.compareLong(element, otherElement)).trueBranch()
+                        .returnValue(bytecode.load(false));
+                break;
+            case FLOAT:
+                MethodDescriptor floatToIntBits = MethodDescriptor.ofMethod(Float.class, "floatToIntBits", int.class,
+                        float.class);
+                bytecode.ifIntegerEqual(bytecode.invokeStaticMethod(floatToIntBits, element),
+                        bytecode.invokeStaticMethod(floatToIntBits, otherElement)).falseBranch()
+                        .returnValue(bytecode.load(false));
+                break;
+            case DOUBLE:
+                MethodDescriptor doubleToLongBits = MethodDescriptor.ofMethod(Double.class, "doubleToLongBits", long.class,
+                        double.class);
+                bytecode.ifNonZero(bytecode.compareLong(bytecode.invokeStaticMethod(doubleToLongBits, element),
+                        bytecode.invokeStaticMethod(doubleToLongBits, otherElement))).trueBranch()
+                        .returnValue(bytecode.load(false));
+                break;
+            default:
+                // boolean, byte, char, short and int values are all compared as int values.
+                bytecode.ifIntegerEqual(element, otherElement).falseBranch().returnValue(bytecode.load(false));
+                break;
+        }
+    }
+
+    private static ResultHandle box(BytecodeCreator bytecode, Type type, ResultHandle element) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return element;
+        }
+        Class<?> primitive = primitiveClass(type);
+        Class<?> boxed = boxedClass(primitive);
+        return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(boxed, "valueOf", boxed, primitive), element);
+    }
+
+    private static ResultHandle unbox(BytecodeCreator bytecode, Type type, ResultHandle value) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return value;
+        }
+        Class<?> primitive = primitiveClass(type);
+        Class<?> boxed = boxedClass(primitive);
+        return bytecode.invokeVirtualMethod(MethodDescriptor.ofMethod(boxed, primitive.getName() + "Value", primitive),
+                bytecode.checkCast(value, boxed));
+    }
+
+    private static Object descriptorType(Type type) {
+        // The reference elements are stored as Object, their declared type may not be accessible from the generated class.
+        return type.kind() == Type.Kind.PRIMITIVE ? primitiveClass(type) : Object.class;
+    }
+
+    private static Class<?> primitiveClass(Type type) {
+        PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+        switch (primitive) {
+            case BOOLEAN:
+                return boolean.class;
+            case BYTE:
+                return byte.class;
+            case CHAR:
+                return char.class;
+            case DOUBLE:
+                return double.class;
+            case FLOAT:
+                return float.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case SHORT:
+                return short.class;
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type: " + primitive);
+        }
+    }
+
+    private static Class<?> boxedClass(Class<?> primitive) {
+        if (primitive == boolean.class) {
+            return Boolean.class;
+        } else if (primitive == byte.class) {
+            return Byte.class;
+        } else if (primitive == char.class) {
+            return Character.class;
+        } else if (primitive == double.class) {
+            return Double.class;
+        } else if (primitive == float.class) {
+            return Float.class;
+        } else if (primitive == int.class) {
+            return Integer.class;
+        } else if (primitive == long.class) {
+            return Long.class;
+        } else {
+            return Short.class;
+        }
+    }
+}
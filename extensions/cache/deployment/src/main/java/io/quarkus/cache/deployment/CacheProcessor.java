@@ -7,10 +7,13 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
@@ -39,6 +42,7 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.BeanDiscoveryFinishedBuildItem;
@@ -47,6 +51,8 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.deployment.exception.BulkMethodSignatureException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -61,14 +67,23 @@
 import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
 import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.cache.runtime.redis.RedisCacheBuildRecorder;
+import io.quarkus.cache.runtime.redis.RedisCacheDataSourceHolder;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.gizmo.ClassOutput;
 
 class CacheProcessor {
 
@@ -190,6 +205,8 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                } else if (CACHE_RESULT_ALL.equals(binding.name())) {
+                    validateBulkMethod(methodInfo).ifPresent(throwables::add);
                 }
                 break;
             default:
@@ -199,6 +216,27 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private Optional<Throwable> validateBulkMethod(MethodInfo methodInfo) {
+        if (!MAP.equals(methodInfo.returnType().name())) {
+            return Optional.of(new BulkMethodSignatureException(methodInfo, "it must return a " + MAP));
+        }
+        Type keysType;
+        List<AnnotationInstance> cacheKeys = methodInfo.annotations(CACHE_KEY);
+        if (methodInfo.parametersCount() == 1 && cacheKeys.size() <= 1) {
+            keysType = methodInfo.parameterType(0);
+        } else if (cacheKeys.size() == 1) {
+            keysType = methodInfo.parameterType(cacheKeys.get(0).target().asMethodParameter().position());
+        } else {
+            return Optional.of(new BulkMethodSignatureException(methodInfo,
+                    "the keys collection must be its only argument or the only argument annotated with @CacheKey"));
+        }
+        if (!BULK_KEYS_TYPES.contains(keysType.name())) {
+            return Optional.of(new BulkMethodSignatureException(methodInfo,
+                    "the keys collection must be declared as one of " + BULK_KEYS_TYPES));
+        }
+        return Optional.empty();
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -233,7 +271,8 @@ private List<Throwable> validateKeyGeneratorsDefaultConstructor(CombinedIndexBui
     @Record(STATIC_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem cacheNames, CacheConfig config,
             CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder,
-            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+            RedisCacheBuildRecorder redisRecorder, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            CombinedIndexBuildItem combinedIndex, BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
 
         Supplier<CacheManager> cacheManagerSupplier;
         if (config.enabled) {
@@ -243,6 +282,22 @@ SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem ca
                     MetricsInitializer metricsInitializer = getMetricsInitializer(metricsCapability);
                     cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplier(cacheInfos, metricsInitializer);
                     break;
+                case CacheDeploymentConstants.REDIS_CACHE_TYPE:
+                    Set<RedisCacheInfo> redisCacheInfos = RedisCacheInfoBuilder.build(cacheNames.getNames(), config,
+                            combinedIndex.getIndex());
+                    // The elements of the composite keys are read reflectively to check their toString() implementation
+                    reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, CompositeCacheKey.class));
+                    for (RedisCacheInfo cacheInfo : redisCacheInfos) {
+                        // The codecs are instantiated reflectively and the default codec of a value type may rely on Jackson.
+                        if (cacheInfo.valueCodec != null) {
+                            reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, cacheInfo.valueCodec));
+                        } else if (!cacheInfo.valueType.startsWith("java.")) {
+                            reflectiveClasses.produce(new ReflectiveClassBuildItem(true, true, cacheInfo.valueType));
+                        }
+                    }
+                    cacheManagerSupplier = redisRecorder.getCacheManagerSupplier(redisCacheInfos,
+                            getMetricsInitializer(metricsCapability));
+                    break;
                 default:
                     throw new DeploymentException("Unknown cache type: " + config.type);
             }
@@ -256,6 +311,42 @@ SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem ca
                 .done();
     }
 
+    @BuildStep
+    void registerRedisCacheDataSource(CacheConfig config, Capabilities capabilities,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (config.enabled && CacheDeploymentConstants.REDIS_CACHE_TYPE.equals(config.type)) {
+            if (capabilities.isMissing(Capability.REDIS_CLIENT)) {
+                throw new DeploymentException(
+                        "The Redis cache type requires the quarkus-redis-client extension, please add it to your application");
+            }
+            // The injection point of this bean makes the Redis client extension create the default Redis data source.
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(RedisCacheDataSourceHolder.class));
+        }
+    }
+
+    @BuildStep
+    void generateCacheKeyClasses(CombinedIndexBuildItem combinedIndex, BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        // A method can be annotated with several cache interceptor bindings, its key classes are only generated once.
+        Set<MethodInfo> methods = new HashSet<>();
+        for (DotName bindingName : List.of(CACHE_RESULT, CACHE_INVALIDATE, CACHE_INVALIDATE_LIST)) {
+            for (AnnotationInstance binding : combinedIndex.getIndex().getAnnotations(bindingName)) {
+                if (binding.target().kind() == METHOD) {
+                    methods.add(binding.target().asMethod());
+                }
+            }
+        }
+        for (MethodInfo method : methods) {
+            List<Short> positions = CacheKeyClassGenerator.getKeyElementPositions(method);
+            if (positions != null) {
+                String keyFactoryClassName = CacheKeyClassGenerator.generate(classOutput, method, positions);
+                // The key factories are instantiated with reflection by the cache interceptors.
+                reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, keyFactoryClassName));
+            }
+        }
+    }
+
     private MetricsInitializer getMetricsInitializer(Optional<MetricsCapabilityBuildItem> metricsCapability) {
         if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
             return new MicrometerMetricsInitializer();
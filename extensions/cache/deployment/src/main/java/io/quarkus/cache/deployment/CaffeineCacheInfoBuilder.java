@@ -13,19 +13,22 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
         if (cacheNames.isEmpty()) {
             return Collections.emptySet();
         } else {
-            return cacheNames.stream().map(cacheName -> {
-                CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
-                cacheInfo.name = cacheName;
-                CaffeineNamespaceConfig namespaceConfig = cacheConfig.caffeine.namespace.get(cacheInfo.name);
-                if (namespaceConfig != null) {
-                    namespaceConfig.initialCapacity.ifPresent(capacity -> cacheInfo.initialCapacity = capacity);
-                    namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
-                    namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
-                    namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
-                    cacheInfo.metricsEnabled = namespaceConfig.metricsEnabled;
-                }
-                return cacheInfo;
-            }).collect(Collectors.toSet());
+            return cacheNames.stream().map(cacheName -> build(cacheName, cacheConfig)).collect(Collectors.toSet());
         }
     }
+
+    public static CaffeineCacheInfo build(String cacheName, CacheConfig cacheConfig) {
+        CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+        cacheInfo.name = cacheName;
+        CaffeineNamespaceConfig namespaceConfig = cacheConfig.caffeine.namespace.get(cacheInfo.name);
+        if (namespaceConfig != null) {
+            namespaceConfig.initialCapacity.ifPresent(capacity -> cacheInfo.initialCapacity = capacity);
+            namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
+            namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
+            namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+            namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+            cacheInfo.metricsEnabled = namespaceConfig.metricsEnabled;
+        }
+        return cacheInfo;
+    }
 }
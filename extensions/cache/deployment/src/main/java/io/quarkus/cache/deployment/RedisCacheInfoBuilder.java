@@ -0,0 +1,145 @@
+package io.quarkus.cache.deployment;
+
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_ALL;
+import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkus.cache.deployment.CacheConfig.RedisConfig.RedisNamespaceConfig;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+import io.smallrye.mutiny.Uni;
+
+public class RedisCacheInfoBuilder {
+
+    private static final List<DotName> ASYNC_TYPES = List.of(DotName.createSimple(Uni.class.getName()),
+            DotName.createSimple(CompletionStage.class.getName()),
+            DotName.createSimple(CompletableFuture.class.getName()));
+
+    // Marks a cache used by @CacheResult methods whose value type cannot be inferred
+    private static final String UNKNOWN_VALUE_TYPE = "";
+
+    public static Set<RedisCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig, IndexView index) {
+        if (cacheNames.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Map<String, String> inferredValueTypes = inferValueTypes(index);
+        return cacheNames.stream().map(cacheName -> {
+            RedisCacheInfo cacheInfo = new RedisCacheInfo();
+            cacheInfo.name = cacheName;
+            cacheInfo.keyPrefix = "cache:" + cacheName;
+            RedisNamespaceConfig namespaceConfig = cacheConfig.redis.namespace.get(cacheName);
+            if (namespaceConfig != null) {
+                namespaceConfig.keyPrefix.ifPresent(prefix -> cacheInfo.keyPrefix = prefix);
+                namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
+                namespaceConfig.valueType.ifPresent(type -> cacheInfo.valueType = type);
+                namespaceConfig.valueCodec.ifPresent(codec -> cacheInfo.valueCodec = codec);
+                if (namespaceConfig.nearCache) {
+                    // The near cache is configured with the Caffeine configuration of the cache
+                    cacheInfo.nearCache = CaffeineCacheInfoBuilder.build(cacheName, cacheConfig);
+                }
+            }
+            if (cacheInfo.valueType == null && cacheInfo.valueCodec == null) {
+                String inferred = inferredValueTypes.get(cacheName);
+                if (inferred == null) {
+                    // A cache only used programmatically may store values of any type
+                    throw new DeploymentException("The Redis cache [" + cacheName
+                            + "] is not used by any @CacheResult or @CacheResultAll method, please set the "
+                            + "quarkus.cache.redis.\"" + cacheName + "\".value-type or quarkus.cache.redis.\"" + cacheName
+                            + "\".value-codec configuration property");
+                }
+                if (UNKNOWN_VALUE_TYPE.equals(inferred)) {
+                    throw new DeploymentException("Unable to infer the value type of the Redis cache [" + cacheName
+                            + "] from the return types of its @CacheResult methods, please set the quarkus.cache.redis.\""
+                            + cacheName + "\".value-type or quarkus.cache.redis.\"" + cacheName
+                            + "\".value-codec configuration property");
+                }
+                cacheInfo.valueType = inferred;
+            }
+            return cacheInfo;
+        }).collect(Collectors.toSet());
+    }
+
+    /**
+     * Infers the type of the cached values from the return type of the {@code @CacheResult} and {@code @CacheResultAll}
+     * methods. A cache used by several methods with different value types, or by a method returning a generic type, is mapped
+     * to {@link #UNKNOWN_VALUE_TYPE}.
+     */
+    private static Map<String, String> inferValueTypes(IndexView index) {
+        Map<String, String> valueTypes = new HashMap<>();
+        for (AnnotationInstance binding : index.getAnnotations(CACHE_RESULT)) {
+            if (binding.target().kind() == METHOD) {
+                mergeValueType(valueTypes, binding, getValueType(binding.target().asMethod().returnType()));
+            }
+        }
+        // The values of the @CacheResultAll methods are the values of the returned map
+        for (AnnotationInstance binding : index.getAnnotations(CACHE_RESULT_ALL)) {
+            if (binding.target().kind() == METHOD) {
+                Type returnType = binding.target().asMethod().returnType();
+                mergeValueType(valueTypes, binding, returnType.kind() == Type.Kind.PARAMETERIZED_TYPE
+                        ? getValueType(returnType.asParameterizedType().arguments().get(1))
+                        : UNKNOWN_VALUE_TYPE);
+            }
+        }
+        return valueTypes;
+    }
+
+    private static void mergeValueType(Map<String, String> valueTypes, AnnotationInstance binding, String valueType) {
+        valueTypes.merge(binding.value(CACHE_NAME_PARAM).asString(), valueType,
+                (current, other) -> Objects.equals(current, other) ? current : UNKNOWN_VALUE_TYPE);
+    }
+
+    private static String getValueType(Type returnType) {
+        if (returnType.kind() == Type.Kind.PARAMETERIZED_TYPE && ASYNC_TYPES.contains(returnType.name())) {
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        switch (returnType.kind()) {
+            case CLASS:
+                return returnType.name().toString();
+            case PRIMITIVE:
+                return box(returnType.asPrimitiveType().primitive());
+            default:
+                return UNKNOWN_VALUE_TYPE;
+        }
+    }
+
+    private static String box(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case BOOLEAN:
+                return Boolean.class.getName();
+            case BYTE:
+                return Byte.class.getName();
+            case CHAR:
+                return Character.class.getName();
+            case DOUBLE:
+                return Double.class.getName();
+            case FLOAT:
+                return Float.class.getName();
+            case INT:
+                return Integer.class.getName();
+            case LONG:
+                return Long.class.getName();
+            case SHORT:
+                return Short.class.getName();
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type: " + primitive);
+        }
+    }
+}
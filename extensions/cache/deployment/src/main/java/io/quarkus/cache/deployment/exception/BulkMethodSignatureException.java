@@ -0,0 +1,24 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheResultAll @CacheResultAll} does not return a {@link java.util.Map} or does not have a single
+ * keys collection argument.
+ */
+@SuppressWarnings("serial")
+public class BulkMethodSignatureException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public BulkMethodSignatureException(MethodInfo methodInfo, String reason) {
+        super("@CacheResultAll is not allowed on this method, " + reason + " [class=" + methodInfo.declaringClass().name()
+                + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
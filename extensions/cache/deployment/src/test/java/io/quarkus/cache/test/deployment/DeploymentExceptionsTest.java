@@ -5,6 +5,11 @@
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -22,6 +27,8 @@
 import io.quarkus.cache.CacheKeyGenerator;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheResultAll;
+import io.quarkus.cache.deployment.exception.BulkMethodSignatureException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -42,10 +49,12 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(11, t.getSuppressed().length);
+                assertEquals(13, t.getSuppressed().length);
                 assertPrivateMethodTargetException(t, "shouldThrowPrivateMethodTargetException", 1);
                 assertPrivateMethodTargetException(t, "shouldAlsoThrowPrivateMethodTargetException", 2);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
+                assertBulkMethodSignatureException(t, "shouldThrowBulkMethodSignatureException");
+                assertBulkMethodSignatureException(t, "shouldAlsoThrowBulkMethodSignatureException");
                 assertClassTargetException(t, TestResource.class, 1);
                 assertClassTargetException(t, TestBean.class, 2);
                 assertKeyGeneratorConstructorException(t, KeyGen1.class);
@@ -64,6 +73,11 @@ private static void assertVoidReturnTypeTargetException(Throwable t, String expe
                 .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
     }
 
+    private static void assertBulkMethodSignatureException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, BulkMethodSignatureException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static void assertClassTargetException(Throwable t, Class<?> expectedClassName, long expectedCount) {
         assertEquals(expectedCount, filterSuppressed(t, ClassTargetException.class)
                 .filter(s -> expectedClassName.getName().equals(s.getClassName().toString())).count());
@@ -131,6 +145,16 @@ public String shouldThrowKeyGeneratorConstructorException() {
         public void shouldAlsoThrowKeyGeneratorConstructorException() {
         }
 
+        @CacheResultAll(cacheName = "should-throw-bulk-method-signature-exception")
+        public List<String> shouldThrowBulkMethodSignatureException(Set<String> keys) {
+            return new ArrayList<>(keys);
+        }
+
+        @CacheResultAll(cacheName = "should-throw-bulk-method-signature-exception")
+        public Map<String, String> shouldAlsoThrowBulkMethodSignatureException(String[] keys) {
+            return new HashMap<>();
+        }
+
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen3.class)
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen4.class)
         public void shouldThrowKeyGeneratorConstructorExceptionAsWell() {
@@ -0,0 +1,173 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheResultAll;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link CacheResultAll} annotation and the {@link Cache#getAll(Collection, Function)} method.
+ */
+public class CacheResultAllTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @BeforeEach
+    public void reset() {
+        cachedService.getInvocations().clear();
+    }
+
+    @Test
+    public void testPartialHits() {
+        Map<Long, String> entities = cachedService.findByIds(List.of(1L, 2L));
+        assertEquals(Map.of(1L, "entity-1", 2L, "entity-2"), entities);
+        assertEquals(List.of(List.of(1L, 2L)), cachedService.getInvocations());
+
+        // Only the missing ids are loaded, the result follows the order of the requested ids
+        entities = cachedService.findByIds(List.of(3L, 2L, 1L, 4L));
+        assertEquals(List.of(3L, 2L, 1L, 4L), new ArrayList<>(entities.keySet()));
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L)), cachedService.getInvocations());
+
+        // All the ids are cached, the method is not invoked
+        cachedService.findByIds(List.of(4L, 1L));
+        assertEquals(2, cachedService.getInvocations().size());
+
+        // The entries are shared with the single key methods
+        assertEquals("entity-3", cachedService.findById(3L));
+        assertEquals(2, cachedService.getInvocations().size());
+    }
+
+    @Test
+    public void testMissingEntitiesAreNotCached() {
+        Map<Long, String> entities = cachedService.findByIds(List.of(10L, -1L));
+        assertEquals(Map.of(10L, "entity-10"), entities);
+        cachedService.findByIds(List.of(10L, -1L));
+        assertEquals(List.of(List.of(10L, -1L), List.of(-1L)), cachedService.getInvocations());
+    }
+
+    @Test
+    public void testUnresolvedUniEntry() {
+        CompletableFuture<String> asyncEntity = new CompletableFuture<>();
+        CompletionStage<String> pending = cachedService.findByIdAsync(30L, asyncEntity).subscribeAsCompletionStage();
+
+        // The entry being computed by the Uni method is loaded with the missing entry but it is not cached
+        assertEquals(Map.of(30L, "entity-30", 31L, "entity-31"), cachedService.findByIds(List.of(30L, 31L)));
+        assertEquals(List.of(List.of(30L, 31L)), cachedService.getInvocations());
+
+        asyncEntity.complete("async-entity-30");
+        assertEquals("async-entity-30", pending.toCompletableFuture().join());
+        assertEquals(Map.of(30L, "async-entity-30", 31L, "entity-31"), cachedService.findByIds(List.of(30L, 31L)));
+        assertEquals(1, cachedService.getInvocations().size());
+    }
+
+    @Test
+    public void testCacheKeyParameter() {
+        Map<Long, String> entities = cachedService.findByIdsWithPrefix("other-", Set.of(20L));
+        assertEquals(Map.of(20L, "other-20"), entities);
+        assertTrue(cache.getAll(Set.of(20L), ids -> {
+            throw new IllegalStateException("The entry should be cached");
+        }).await().indefinitely().containsKey(20L));
+    }
+
+    @Test
+    public void testProgrammaticGetAll() {
+        Map<String, Integer> values = cache.<String, Integer> getAll(List.of("a", "bb"), CacheResultAllTest::lengths)
+                .await().indefinitely();
+        assertEquals(Map.of("a", 1, "bb", 2), values);
+
+        values = cache.<String, Integer> getAll(List.of("a", "ccc"), keys -> {
+            assertEquals(Set.of("ccc"), keys);
+            return lengths(keys);
+        }).await().indefinitely();
+        assertEquals(Map.of("a", 1, "ccc", 3), values);
+
+        // The failed computation is not cached
+        assertThrows(IllegalStateException.class, () -> cache.<String, Integer> getAll(List.of("dddd"), keys -> {
+            throw new IllegalStateException();
+        }).await().indefinitely());
+        assertEquals(Map.of("dddd", 4), cache.getAll(List.of("dddd"), CacheResultAllTest::lengths).await().indefinitely());
+    }
+
+    private static Map<String, Integer> lengths(Set<String> keys) {
+        Map<String, Integer> lengths = new HashMap<>();
+        for (String key : keys) {
+            lengths.put(key, key.length());
+        }
+        return lengths;
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<List<Long>> invocations = new ArrayList<>();
+
+        @CacheResultAll(cacheName = CACHE_NAME)
+        public Map<Long, String> findByIds(List<Long> ids) {
+            invocations.add(ids);
+            Map<Long, String> entities = new HashMap<>();
+            for (Long id : ids) {
+                if (id > 0) {
+                    entities.put(id, "entity-" + id);
+                }
+            }
+            return entities;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String findById(Long id) {
+            invocations.add(List.of(id));
+            return "entity-" + id;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Uni<String> findByIdAsync(@CacheKey Long id, CompletableFuture<String> entity) {
+            return Uni.createFrom().completionStage(entity);
+        }
+
+        @CacheResultAll(cacheName = CACHE_NAME)
+        public Map<Long, String> findByIdsWithPrefix(String prefix, @CacheKey Collection<Long> ids) {
+            Map<Long, String> entities = new HashMap<>();
+            for (Long id : ids) {
+                entities.put(id, prefix + id);
+            }
+            return entities;
+        }
+
+        public List<List<Long>> getInvocations() {
+            return invocations;
+        }
+    }
+}
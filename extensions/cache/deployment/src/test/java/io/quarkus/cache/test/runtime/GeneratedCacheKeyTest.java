@@ -0,0 +1,99 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the composite cache keys classes generated at build time.
+ */
+public class GeneratedCacheKeyTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testGeneratedKey() {
+        cache.invalidateAll().await().indefinitely();
+        String value1 = cachedService.cachedMethod(1L, "a", 2.5d);
+        assertSame(value1, cachedService.cachedMethod(1L, "a", 2.5d));
+        assertNotSame(value1, cachedService.cachedMethod(2L, "a", 2.5d));
+        assertNotSame(value1, cachedService.cachedMethod(1L, null, 2.5d));
+
+        Set<Object> keys = cache.as(CaffeineCache.class).keySet();
+        assertEquals(3, keys.size());
+        for (Object key : keys) {
+            // The key is an instance of the class generated for the cached method.
+            assertTrue(key instanceof CompositeCacheKey);
+            assertNotEquals(CompositeCacheKey.class, key.getClass());
+        }
+
+        // The generated key is equal to a composite key built from the same elements.
+        CompositeCacheKey expectedKey = new CompositeCacheKey(1L, "a", 2.5d);
+        assertTrue(keys.contains(expectedKey));
+        Object key = keys.stream().filter(expectedKey::equals).findFirst().get();
+        assertEquals(expectedKey, key);
+        assertEquals(expectedKey.hashCode(), key.hashCode());
+        assertEquals(expectedKey.toString(), key.toString());
+        assertTrue(keys.contains(new CompositeCacheKey(1L, null, 2.5d)));
+    }
+
+    @Test
+    public void testInvalidation() {
+        String value1 = cachedService.cachedMethod(10L, "b", 1d);
+
+        // The key of this method is built with a different generated class.
+        cachedService.invalidate(10L, new Object(), "b", 1d);
+        String value2 = cachedService.cachedMethod(10L, "b", 1d);
+        assertNotSame(value1, value2);
+
+        cache.invalidate(new CompositeCacheKey(10L, "b", 1d)).await().indefinitely();
+        assertNotSame(value2, cachedService.cachedMethod(10L, "b", 1d));
+    }
+
+    @Test
+    public void testProgrammaticKey() {
+        String value = cache.get(new CompositeCacheKey(20L, "c", 3d), k -> "programmatic").await().indefinitely();
+        assertSame(value, cachedService.cachedMethod(20L, "c", 3d));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(long id, String name, double amount) {
+            return new String();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(@CacheKey long id, Object notPartOfTheKey, @CacheKey String name, @CacheKey double amount) {
+        }
+    }
+}
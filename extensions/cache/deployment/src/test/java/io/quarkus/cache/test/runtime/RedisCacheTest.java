@@ -0,0 +1,182 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.runtime.BlockingOperationNotAllowedException;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+/**
+ * Tests the Redis cache type. The Redis server is started by the Redis client Dev Services.
+ */
+public class RedisCacheTest {
+
+    private static final String CACHE_NAME_1 = "test-cache-1";
+    private static final String CACHE_NAME_2 = "test-cache-2";
+    private static final String KEY_1 = "key-1";
+    private static final String KEY_2 = "key-2";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.type", "redis")
+            .overrideConfigKey("quarkus.cache.redis.\"" + CACHE_NAME_1 + "\".key-prefix", "my-prefix")
+            .overrideConfigKey("quarkus.cache.redis.\"" + CACHE_NAME_2 + "\".expire-after-write", "10S");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    RedisDataSource redis;
+
+    @Inject
+    Vertx vertx;
+
+    @BeforeEach
+    public void reset() {
+        redis.flushall();
+        cachedService.reset();
+    }
+
+    @Test
+    public void testCacheResult() {
+        String value1 = cachedService.cacheResult1(KEY_1);
+        assertEquals(value1, cachedService.cacheResult1(KEY_1));
+        assertEquals(1, cachedService.getCacheResult1Invocations());
+
+        // The entry is stored in Redis with the configured key prefix
+        assertEquals(value1, redis.value(String.class).get("my-prefix:" + KEY_1));
+
+        String value2 = cachedService.cacheResult1(KEY_2);
+        assertNotEquals(value1, value2);
+        assertEquals(2, cachedService.getCacheResult1Invocations());
+    }
+
+    @Test
+    public void testUniCacheResultAndExpiration() {
+        Integer value1 = cachedService.cacheResult2(KEY_1).await().indefinitely();
+        assertEquals(value1, cachedService.cacheResult2(KEY_1).await().indefinitely());
+        assertEquals(1, cachedService.getCacheResult2Invocations());
+
+        // The value type is inferred from the Uni<Integer> return type
+        assertEquals(value1, redis.value(Integer.class).get("cache:" + CACHE_NAME_2 + ":" + KEY_1));
+        long ttl = redis.key().pttl("cache:" + CACHE_NAME_2 + ":" + KEY_1);
+        assertTrue(ttl > 0 && ttl <= 10_000, "Unexpected TTL: " + ttl);
+    }
+
+    @Test
+    public void testInvalidation() {
+        String value1 = cachedService.cacheResult1(KEY_1);
+        String value2 = cachedService.cacheResult1(KEY_2);
+
+        cachedService.invalidate(KEY_1);
+        assertNull(redis.value(String.class).get("my-prefix:" + KEY_1));
+        assertNotEquals(value1, cachedService.cacheResult1(KEY_1));
+        assertEquals(value2, cachedService.cacheResult1(KEY_2));
+
+        cachedService.invalidateAll();
+        assertNull(redis.value(String.class).get("my-prefix:" + KEY_1));
+        assertNull(redis.value(String.class).get("my-prefix:" + KEY_2));
+    }
+
+    @Test
+    public void testKeyWithoutToString() {
+        // The Object#toString() representation is not a valid Redis key
+        assertThrows(IllegalArgumentException.class, () -> cachedService.cacheResult3(new Object()));
+        // The elements of a composite key are part of its toString() representation
+        assertThrows(IllegalArgumentException.class, () -> cachedService.cacheResult4(KEY_1, new Object()));
+        assertEquals(0, cachedService.getCacheResult1Invocations());
+    }
+
+    @Test
+    public void testIoThread() throws Exception {
+        CompletableFuture<String> nonAsyncResult = new CompletableFuture<>();
+        CompletableFuture<Integer> uniResult = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(ignored -> {
+            try {
+                nonAsyncResult.complete(cachedService.cacheResult1(KEY_1));
+            } catch (Throwable t) {
+                nonAsyncResult.completeExceptionally(t);
+            }
+            cachedService.cacheResult2(KEY_1).subscribe().with(uniResult::complete, uniResult::completeExceptionally);
+        });
+
+        // The non-async method cannot wait for Redis on an I/O thread
+        ExecutionException e = assertThrows(ExecutionException.class, () -> nonAsyncResult.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof BlockingOperationNotAllowedException, "Unexpected failure: " + e.getCause());
+        assertEquals(0, cachedService.getCacheResult1Invocations());
+
+        Integer value = uniResult.get(10, TimeUnit.SECONDS);
+        assertEquals(value, cachedService.cacheResult2(KEY_1).await().indefinitely());
+        assertEquals(1, cachedService.getCacheResult2Invocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger cacheResult1Invocations = new AtomicInteger();
+        private final AtomicInteger cacheResult2Invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME_1)
+        public String cacheResult1(String key) {
+            return key + ":" + cacheResult1Invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME_2)
+        public Uni<Integer> cacheResult2(String key) {
+            return Uni.createFrom().item(cacheResult2Invocations.incrementAndGet() * 100);
+        }
+
+        @CacheResult(cacheName = CACHE_NAME_1)
+        public String cacheResult3(Object key) {
+            return "key:" + cacheResult1Invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME_1)
+        public String cacheResult4(String key, Object element) {
+            return key + ":" + cacheResult1Invocations.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME_1)
+        public void invalidate(String key) {
+        }
+
+        @CacheInvalidateAll(cacheName = CACHE_NAME_1)
+        public void invalidateAll() {
+        }
+
+        public void reset() {
+            cacheResult1Invocations.set(0);
+            cacheResult2Invocations.set(0);
+        }
+
+        public int getCacheResult1Invocations() {
+            return cacheResult1Invocations.get();
+        }
+
+        public int getCacheResult2Invocations() {
+            return cacheResult2Invocations.get();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.redis.TwoLevelCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the Caffeine near cache in front of a Redis cache. The Redis server is started by the Redis client Dev Services.
+ */
+public class RedisNearCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String KEY = "key";
+    private static final String REDIS_KEY = "cache:" + CACHE_NAME + ":" + KEY;
+    private static final String CHANNEL = "cache:" + CACHE_NAME + ":invalidations";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.type", "redis")
+            .overrideConfigKey("quarkus.cache.redis.\"" + CACHE_NAME + "\".near-cache", "true")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".maximum-size", "100");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    RedisDataSource redis;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @BeforeEach
+    public void reset() {
+        // The near cache is only used once the invalidation channel is subscribed
+        await().until(() -> {
+            cachedService.cacheResult(KEY);
+            return nearCache().getSize() > 0;
+        });
+        cachedService.invalidate(KEY);
+        cachedService.reset();
+    }
+
+    @Test
+    public void testNearCacheHit() {
+        String value = cachedService.cacheResult(KEY);
+        assertEquals(value, redis.value(String.class).get(REDIS_KEY));
+
+        // The entry is removed from Redis only, it is still served by the near cache
+        redis.key().del(REDIS_KEY);
+        assertEquals(value, cachedService.cacheResult(KEY));
+        assertEquals(1, cachedService.getInvocations());
+        assertEquals(1, nearCache().getSize());
+    }
+
+    @Test
+    public void testInvalidationFromAnotherInstance() {
+        String value = cachedService.cacheResult(KEY);
+
+        // Simulates the invalidation of the entry by another application instance
+        redis.key().del(REDIS_KEY);
+        redis.pubsub(String.class).publish(CHANNEL, REDIS_KEY);
+
+        await().until(() -> nearCache().getSize() == 0);
+        String newValue = cachedService.cacheResult(KEY);
+        assertEquals(KEY + ":2", newValue);
+        assertEquals(newValue, redis.value(String.class).get(REDIS_KEY));
+        assertEquals(KEY + ":1", value);
+    }
+
+    @Test
+    public void testLocalInvalidation() {
+        cachedService.cacheResult(KEY);
+        cachedService.invalidate(KEY);
+        assertNull(redis.value(String.class).get(REDIS_KEY));
+        assertEquals(0, nearCache().getSize());
+        assertEquals(KEY + ":2", cachedService.cacheResult(KEY));
+    }
+
+    private CaffeineCacheImpl nearCache() {
+        return cache.as(TwoLevelCacheImpl.class).getNearCache();
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cacheResult(String key) {
+            return key + ":" + invocations.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        public void reset() {
+            invocations.set(0);
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
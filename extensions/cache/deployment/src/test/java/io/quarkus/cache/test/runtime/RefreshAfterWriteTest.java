@@ -0,0 +1,163 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the background refresh of the entries of a Caffeine cache configured with a refresh-after-write delay.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME_1 = "test-cache-1";
+    private static final String CACHE_NAME_2 = "test-cache-2";
+    private static final String CACHE_NAME_3 = "test-cache-3";
+    private static final String CACHE_NAME_4 = "test-cache-4";
+    private static final String KEY = "key";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, DependentCachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME_1 + "\".refresh-after-write", "0.2S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME_2 + "\".refresh-after-write", "0.2S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME_3 + "\".refresh-after-write", "1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME_4 + "\".refresh-after-write", "0.2S");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    DependentCachedService dependentCachedService;
+
+    @CacheName(CACHE_NAME_3)
+    Cache cache3;
+
+    @Test
+    public void testStaleValueIsServedWhileRefreshing() throws InterruptedException {
+        assertEquals(KEY + ":1", cachedService.cacheResult1(KEY));
+        assertEquals(KEY + ":1", cachedService.cacheResult1(KEY));
+        assertEquals(1, cachedService.getCacheResult1Invocations());
+
+        Thread.sleep(300L);
+
+        // The stale value is returned and a single reload is triggered in the background
+        assertEquals(KEY + ":1", cachedService.cacheResult1(KEY));
+        await().until(() -> cachedService.cacheResult1(KEY).equals(KEY + ":2"));
+        assertEquals(2, cachedService.getCacheResult1Invocations());
+    }
+
+    @Test
+    public void testUniStaleValueIsServedWhileRefreshing() throws InterruptedException {
+        assertEquals(100, cachedService.cacheResult2(KEY).await().indefinitely());
+        assertEquals(100, cachedService.cacheResult2(KEY).await().indefinitely());
+        assertEquals(1, cachedService.getCacheResult2Invocations());
+
+        Thread.sleep(300L);
+
+        assertEquals(100, cachedService.cacheResult2(KEY).await().indefinitely());
+        await().until(() -> cachedService.cacheResult2(KEY).await().indefinitely() == 200);
+        assertEquals(2, cachedService.getCacheResult2Invocations());
+    }
+
+    @Test
+    public void testReloadedValueIsDiscardedIfEntryChanged() throws InterruptedException {
+        assertEquals(KEY + ":1", cachedService.cacheResult3(KEY));
+
+        Thread.sleep(1100L);
+
+        // The reload is blocked until the entry has been invalidated and computed again
+        assertEquals(KEY + ":1", cachedService.cacheResult3(KEY));
+        await().until(() -> cachedService.getCacheResult3Invocations() == 2);
+        cache3.invalidate(KEY).await().indefinitely();
+        assertEquals(KEY + ":3", cachedService.cacheResult3(KEY));
+        cachedService.releaseReload();
+
+        // The value reloaded from the data read before the invalidation does not overwrite the new entry
+        Thread.sleep(200L);
+        assertEquals(KEY + ":3", cachedService.cacheResult3(KEY));
+        assertEquals(3, cachedService.getCacheResult3Invocations());
+    }
+
+    @Test
+    public void testDependentTargetIsReloadedByCurrentInvocation() throws InterruptedException {
+        assertEquals(KEY + ":1", dependentCachedService.cacheResult(KEY));
+
+        Thread.sleep(300L);
+
+        // The target instance may not outlive the invocation, so the value is not reloaded in the background
+        assertEquals(KEY + ":2", dependentCachedService.cacheResult(KEY));
+        assertEquals(KEY + ":2", dependentCachedService.cacheResult(KEY));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger cacheResult1Invocations = new AtomicInteger();
+        private final AtomicInteger cacheResult2Invocations = new AtomicInteger();
+        private final AtomicInteger cacheResult3Invocations = new AtomicInteger();
+        private final CountDownLatch reloadLatch = new CountDownLatch(1);
+
+        @CacheResult(cacheName = CACHE_NAME_1)
+        public String cacheResult1(String key) {
+            return key + ":" + cacheResult1Invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME_2)
+        public Uni<Integer> cacheResult2(String key) {
+            return Uni.createFrom().item(() -> cacheResult2Invocations.incrementAndGet() * 100);
+        }
+
+        @CacheResult(cacheName = CACHE_NAME_3)
+        public String cacheResult3(String key) throws InterruptedException {
+            int invocation = cacheResult3Invocations.incrementAndGet();
+            if (invocation == 2) {
+                reloadLatch.await(10, TimeUnit.SECONDS);
+            }
+            return key + ":" + invocation;
+        }
+
+        public void releaseReload() {
+            reloadLatch.countDown();
+        }
+
+        public int getCacheResult1Invocations() {
+            return cacheResult1Invocations.get();
+        }
+
+        public int getCacheResult2Invocations() {
+            return cacheResult2Invocations.get();
+        }
+
+        public int getCacheResult3Invocations() {
+            return cacheResult3Invocations.get();
+        }
+    }
+
+    @Dependent
+    static class DependentCachedService {
+
+        // Shared by all the instances of the bean
+        private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME_4)
+        public String cacheResult(String key) {
+            return key + ":" + INVOCATIONS.incrementAndGet();
+        }
+    }
+}
@@ -2,6 +2,9 @@
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import javax.inject.Inject;
@@ -65,6 +68,11 @@ public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
             throw new UnsupportedOperationException("This method is not tested here");
         }
 
+        @Override
+        public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+            throw new UnsupportedOperationException("This method is not tested here");
+        }
+
         @Override
         public Uni<Void> invalidate(Object key) {
             throw new UnsupportedOperationException("This method is not tested here");
@@ -1,5 +1,8 @@
 package io.quarkus.cache;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import io.smallrye.mutiny.Uni;
@@ -40,6 +43,22 @@ public interface Cache {
      */
     <K, V> Uni<V> get(K key, Function<K, V> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from a single {@code bulkLoader} call if necessary. The bulk loader is not called if all the keys are already
+     * associated with a value. The keys which are missing from the map returned by the bulk loader are not cached.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys which are not already associated with a value
+     * @return a lazy asynchronous action that will emit a map containing an entry for each key associated with a
+     *         non-{@code null} value, in the iteration order of {@code keys}
+     * @throws NullPointerException if a key is {@code null}
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader);
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
@@ -0,0 +1,41 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * When a method annotated with {@link CacheResultAll} is invoked, Quarkus will use each element of its keys collection as a
+ * cache key and retrieve the corresponding values from the cache. The method is then invoked once with a collection
+ * containing only the keys which are missing from the cache, and the returned entries are stored in the cache.
+ * <p>
+ * The annotated method must return a {@link java.util.Map} and its keys collection must be declared as a
+ * {@link java.util.Collection}, a {@link java.util.List} or a {@link java.util.Set}. The keys collection is the only
+ * argument of the method or the argument annotated with {@link CacheKey @CacheKey}. The other arguments are passed unchanged
+ * to the method and are not part of the cache keys.
+ * <p>
+ * The returned map contains an entry for each key associated with a non-{@code null} value, in the iteration order of the
+ * keys collection. A key which is missing from the map returned by the method is not cached. The cache entries can be shared
+ * with the {@link CacheResult} methods whose cache key is a single element of the keys collection, as long as these methods
+ * don't return a {@link io.smallrye.mutiny.Uni Uni} or a {@link java.util.concurrent.CompletionStage CompletionStage}.
+ * <p>
+ * Concurrent invocations which need the same missing keys are protected by the lock on cache miss mechanism described in
+ * {@link CacheResult}: each missing key is computed by a single invocation.
+ * <p>
+ * The underlying caching provider can be chosen and configured in the Quarkus {@link application.properties} file.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheResultAll {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
@@ -6,6 +6,9 @@
  * A composite cache key is used by the annotations caching API when a method annotated with {@link CacheResult} or
  * {@link CacheInvalidate} is invoked and when the cache key is composed of several of the method arguments (annotated with
  * {@link CacheKey} or not). This class can also be used with the programmatic caching API.
+ * <p>
+ * The keys of the annotated methods are instances of subclasses generated at build time, which store the key elements in typed
+ * fields. These keys are equal to a {@link CompositeCacheKey} built from the same key elements.
  */
 public class CompositeCacheKey {
 
@@ -25,9 +28,26 @@ public CompositeCacheKey(Object... keyElements) {
         this.keyElements = keyElements;
     }
 
+    /**
+     * Constructor used by the subclasses generated at build time, which override {@link #getKeyElements()},
+     * {@link #hashCode()} and {@link #equals(Object)}.
+     */
+    protected CompositeCacheKey() {
+        this.keyElements = null;
+    }
+
+    /**
+     * Returns the key elements.
+     *
+     * @return key elements
+     */
+    protected Object[] getKeyElements() {
+        return keyElements;
+    }
+
     @Override
     public int hashCode() {
-        return Arrays.deepHashCode(keyElements);
+        return Arrays.deepHashCode(getKeyElements());
     }
 
     @Override
@@ -37,13 +57,13 @@ public boolean equals(Object obj) {
         }
         if (CompositeCacheKey.class.isInstance(obj)) {
             final CompositeCacheKey other = (CompositeCacheKey) obj;
-            return Arrays.deepEquals(keyElements, other.keyElements);
+            return Arrays.deepEquals(getKeyElements(), other.getKeyElements());
         }
         return false;
     }
 
     @Override
     public String toString() {
-        return "CompositeCacheKey" + Arrays.toString(keyElements);
+        return "CompositeCacheKey" + Arrays.toString(getKeyElements());
     }
 }
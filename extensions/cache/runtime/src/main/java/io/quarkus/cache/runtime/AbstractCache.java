@@ -34,4 +34,36 @@ public <T extends Cache> T as(Class<T> type) {
      * value. If the key no longer identifies a cache entry, this method must not put the emitted item into the cache.
      */
     public abstract Uni<Void> replaceUniValue(Object key, Object emittedValue);
+
+    /**
+     * Returns a refresh token if the cache entry identified by the given key is older than the refresh-after-write delay of
+     * the cache and should be reloaded in the background, {@code null} otherwise. The caller is then expected to reload the
+     * value and to pass it to {@link #replaceRefreshedValue(Object, Object, Object)} with the token, while the current value
+     * is still served. This method returns a token at most once per refresh-after-write delay for a given entry so that
+     * concurrent callers don't trigger several reloads. Cache implementations which don't support refreshing entries always
+     * return {@code null}.
+     */
+    public Object claimRefresh(Object key) {
+        return null;
+    }
+
+    /**
+     * Replaces the cache value identified by a token returned by {@link #claimRefresh(Object)} with the reloaded value. The
+     * entry is left untouched if it was invalidated, replaced or recomputed while the value was reloaded, since the reloaded
+     * value may then be older than the current one.
+     *
+     * @return a {@link Uni} emitting {@code true} if the entry was replaced
+     */
+    public Uni<Boolean> replaceRefreshedValue(Object key, Object refreshToken, Object reloadedValue) {
+        return Uni.createFrom().item(Boolean.FALSE);
+    }
+
+    /**
+     * Returns {@code true} if the cache entries are stored outside of the application memory. Reading or invalidating an entry
+     * then requires a network round trip, and the {@link Uni} returned by the cache methods must not be awaited on an I/O
+     * thread.
+     */
+    public boolean isRemote() {
+        return false;
+    }
 }
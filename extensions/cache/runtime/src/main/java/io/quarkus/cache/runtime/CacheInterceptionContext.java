@@ -9,12 +9,19 @@
 
     private final List<T> interceptorBindings;
     private final List<Short> cacheKeyParameterPositions;
+    private final CacheKeyFactory cacheKeyFactory;
 
     public CacheInterceptionContext(List<T> interceptorBindings, List<Short> cacheKeyParameterPositions) {
+        this(interceptorBindings, cacheKeyParameterPositions, null);
+    }
+
+    public CacheInterceptionContext(List<T> interceptorBindings, List<Short> cacheKeyParameterPositions,
+            CacheKeyFactory cacheKeyFactory) {
         Objects.requireNonNull(interceptorBindings);
         Objects.requireNonNull(cacheKeyParameterPositions);
         this.interceptorBindings = Collections.unmodifiableList(interceptorBindings);
         this.cacheKeyParameterPositions = Collections.unmodifiableList(cacheKeyParameterPositions);
+        this.cacheKeyFactory = cacheKeyFactory;
     }
 
     public List<T> getInterceptorBindings() {
@@ -24,4 +31,12 @@ public List<T> getInterceptorBindings() {
     public List<Short> getCacheKeyParameterPositions() {
         return cacheKeyParameterPositions;
     }
+
+    /**
+     * Returns the factory generated at build time for the composite cache key of the intercepted method, or {@code null} if
+     * the {@link io.quarkus.cache.CompositeCacheKey} class has to be used.
+     */
+    public CacheKeyFactory getCacheKeyFactory() {
+        return cacheKeyFactory;
+    }
 }
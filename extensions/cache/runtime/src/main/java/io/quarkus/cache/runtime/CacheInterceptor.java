@@ -26,6 +26,8 @@
 import io.quarkus.cache.CacheKeyGenerator;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.runtime.BlockingOperationNotAllowedException;
 import io.smallrye.mutiny.Uni;
 
 public abstract class CacheInterceptor {
@@ -36,6 +38,18 @@ public abstract class CacheInterceptor {
     private static final String PERFORMANCE_WARN_MSG = "Cache key resolution based on reflection calls. Please create a GitHub issue in the Quarkus repository, the maintainers might be able to improve your application performance.";
     protected static final String UNHANDLED_ASYNC_RETURN_TYPE_MSG = "Unhandled async return type";
 
+    // The cache key factories generated at build time are stateless, a single instance is created for each of them.
+    private static final ClassValue<CacheKeyFactory> CACHE_KEY_FACTORIES = new ClassValue<>() {
+        @Override
+        protected CacheKeyFactory computeValue(Class<?> type) {
+            try {
+                return (CacheKeyFactory) type.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new CacheException("Cache key factory instantiation failed [class=" + type.getName() + "]", e);
+            }
+        }
+    };
+
     @Inject
     CacheManager cacheManager;
 
@@ -73,16 +87,21 @@ private <T> Optional<CacheInterceptionContext<T>> getArcCacheInterceptionContext
         }
         List<T> interceptorBindings = new ArrayList<>();
         List<Short> cacheKeyParameterPositions = new ArrayList<>();
+        CacheKeyFactory cacheKeyFactory = null;
         for (AbstractAnnotationLiteral binding : bindings) {
             if (binding.annotationType().isAssignableFrom(CacheKeyParameterPositions.class)) {
                 for (short position : ((CacheKeyParameterPositions) binding).value()) {
                     cacheKeyParameterPositions.add(position);
                 }
+                Class<? extends CacheKeyFactory> keyFactoryClass = ((CacheKeyParameterPositions) binding).keyFactory();
+                if (keyFactoryClass != UndefinedCacheKeyFactory.class) {
+                    cacheKeyFactory = CACHE_KEY_FACTORIES.get(keyFactoryClass);
+                }
             } else if (binding.annotationType().isAssignableFrom((interceptorBindingClass))) {
                 interceptorBindings.add((T) binding);
             }
         }
-        return Optional.of(new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions));
+        return Optional.of(new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions, cacheKeyFactory));
     }
 
     @SuppressWarnings("unchecked")
@@ -126,6 +145,12 @@ private <T extends Annotation> T cast(Annotation annotation, Class<T> intercepto
 
     protected Object getCacheKey(Cache cache, Class<? extends CacheKeyGenerator> keyGeneratorClass,
             List<Short> cacheKeyParameterPositions, Method method, Object[] methodParameterValues) {
+        return getCacheKey(cache, keyGeneratorClass, cacheKeyParameterPositions, null, method, methodParameterValues);
+    }
+
+    protected Object getCacheKey(Cache cache, Class<? extends CacheKeyGenerator> keyGeneratorClass,
+            List<Short> cacheKeyParameterPositions, CacheKeyFactory cacheKeyFactory, Method method,
+            Object[] methodParameterValues) {
         if (keyGeneratorClass != UndefinedCacheKeyGenerator.class) {
             return generateKey(keyGeneratorClass, method, methodParameterValues);
         } else if (methodParameterValues == null || methodParameterValues.length == 0) {
@@ -135,6 +160,9 @@ protected Object getCacheKey(Cache cache, Class<? extends CacheKeyGenerator> key
             // If exactly one @CacheKey-annotated parameter was identified for the intercepted method at build time, then this
             // parameter will be used as the cache key.
             return methodParameterValues[cacheKeyParameterPositions.get(0)];
+        } else if (cacheKeyFactory != null) {
+            // The composite cache key class generated at build time for the intercepted method will be used.
+            return cacheKeyFactory.create(methodParameterValues);
         } else if (cacheKeyParameterPositions.size() >= 2) {
             // If two or more @CacheKey-annotated parameters were identified for the intercepted method at build time, then a
             // composite cache key built from all these parameters will be used.
@@ -178,6 +206,20 @@ private <T extends CacheKeyGenerator> Object generateKey(Class<T> keyGeneratorCl
         }
     }
 
+    /*
+     * The non-async intercepted methods wait for the cache operations to complete. An entry of a remote cache cannot be
+     * read or invalidated without blocking the current thread, which is not allowed on an I/O thread.
+     */
+    protected static void checkBlockingAllowed(Cache cache, Method method) {
+        if (cache instanceof AbstractCache && ((AbstractCache) cache).isRemote()
+                && !BlockingOperationControl.isBlockingAllowed()) {
+            throw new BlockingOperationNotAllowedException("The cache [" + cache.getName()
+                    + "] is a remote cache and cannot be used from an I/O thread by the method "
+                    + method.getDeclaringClass().getName() + "#" + method.getName()
+                    + ", the method must return a Uni or a CompletionStage or be invoked from a worker thread");
+        }
+    }
+
     protected static ReturnType determineReturnType(Class<?> returnType) {
         if (Uni.class.isAssignableFrom(returnType)) {
             return ReturnType.Uni;
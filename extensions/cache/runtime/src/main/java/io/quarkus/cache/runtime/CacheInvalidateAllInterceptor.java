@@ -71,6 +71,7 @@ private Object invalidateAllBlocking(InvocationContext invocationContext,
             CacheInterceptionContext<CacheInvalidateAll> interceptionContext) throws Exception {
         LOGGER.trace("Invalidating all cache entries in a blocking way");
         for (CacheInvalidateAll binding : interceptionContext.getInterceptorBindings()) {
+            checkBlockingAllowed(cacheManager.getCache(binding.cacheName()).get(), invocationContext.getMethod());
             invalidateAll(binding).await().indefinitely();
         }
         return invocationContext.proceed();
@@ -1,6 +1,5 @@
 package io.quarkus.cache.runtime;
 
-import java.util.List;
 import java.util.function.Function;
 
 import javax.annotation.Priority;
@@ -49,7 +48,7 @@ private Object invalidateNonBlocking(InvocationContext invocationContext,
                 .onItem().transformToUniAndMerge(new Function<CacheInvalidate, Uni<? extends Void>>() {
                     @Override
                     public Uni<Void> apply(CacheInvalidate binding) {
-                        return invalidate(binding, interceptionContext.getCacheKeyParameterPositions(), invocationContext);
+                        return invalidate(binding, interceptionContext, invocationContext);
                     }
                 })
                 .onItem().ignoreAsUni()
@@ -70,16 +69,17 @@ private Object invalidateBlocking(InvocationContext invocationContext,
             CacheInterceptionContext<CacheInvalidate> interceptionContext) throws Exception {
         LOGGER.trace("Invalidating cache entries in a blocking way");
         for (CacheInvalidate binding : interceptionContext.getInterceptorBindings()) {
-            invalidate(binding, interceptionContext.getCacheKeyParameterPositions(), invocationContext).await().indefinitely();
+            checkBlockingAllowed(cacheManager.getCache(binding.cacheName()).get(), invocationContext.getMethod());
+            invalidate(binding, interceptionContext, invocationContext).await().indefinitely();
         }
         return invocationContext.proceed();
     }
 
-    private Uni<Void> invalidate(CacheInvalidate binding, List<Short> cacheKeyParameterPositions,
+    private Uni<Void> invalidate(CacheInvalidate binding, CacheInterceptionContext<CacheInvalidate> interceptionContext,
             InvocationContext invocationContext) {
         Cache cache = cacheManager.getCache(binding.cacheName()).get();
-        Object key = getCacheKey(cache, binding.keyGenerator(), cacheKeyParameterPositions, invocationContext.getMethod(),
-                invocationContext.getParameters());
+        Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
+                interceptionContext.getCacheKeyFactory(), invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Invalidating entry with key [%s] from cache [%s]", key, binding.cacheName());
         return cache.invalidate(key);
     }
@@ -0,0 +1,12 @@
+package io.quarkus.cache.runtime;
+
+/**
+ * Creates the cache key of a method annotated with {@link io.quarkus.cache.CacheResult CacheResult} or
+ * {@link io.quarkus.cache.CacheInvalidate CacheInvalidate} when that key is composed of several of the method arguments. The
+ * implementations are generated at build time, along with a specialized {@link io.quarkus.cache.CompositeCacheKey
+ * CompositeCacheKey} subclass which stores the key elements in typed fields.
+ */
+public interface CacheKeyFactory {
+
+    Object create(Object[] methodParameterValues);
+}
@@ -13,11 +13,12 @@
  * <ul>
  * <li>it is annotated with {@link io.quarkus.cache.CacheResult CacheResult} or {@link io.quarkus.cache.CacheInvalidate
  * CacheInvalidate}</li>
- * <li>at least one of its arguments is annotated with {@link io.quarkus.cache.CacheKey CacheKey}</li>
+ * <li>at least one of its arguments is annotated with {@link io.quarkus.cache.CacheKey CacheKey} or its cache key is composed
+ * of several arguments</li>
  * </ul>
  * It helps improving performances by storing at build time the positions of {@link io.quarkus.cache.CacheKey
  * CacheKey}-annotated arguments instead of relying on reflection at run time (which is bad for performances) to identify these
- * positions.
+ * positions, and the {@link CacheKeyFactory} generated for the method if its cache key is composed of several arguments.
  */
 @InterceptorBinding
 @Retention(RetentionPolicy.RUNTIME)
@@ -26,4 +27,7 @@
 
     @Nonbinding
     short[] value() default {};
+
+    @Nonbinding
+    Class<? extends CacheKeyFactory> keyFactory() default UndefinedCacheKeyFactory.class;
 }
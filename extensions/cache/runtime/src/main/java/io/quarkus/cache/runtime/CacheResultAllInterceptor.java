@@ -0,0 +1,89 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheResultAll;
+
+@CacheResultAll(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class CacheResultAllInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheResultAllInterceptor.class);
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResultAll interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    @AroundInvoke
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<CacheResultAll> interceptionContext = getInterceptionContext(invocationContext,
+                CacheResultAll.class, true);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        CacheResultAll binding = interceptionContext.getInterceptorBindings().get(0);
+        Cache cache = cacheManager.getCache(binding.cacheName()).get();
+        // The keys collection position is validated at build time.
+        int keysPosition = interceptionContext.getCacheKeyParameterPositions().isEmpty() ? 0
+                : interceptionContext.getCacheKeyParameterPositions().get(0);
+        Object[] parameters = invocationContext.getParameters();
+        @SuppressWarnings("unchecked")
+        Collection<Object> keys = (Collection<Object>) parameters[keysPosition];
+        if (keys == null) {
+            return invocationContext.proceed();
+        }
+        checkBlockingAllowed(cache, invocationContext.getMethod());
+        Class<?> keysType = invocationContext.getMethod().getParameterTypes()[keysPosition];
+        LOGGER.debugf("Loading %s entries from cache [%s]", keys.size(), binding.cacheName());
+
+        try {
+            return cache.getAll(keys, new Function<Set<Object>, Map<Object, Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Map<Object, Object> apply(Set<Object> missingKeys) {
+                    LOGGER.debugf("Adding %s entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                    Object[] missingKeysParameters = parameters.clone();
+                    missingKeysParameters[keysPosition] = toKeysParameter(missingKeys, keysType);
+                    invocationContext.setParameters(missingKeysParameters);
+                    try {
+                        return (Map<Object, Object>) invocationContext.proceed();
+                    } catch (CacheException e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new CacheException(e);
+                    }
+                }
+            }).await().indefinitely();
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private static Collection<Object> toKeysParameter(Set<Object> keys, Class<?> keysType) {
+        // The keys parameter is declared as a Collection, a List or a Set.
+        if (keysType.isAssignableFrom(List.class)) {
+            return new ArrayList<>(keys);
+        }
+        return keys;
+    }
+}
@@ -1,21 +1,31 @@
 package io.quarkus.cache.runtime;
 
+import java.lang.annotation.Annotation;
 import java.time.Duration;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.annotation.Priority;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Intercepted;
+import javax.inject.Inject;
+import javax.inject.Singleton;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CacheResult;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @CacheResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
 @Interceptor
@@ -25,6 +35,10 @@ public class CacheResultInterceptor extends CacheInterceptor {
     private static final Logger LOGGER = Logger.getLogger(CacheResultInterceptor.class);
     private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
+    @Inject
+    @Intercepted
+    InjectableBean<?> interceptedBean;
+
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Throwable {
         /*
@@ -47,7 +61,7 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
-                invocationContext.getMethod(), invocationContext.getParameters());
+                interceptionContext.getCacheKeyFactory(), invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
 
         try {
@@ -78,6 +92,10 @@ public Uni<?> apply(Object emittedValue) {
                                 throw new CacheException(e);
                             }
                         } else {
+                            Object refreshToken = cache.claimRefresh(key);
+                            if (refreshToken != null) {
+                                refreshAsync(cache, key, refreshToken, invocationContext, returnType);
+                            }
                             return Uni.createFrom().item(value);
                         }
                     }
@@ -100,6 +118,7 @@ public Uni<?> get() {
                         });
                 return createAsyncResult(cacheValue, returnType);
             } else {
+                checkBlockingAllowed(cache, invocationContext.getMethod());
                 Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
                     @Override
                     public Object apply(Object k) {
@@ -130,6 +149,14 @@ public Object apply(Object k) {
                         return invocationContext.proceed();
                     }
                 }
+                Object refreshToken = cache.claimRefresh(key);
+                if (refreshToken != null) {
+                    if (isRefreshableInBackground()) {
+                        refresh(cache, key, refreshToken, invocationContext);
+                    } else {
+                        return reload(cache, key, refreshToken, value, invocationContext);
+                    }
+                }
                 return value;
             }
 
@@ -142,4 +169,93 @@ public Object apply(Object k) {
         }
     }
 
+    /*
+     * The invocation context can only be used after the intercepted invocation returned if the target instance outlives it.
+     */
+    private boolean isRefreshableInBackground() {
+        if (interceptedBean == null) {
+            return false;
+        }
+        Class<? extends Annotation> scope = interceptedBean.getScope();
+        return scope == ApplicationScoped.class || scope == Singleton.class;
+    }
+
+    /*
+     * The current value is returned while the new value is computed on a worker thread. A new request context is activated
+     * because the context of the current request may be terminated before the value is reloaded.
+     */
+    private void refresh(AbstractCache cache, Object key, Object refreshToken, InvocationContext invocationContext) {
+        Infrastructure.getDefaultWorkerPool().execute(new Runnable() {
+            @Override
+            public void run() {
+                ManagedContext requestContext = Arc.container().requestContext();
+                boolean activated = false;
+                if (!requestContext.isActive()) {
+                    requestContext.activate();
+                    activated = true;
+                }
+                try {
+                    LOGGER.debugf("Refreshing entry with key [%s] from cache [%s]", key, cache.getName());
+                    cache.replaceRefreshedValue(key, refreshToken, invocationContext.proceed()).await().indefinitely();
+                } catch (Throwable t) {
+                    logRefreshFailure(cache, key, t);
+                } finally {
+                    if (activated) {
+                        requestContext.terminate();
+                    }
+                }
+            }
+        });
+    }
+
+    /*
+     * The target instance may be destroyed once the intercepted invocation returned, so the value is reloaded by the current
+     * invocation. The current value is returned if the reload fails.
+     */
+    private Object reload(AbstractCache cache, Object key, Object refreshToken, Object currentValue,
+            InvocationContext invocationContext) {
+        LOGGER.debugf("Reloading entry with key [%s] from cache [%s]", key, cache.getName());
+        try {
+            Object reloadedValue = invocationContext.proceed();
+            cache.replaceRefreshedValue(key, refreshToken, reloadedValue).await().indefinitely();
+            return reloadedValue;
+        } catch (Throwable t) {
+            logRefreshFailure(cache, key, t);
+            return currentValue;
+        }
+    }
+
+    /*
+     * The current value is emitted while the Uni returned by the intercepted method is subscribed in the background.
+     */
+    private void refreshAsync(AbstractCache cache, Object key, Object refreshToken, InvocationContext invocationContext,
+            ReturnType returnType) {
+        LOGGER.debugf("Refreshing entry with key [%s] from cache [%s]", key, cache.getName());
+        try {
+            asyncInvocationResultToUni(invocationContext.proceed(), returnType)
+                    .call(new Function<Object, Uni<?>>() {
+                        @Override
+                        public Uni<?> apply(Object emittedValue) {
+                            return cache.replaceRefreshedValue(key, refreshToken, emittedValue);
+                        }
+                    })
+                    .subscribe().with(new Consumer<Object>() {
+                        @Override
+                        public void accept(Object ignored) {
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable failure) {
+                            logRefreshFailure(cache, key, failure);
+                        }
+                    });
+        } catch (Exception e) {
+            logRefreshFailure(cache, key, e);
+        }
+    }
+
+    private static void logRefreshFailure(AbstractCache cache, Object key, Throwable failure) {
+        // The entry is kept, it will be refreshed again after the refresh-after-write delay
+        LOGGER.warnf(failure, "Unable to refresh entry with key [%s] from cache [%s]", key, cache.getName());
+    }
 }
@@ -0,0 +1,12 @@
+package io.quarkus.cache.runtime;
+
+/**
+ * This {@link CacheKeyFactory} implementation is ignored by {@link CacheInterceptor} when a cache key is computed.
+ */
+public class UndefinedCacheKeyFactory implements CacheKeyFactory {
+
+    @Override
+    public Object create(Object[] methodParameterValues) {
+        throw new UnsupportedOperationException("This cache key factory should never be invoked");
+    }
+}
@@ -1,11 +1,17 @@
 package io.quarkus.cache.runtime.caffeine;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -21,6 +27,7 @@
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -35,9 +42,11 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
 
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
+    private final long refreshAfterWriteNanos;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
+        this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite != null ? cacheInfo.refreshAfterWrite.toNanos() : 0L;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
@@ -135,7 +144,7 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
             statsCounter.recordMisses(1);
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toCacheValue(value));
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
@@ -148,6 +157,156 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         }
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Objects.requireNonNull(keys);
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                return getAllFromCaffeine(keys, bulkLoader);
+            }
+        });
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} holding the cache values identified by {@code keys}. The missing entries are
+     * reserved with a placeholder just like in {@link #getFromCaffeine(Object, Function)}, so concurrent calls never compute
+     * the same entry twice, and their values are computed with a single {@code bulkLoader} call on the calling thread. The
+     * entries still holding the {@link UnresolvedUniValue} placeholder are loaded by the same call but are not cached since the
+     * pending {@code Uni} stores its own value. An entry whose {@code Uni} starts resolving while this method waits for a
+     * concurrent computation is omitted from the result.
+     */
+    private <K, V> CompletableFuture<Map<K, V>> getAllFromCaffeine(Collection<K> keys,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, CompletableFuture<Object>> cacheValues = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> newCacheValues = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> unresolvedCacheValues = new LinkedHashMap<>();
+        // The keys are passed to the bulk loader in the iteration order of keys
+        Set<K> loadedKeys = new LinkedHashSet<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            if (cacheValues.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+            CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+            if (existingCacheValue == null) {
+                newCacheValues.put(key, newCacheValue);
+                cacheValues.put(key, newCacheValue);
+                loadedKeys.add(key);
+            } else if (existingCacheValue.getNow(null) == UnresolvedUniValue.INSTANCE) {
+                // The value is loaded with the missing ones but it is only completed locally
+                unresolvedCacheValues.put(key, newCacheValue);
+                cacheValues.put(key, newCacheValue);
+                loadedKeys.add(key);
+            } else {
+                cacheValues.put(key, existingCacheValue);
+            }
+        }
+        statsCounter.recordHits(cacheValues.size() - loadedKeys.size());
+        statsCounter.recordMisses(loadedKeys.size());
+
+        if (!loadedKeys.isEmpty()) {
+            LOGGER.debugf("Loading %s missing entries out of %s from cache [%s]", loadedKeys.size(), cacheValues.size(),
+                    cacheInfo.name);
+            Map<K, V> loadedValues = null;
+            Throwable failure = null;
+            try {
+                loadedValues = bulkLoader.apply(Collections.unmodifiableSet(loadedKeys));
+            } catch (Throwable t) {
+                failure = t;
+            }
+            for (Map.Entry<K, CompletableFuture<Object>> entry : newCacheValues.entrySet()) {
+                CompletableFuture<Object> newCacheValue = entry.getValue();
+                if (failure != null) {
+                    cache.asMap().remove(entry.getKey(), newCacheValue);
+                    newCacheValue.complete(new CaffeineComputationThrowable(failure));
+                    continue;
+                }
+                V value = loadedValues != null ? loadedValues.get(entry.getKey()) : null;
+                if (value == null) {
+                    // The concurrent calls waiting for this entry will omit it as well
+                    cache.asMap().remove(entry.getKey(), newCacheValue);
+                }
+                newCacheValue.complete(toCacheValue(value));
+            }
+            for (Map.Entry<K, CompletableFuture<Object>> entry : unresolvedCacheValues.entrySet()) {
+                if (failure != null) {
+                    entry.getValue().complete(new CaffeineComputationThrowable(failure));
+                } else {
+                    entry.getValue().complete(toCacheValue(loadedValues != null ? loadedValues.get(entry.getKey()) : null));
+                }
+            }
+        }
+
+        Map<K, CompletableFuture<Object>> unwrappedValues = new LinkedHashMap<>();
+        for (Map.Entry<K, CompletableFuture<Object>> entry : cacheValues.entrySet()) {
+            unwrappedValues.put(entry.getKey(), unwrapCacheValueOrThrowable(entry.getValue()));
+        }
+        return CompletableFuture.allOf(unwrappedValues.values().toArray(new CompletableFuture[0]))
+                .thenApply(new Function<Void, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Void ignored) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        for (Map.Entry<K, CompletableFuture<Object>> entry : unwrappedValues.entrySet()) {
+                            Object value = entry.getValue().join();
+                            if (value != null && value != UnresolvedUniValue.INSTANCE) {
+                                result.put(entry.getKey(), cast(value));
+                            }
+                        }
+                        return result;
+                    }
+                });
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value
+     * asynchronously from {@code valueLoader} if necessary. Concurrent calls with the same key share the same computation and
+     * the entry is removed from the cache if the computation fails. This method is used by the near caches, which load their
+     * values from a remote cache without blocking.
+     *
+     * @param key cache key
+     * @param valueLoader function used to start the cache value computation if {@code key} is not already associated with a
+     *        value
+     * @return a {@link CompletableFuture} holding the cache value
+     */
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        /*
+         * The entry is reserved the same way as in getFromCaffeine: the value loader is called and completed outside of the
+         * map lock, so a slow or blocking loader never holds the lock of the unrelated keys sharing the same bin.
+         */
+        CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+        CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+        if (existingCacheValue != null) {
+            LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
+            statsCounter.recordHits(1);
+            return unwrapCacheValueOrThrowable(existingCacheValue);
+        }
+        statsCounter.recordMisses(1);
+        CompletionStage<Object> loadedValue;
+        try {
+            loadedValue = valueLoader.apply(key);
+        } catch (Throwable t) {
+            loadedValue = CompletableFuture.failedFuture(t);
+        }
+        loadedValue.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable failure) {
+                if (failure == null) {
+                    newCacheValue.complete(toCacheValue(value));
+                } else {
+                    cache.asMap().remove(key, newCacheValue);
+                    if (failure instanceof CompletionException && failure.getCause() != null) {
+                        failure = failure.getCause();
+                    }
+                    newCacheValue.complete(new CaffeineComputationThrowable(failure));
+                }
+            }
+        });
+        return unwrapCacheValueOrThrowable(newCacheValue);
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -161,12 +320,28 @@ public Object apply(Object value) {
                         throw new CacheException(cause);
                     }
                 } else {
-                    return NullValueConverter.fromCacheValue(value);
+                    return fromCacheValue(value);
                 }
             }
         });
     }
 
+    private Object toCacheValue(Object value) {
+        Object cacheValue = NullValueConverter.toCacheValue(value);
+        // An UnresolvedUniValue is not refreshed, it is replaced with a refreshable value once the Uni is resolved
+        if (refreshAfterWriteNanos > 0 && cacheValue != UnresolvedUniValue.INSTANCE) {
+            return new RefreshableCacheValue(cacheValue, refreshAfterWriteNanos);
+        }
+        return cacheValue;
+    }
+
+    private static Object fromCacheValue(Object cacheValue) {
+        if (cacheValue instanceof RefreshableCacheValue) {
+            cacheValue = ((RefreshableCacheValue) cacheValue).value;
+        }
+        return NullValueConverter.fromCacheValue(cacheValue);
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -205,7 +380,7 @@ public CompletableFuture<Object> apply(Object k, CompletableFuture<Object> curre
                                  * The following computed value will always replace the current cache value (whether it is an
                                  * UnresolvedUniValue or not) if this method is called multiple times with the same key.
                                  */
-                                return CompletableFuture.completedFuture(NullValueConverter.toCacheValue(emittedValue));
+                                return CompletableFuture.completedFuture(toCacheValue(emittedValue));
                             }
                         });
                 return null;
@@ -213,6 +388,45 @@ public CompletableFuture<Object> apply(Object k, CompletableFuture<Object> curre
         });
     }
 
+    /**
+     * The refresh token is the {@link RefreshableCacheValue} instance holding the current value.
+     */
+    @Override
+    public Object claimRefresh(Object key) {
+        if (refreshAfterWriteNanos == 0) {
+            return null;
+        }
+        // The map view is used to avoid recording a cache hit
+        CompletableFuture<Object> cacheValue = cache.asMap().get(key);
+        if (cacheValue == null || !cacheValue.isDone() || cacheValue.isCompletedExceptionally()) {
+            return null;
+        }
+        Object value = cacheValue.getNow(null);
+        if (value instanceof RefreshableCacheValue && ((RefreshableCacheValue) value).claimRefresh(refreshAfterWriteNanos)) {
+            LOGGER.debugf("Entry with key [%s] from cache [%s] will be refreshed", key, cacheInfo.name);
+            return value;
+        }
+        return null;
+    }
+
+    @Override
+    public Uni<Boolean> replaceRefreshedValue(Object key, Object refreshToken, Object reloadedValue) {
+        return Uni.createFrom().item(new Supplier<Boolean>() {
+            @Override
+            public Boolean get() {
+                CompletableFuture<Object> currentValue = cache.asMap().get(key);
+                // The entry is only replaced if it still holds the value which was refreshed
+                if (currentValue == null || !currentValue.isDone() || currentValue.isCompletedExceptionally()
+                        || currentValue.getNow(null) != refreshToken) {
+                    LOGGER.debugf("Entry with key [%s] from cache [%s] changed while it was refreshed, the reloaded value is "
+                            + "discarded", key, cacheInfo.name);
+                    return false;
+                }
+                return cache.asMap().replace(key, currentValue, CompletableFuture.completedFuture(toCacheValue(reloadedValue)));
+            }
+        });
+    }
+
     @Override
     public Set<Object> keySet() {
         return Collections.unmodifiableSet(new HashSet<>(cache.asMap().keySet()));
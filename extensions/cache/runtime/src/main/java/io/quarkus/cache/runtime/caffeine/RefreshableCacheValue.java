@@ -0,0 +1,29 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps the cache values of a Caffeine cache configured with a refresh-after-write delay. It holds the time after which the
+ * value should be reloaded.
+ */
+final class RefreshableCacheValue {
+
+    final Object value;
+
+    private final AtomicLong refreshTime;
+
+    RefreshableCacheValue(Object value, long refreshAfterWriteNanos) {
+        this.value = value;
+        this.refreshTime = new AtomicLong(System.nanoTime() + refreshAfterWriteNanos);
+    }
+
+    /**
+     * Returns {@code true} if the refresh time has been reached and no other caller claimed the refresh. The next refresh
+     * time is then postponed by {@code refreshAfterWriteNanos} in case the reload fails.
+     */
+    boolean claimRefresh(long refreshAfterWriteNanos) {
+        long time = refreshTime.get();
+        long now = System.nanoTime();
+        return now - time >= 0 && refreshTime.compareAndSet(time, now + refreshAfterWriteNanos);
+    }
+}
@@ -7,4 +7,6 @@ public interface MetricsInitializer {
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    void recordRemoteMetrics(RemoteCacheStats stats, String cacheName);
 }
@@ -4,6 +4,7 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
@@ -26,4 +27,22 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordRemoteMetrics(RemoteCacheStats stats, String cacheName) {
+        LOGGER.tracef("Initializing Micrometer remote metrics for cache [%s]", cacheName);
+        // The near cache metrics use the Caffeine names, the remote level metrics use the "cache.remote" prefix.
+        FunctionCounter.builder("cache.remote.gets", stats, RemoteCacheStats::hitCount)
+                .tags("cache", cacheName, "result", "hit")
+                .description("The number of times the remote cache lookups returned a cached value")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.remote.gets", stats, RemoteCacheStats::missCount)
+                .tags("cache", cacheName, "result", "miss")
+                .description("The number of times the remote cache lookups did not return a cached value")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.remote.invalidations", stats, RemoteCacheStats::receivedInvalidationCount)
+                .tags("cache", cacheName)
+                .description("The number of invalidation messages received by the near cache")
+                .register(Metrics.globalRegistry);
+    }
 }
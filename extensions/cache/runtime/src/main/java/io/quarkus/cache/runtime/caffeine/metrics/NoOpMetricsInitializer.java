@@ -22,4 +22,10 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public void recordRemoteMetrics(RemoteCacheStats stats, String cacheName) {
+        LOGGER.tracef("Initializing no-op remote metrics for cache [%s]", cacheName);
+        // Do nothing more.
+    }
 }
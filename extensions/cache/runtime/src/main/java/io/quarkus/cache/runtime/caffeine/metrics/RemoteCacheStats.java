@@ -0,0 +1,37 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the remote level of a two-level cache. The statistics of the near cache are recorded by Caffeine.
+ */
+public class RemoteCacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder receivedInvalidations = new LongAdder();
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordReceivedInvalidation() {
+        receivedInvalidations.increment();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long receivedInvalidationCount() {
+        return receivedInvalidations.sum();
+    }
+}
@@ -1,5 +1,11 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -29,6 +35,26 @@ public V get() {
         });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                Map<K, V> loadedValues = bulkLoader.apply(Collections.unmodifiableSet(new LinkedHashSet<>(keys)));
+                Map<K, V> result = new LinkedHashMap<>();
+                if (loadedValues != null) {
+                    for (K key : keys) {
+                        V value = loadedValues.get(key);
+                        if (value != null) {
+                            result.put(key, value);
+                        }
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().voidItem();
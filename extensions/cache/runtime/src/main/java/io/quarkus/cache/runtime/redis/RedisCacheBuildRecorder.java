@@ -0,0 +1,88 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.RemoteCacheStats;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class RedisCacheBuildRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheBuildRecorder.class);
+
+    public Supplier<CacheManager> getCacheManagerSupplier(Set<RedisCacheInfo> cacheInfos,
+            MetricsInitializer metricsInitializer) {
+        Objects.requireNonNull(cacheInfos);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (cacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    // The Redis data source is created at runtime init, it is looked up lazily when a cache is first used.
+                    Supplier<ReactiveRedisDataSource> dataSourceSupplier = new Supplier<ReactiveRedisDataSource>() {
+                        @Override
+                        public ReactiveRedisDataSource get() {
+                            return Arc.container().instance(RedisCacheDataSourceHolder.class).get().getDataSource();
+                        }
+                    };
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+                    Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                    for (RedisCacheInfo cacheInfo : cacheInfos) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debugf(
+                                    "Building Redis cache [%s] with [keyPrefix=%s], [expireAfterWrite=%s], [valueType=%s], [valueCodec=%s] "
+                                            + "and [nearCache=%s]",
+                                    cacheInfo.name, cacheInfo.keyPrefix, cacheInfo.expireAfterWrite, cacheInfo.valueType,
+                                    cacheInfo.valueCodec, cacheInfo.nearCache != null);
+                        }
+                        RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, createValueCodec(cacheInfo), dataSourceSupplier);
+                        if (cacheInfo.nearCache == null) {
+                            caches.put(cacheInfo.name, cache);
+                        } else {
+                            CaffeineCacheImpl nearCache = CaffeineCacheBuildRecorder.buildCache(cacheInfo.nearCache,
+                                    metricsInitializer);
+                            RemoteCacheStats remoteStats = new RemoteCacheStats();
+                            if (metricsInitializer.metricsEnabled() && cacheInfo.nearCache.metricsEnabled) {
+                                metricsInitializer.recordRemoteMetrics(remoteStats, cacheInfo.name);
+                            }
+                            caches.put(cacheInfo.name,
+                                    new TwoLevelCacheImpl(nearCache, cache, dataSourceSupplier, remoteStats));
+                        }
+                    }
+                    return new CacheManagerImpl(caches);
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<Object> createValueCodec(RedisCacheInfo cacheInfo) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            if (cacheInfo.valueCodec != null) {
+                return (Codec<Object>) classLoader.loadClass(cacheInfo.valueCodec).getDeclaredConstructor().newInstance();
+            }
+            return (Codec<Object>) Codecs.getDefaultCodecFor(classLoader.loadClass(cacheInfo.valueType));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the value codec of cache [" + cacheInfo.name + "]", e);
+        }
+    }
+}
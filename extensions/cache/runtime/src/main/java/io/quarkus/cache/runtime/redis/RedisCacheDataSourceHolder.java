@@ -0,0 +1,19 @@
+package io.quarkus.cache.runtime.redis;
+
+import javax.inject.Inject;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+
+/**
+ * This bean is only registered if the Redis cache type is used. Its injection point makes sure the default Redis data
+ * source is created by the Redis client extension.
+ */
+public class RedisCacheDataSourceHolder {
+
+    @Inject
+    ReactiveRedisDataSource dataSource;
+
+    public ReactiveRedisDataSource getDataSource() {
+        return dataSource;
+    }
+}
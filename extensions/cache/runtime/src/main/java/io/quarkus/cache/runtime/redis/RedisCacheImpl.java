@@ -0,0 +1,454 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.keys.KeyScanArgs;
+import io.quarkus.redis.datasource.keys.ReactiveKeyCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.datasource.value.SetArgs;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * The cache entries are stored in Redis under the {@code <keyPrefix>:<key>} keys, where the cache key is converted with
+ * {@link String#valueOf(Object)}. The cache keys must therefore be instances of classes overriding {@link Object#toString()},
+ * which is checked before each Redis command. The values are encoded with a {@link Codec}. {@code null} values are never
+ * stored.
+ * <p>
+ * Unlike {@link io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl}, concurrent computations of the same missing entry are
+ * not serialized: each caller computes the value and the last write wins. A failure of the Redis server never fails the
+ * {@link #get(Object, Function)} calls, the cache is bypassed instead.
+ */
+public class RedisCacheImpl extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheImpl.class);
+
+    // The number of keys requested from Redis per SCAN iteration and deleted per DEL command when all entries are invalidated
+    private static final int INVALIDATE_ALL_BATCH_SIZE = 100;
+
+    /*
+     * The identity based toString() representation inherited from Object would store equal keys under different Redis keys
+     * and could even map different keys to the same Redis key once their identity hash codes collide.
+     */
+    private static final ClassValue<Boolean> TO_STRING_OVERRIDDEN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("toString").getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    /*
+     * The elements of a composite key are part of its toString() representation, so they are checked as well. The method is
+     * overridden by the key classes generated at build time and is registered for reflection by the build step.
+     */
+    private static final Method GET_KEY_ELEMENTS;
+
+    static {
+        try {
+            GET_KEY_ELEMENTS = CompositeCacheKey.class.getDeclaredMethod("getKeyElements");
+            GET_KEY_ELEMENTS.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final RedisCacheInfo cacheInfo;
+    private final Codec<Object> valueCodec;
+    private final Supplier<ReactiveRedisDataSource> dataSourceSupplier;
+    private final SetArgs setArgs;
+
+    private volatile ReactiveValueCommands<String, byte[]> valueCommands;
+    private volatile ReactiveKeyCommands<String> keyCommands;
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Codec<Object> valueCodec,
+            Supplier<ReactiveRedisDataSource> dataSourceSupplier) {
+        this.cacheInfo = cacheInfo;
+        this.valueCodec = valueCodec;
+        this.dataSourceSupplier = dataSourceSupplier;
+        this.setArgs = cacheInfo.expireAfterWrite != null ? new SetArgs().px(cacheInfo.expireAfterWrite) : null;
+    }
+
+    @Override
+    public String getName() {
+        return cacheInfo.name;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = toRedisKey(key);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                if (BlockingOperationControl.isBlockingAllowed()) {
+                    /*
+                     * The value loader is executed on the calling thread, just like with Caffeine. This is required for the
+                     * non-async @CacheResult methods which may depend on thread-bound state, e.g. the request context.
+                     */
+                    Object cachedValue = read(redisKey).await().indefinitely();
+                    if (cachedValue != null) {
+                        return Uni.createFrom().item(cast(cachedValue));
+                    }
+                    V value = valueLoader.apply(key);
+                    write(redisKey, value).await().indefinitely();
+                    return Uni.createFrom().item(value);
+                } else {
+                    // Make sure the value loader is executed on the calling context and not on the Redis connection context
+                    Executor executor = currentContextExecutor();
+                    return read(redisKey).emitOn(executor).onItem().transformToUni(new Function<Object, Uni<? extends V>>() {
+                        @Override
+                        public Uni<? extends V> apply(Object cachedValue) {
+                            if (cachedValue != null) {
+                                return Uni.createFrom().item(cast(cachedValue));
+                            }
+                            V value = valueLoader.apply(key);
+                            return write(redisKey, value).replaceWith(value);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    /**
+     * The cached values are read with a single MGET command and the missing values are loaded with a single
+     * {@code bulkLoader} call, on the calling thread or context just like in {@link #get(Object, Function)}.
+     */
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Objects.requireNonNull(keys);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> get() {
+                Map<K, String> redisKeys = new LinkedHashMap<>();
+                for (K key : keys) {
+                    Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+                    redisKeys.put(key, toRedisKey(key));
+                }
+                if (redisKeys.isEmpty()) {
+                    return Uni.createFrom().item(new LinkedHashMap<>());
+                }
+                if (BlockingOperationControl.isBlockingAllowed()) {
+                    Map<String, Object> cachedValues = readAll(redisKeys.values()).await().indefinitely();
+                    return loadMissing(redisKeys, cachedValues, bulkLoader);
+                } else {
+                    Executor executor = currentContextExecutor();
+                    return readAll(redisKeys.values()).emitOn(executor)
+                            .onItem().transformToUni(new Function<Map<String, Object>, Uni<? extends Map<K, V>>>() {
+                                @Override
+                                public Uni<? extends Map<K, V>> apply(Map<String, Object> cachedValues) {
+                                    return loadMissing(redisKeys, cachedValues, bulkLoader);
+                                }
+                            });
+                }
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                return keyCommands().del(toRedisKey(key)).replaceWithVoid();
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                ReactiveKeyCommands<String> keys = keyCommands();
+                KeyScanArgs scanArgs = new KeyScanArgs().match(cacheInfo.keyPrefix + ":*").count(INVALIDATE_ALL_BATCH_SIZE);
+                return keys.scan(scanArgs).toMulti()
+                        .group().intoLists().of(INVALIDATE_ALL_BATCH_SIZE)
+                        .onItem().transformToUniAndConcatenate(new Function<List<String>, Uni<? extends Integer>>() {
+                            @Override
+                            public Uni<? extends Integer> apply(List<String> batch) {
+                                return keys.del(batch.toArray(new String[0]));
+                            }
+                        })
+                        .collect().asList()
+                        .invoke(new Consumer<List<Integer>>() {
+                            @Override
+                            public void accept(List<Integer> deleted) {
+                                if (LOGGER.isDebugEnabled()) {
+                                    LOGGER.debugf("Removed %s entries from cache [%s]",
+                                            deleted.stream().mapToInt(Integer::intValue).sum(), cacheInfo.name);
+                                }
+                            }
+                        })
+                        .replaceWithVoid();
+            }
+        });
+    }
+
+    /**
+     * The {@link UnresolvedUniValue} placeholder is never stored in Redis, so the entry is always written here, even if it
+     * was invalidated while the {@link Uni} was being resolved.
+     */
+    @Override
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                LOGGER.debugf("Replacing Uni value entry with key [%s] into cache [%s]", key, cacheInfo.name);
+                return write(toRedisKey(key), emittedValue);
+            }
+        });
+    }
+
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+
+    // For testing purposes only.
+    public RedisCacheInfo getCacheInfo() {
+        return cacheInfo;
+    }
+
+    String toRedisKey(Object key) {
+        checkToStringOverridden(key);
+        return cacheInfo.keyPrefix + ":" + key;
+    }
+
+    private void checkToStringOverridden(Object key) {
+        if (!TO_STRING_OVERRIDDEN.get(key.getClass())) {
+            throw new IllegalArgumentException("The cache key type [" + key.getClass().getName()
+                    + "] does not override toString() and cannot be stored in the Redis cache [" + cacheInfo.name + "]");
+        }
+        if (key instanceof CompositeCacheKey) {
+            for (Object element : getKeyElements((CompositeCacheKey) key)) {
+                if (element != null) {
+                    checkToStringOverridden(element);
+                }
+            }
+        }
+    }
+
+    private static Object[] getKeyElements(CompositeCacheKey key) {
+        try {
+            return (Object[]) GET_KEY_ELEMENTS.invoke(key);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw new CacheException(e.getCause());
+        }
+    }
+
+    private <K, V> Uni<Map<K, V>> loadMissing(Map<K, String> redisKeys, Map<String, Object> cachedValues,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        Set<K> missingKeys = new LinkedHashSet<>();
+        for (Map.Entry<K, String> entry : redisKeys.entrySet()) {
+            if (cachedValues.get(entry.getValue()) == null) {
+                missingKeys.add(entry.getKey());
+            }
+        }
+        Map<K, V> loadedValues = Collections.emptyMap();
+        List<Uni<Void>> writes = new ArrayList<>();
+        if (!missingKeys.isEmpty()) {
+            LOGGER.debugf("Loading %s missing entries out of %s from cache [%s]", missingKeys.size(), redisKeys.size(),
+                    cacheInfo.name);
+            Map<K, V> values = bulkLoader.apply(Collections.unmodifiableSet(missingKeys));
+            if (values != null) {
+                loadedValues = values;
+                for (K key : missingKeys) {
+                    V value = values.get(key);
+                    if (value != null) {
+                        writes.add(write(redisKeys.get(key), value));
+                    }
+                }
+            }
+        }
+        Map<K, V> result = new LinkedHashMap<>();
+        for (Map.Entry<K, String> entry : redisKeys.entrySet()) {
+            Object value = cachedValues.get(entry.getValue());
+            if (value == null) {
+                value = loadedValues.get(entry.getKey());
+            }
+            if (value != null) {
+                result.put(entry.getKey(), cast(value));
+            }
+        }
+        if (writes.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        return Uni.join().all(writes).andCollectFailures().replaceWith(result);
+    }
+
+    /**
+     * Returns a {@link Uni} holding the decoded cache value or {@code null} if the entry does not exist or cannot be read.
+     */
+    private Uni<Object> read(String redisKey) {
+        return valueCommands().get(redisKey)
+                .onItem().transform(new Function<byte[], Object>() {
+                    @Override
+                    public Object apply(byte[] payload) {
+                        return decode(redisKey, payload);
+                    }
+                })
+                .onFailure().recoverWithItem(new Function<Throwable, Object>() {
+                    @Override
+                    public Object apply(Throwable failure) {
+                        LOGGER.warnf(failure, "Unable to read key [%s] from cache [%s], the cache is bypassed", redisKey,
+                                cacheInfo.name);
+                        return null;
+                    }
+                });
+    }
+
+    /**
+     * Returns a {@link Uni} holding the decoded cache values by Redis key. A value is {@code null} if the entry does not exist
+     * or cannot be read.
+     */
+    private Uni<Map<String, Object>> readAll(Collection<String> redisKeys) {
+        return valueCommands().mget(redisKeys.toArray(new String[0]))
+                .onItem().transform(new Function<Map<String, byte[]>, Map<String, Object>>() {
+                    @Override
+                    public Map<String, Object> apply(Map<String, byte[]> payloads) {
+                        Map<String, Object> values = new HashMap<>();
+                        for (String redisKey : redisKeys) {
+                            values.put(redisKey, decode(redisKey, payloads.get(redisKey)));
+                        }
+                        return values;
+                    }
+                })
+                .onFailure().recoverWithItem(new Function<Throwable, Map<String, Object>>() {
+                    @Override
+                    public Map<String, Object> apply(Throwable failure) {
+                        LOGGER.warnf(failure, "Unable to read %s keys from cache [%s], the cache is bypassed", redisKeys.size(),
+                                cacheInfo.name);
+                        return Collections.emptyMap();
+                    }
+                });
+    }
+
+    private Object decode(String redisKey, byte[] payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            Object value = valueCodec.decode(payload);
+            LOGGER.tracef("Key [%s] found in cache [%s]", redisKey, cacheInfo.name);
+            return value;
+        } catch (Exception e) {
+            // The entry was most likely written by a previous version of the application, it will be overwritten
+            LOGGER.warnf(e, "Unable to decode the value of key [%s] from cache [%s]", redisKey, cacheInfo.name);
+            return null;
+        }
+    }
+
+    private Uni<Void> write(String redisKey, Object value) {
+        if (value == null || value == UnresolvedUniValue.INSTANCE) {
+            return Uni.createFrom().voidItem();
+        }
+        byte[] payload;
+        try {
+            payload = valueCodec.encode(value);
+        } catch (Exception e) {
+            throw new CacheException("Unable to encode the value of key [" + redisKey + "] for cache [" + cacheInfo.name + "]",
+                    e);
+        }
+        Uni<Void> set = setArgs != null ? valueCommands().set(redisKey, payload, setArgs)
+                : valueCommands().set(redisKey, payload);
+        return set.onFailure().recoverWithItem(new Function<Throwable, Void>() {
+            @Override
+            public Void apply(Throwable failure) {
+                LOGGER.warnf(failure, "Unable to write key [%s] into cache [%s]", redisKey, cacheInfo.name);
+                return null;
+            }
+        });
+    }
+
+    private ReactiveValueCommands<String, byte[]> valueCommands() {
+        ReactiveValueCommands<String, byte[]> commands = valueCommands;
+        if (commands == null) {
+            commands = dataSourceSupplier.get().value(String.class, byte[].class);
+            valueCommands = commands;
+        }
+        return commands;
+    }
+
+    private ReactiveKeyCommands<String> keyCommands() {
+        ReactiveKeyCommands<String> commands = keyCommands;
+        if (commands == null) {
+            commands = dataSourceSupplier.get().key(String.class);
+            keyCommands = commands;
+        }
+        return commands;
+    }
+
+    private static Executor currentContextExecutor() {
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            return new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    command.run();
+                }
+            };
+        }
+        return new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                if (Vertx.currentContext() == context) {
+                    command.run();
+                } else {
+                    context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cast(Object value) {
+        try {
+            return (T) value;
+        } catch (ClassCastException e) {
+            throw new CacheException(
+                    "An existing cached value type does not match the type returned by the value loading function", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+
+public class RedisCacheInfo {
+
+    public String name;
+
+    /**
+     * The prefix of the Redis keys, the cache key is appended to it after a colon.
+     */
+    public String keyPrefix;
+
+    public Duration expireAfterWrite;
+
+    /**
+     * The fully qualified name of the type of the cached values.
+     */
+    public String valueType;
+
+    /**
+     * The fully qualified name of the {@link io.quarkus.redis.datasource.codecs.Codec} used to encode the cached values, or
+     * {@code null} if the default codec of {@link #valueType} is used.
+     */
+    public String valueCodec;
+
+    /**
+     * The configuration of the near cache, or {@code null} if the near cache is disabled.
+     */
+    public CaffeineCacheInfo nearCache;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof RedisCacheInfo) {
+            RedisCacheInfo other = (RedisCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
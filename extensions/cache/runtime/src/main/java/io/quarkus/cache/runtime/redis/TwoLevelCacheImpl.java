@@ -0,0 +1,371 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.metrics.RemoteCacheStats;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands.ReactiveRedisSubscriber;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * A Caffeine near cache in front of a Redis cache. The near cache entries are keyed by the Redis keys. When an entry is
+ * invalidated, an invalidation message is published on the {@code <keyPrefix>:invalidations} Redis channel so that the other
+ * application instances evict the entry from their near cache.
+ * <p>
+ * The near cache is bypassed until this instance is subscribed to the invalidation channel, and it is cleared if the
+ * subscription ends, because the invalidation messages published in the meantime are lost.
+ */
+public class TwoLevelCacheImpl extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(TwoLevelCacheImpl.class);
+
+    // The message published when all the entries are invalidated, it cannot be a Redis key because of the key prefix
+    static final String INVALIDATE_ALL_MESSAGE = "*";
+
+    private final CaffeineCacheImpl nearCache;
+    private final RedisCacheImpl remoteCache;
+    private final Supplier<ReactiveRedisDataSource> dataSourceSupplier;
+    private final RemoteCacheStats remoteStats;
+    private final String channel;
+
+    private final AtomicBoolean subscribing = new AtomicBoolean();
+    private volatile boolean subscribed;
+    private volatile ReactivePubSubCommands<String> pubSubCommands;
+
+    public TwoLevelCacheImpl(CaffeineCacheImpl nearCache, RedisCacheImpl remoteCache,
+            Supplier<ReactiveRedisDataSource> dataSourceSupplier, RemoteCacheStats remoteStats) {
+        this.nearCache = nearCache;
+        this.remoteCache = remoteCache;
+        this.dataSourceSupplier = dataSourceSupplier;
+        this.remoteStats = remoteStats;
+        this.channel = remoteCache.getCacheInfo().keyPrefix + ":invalidations";
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                if (!ensureSubscribed()) {
+                    return getFromRemoteCache(key, valueLoader);
+                }
+                // The remote cache is only queried if the near cache does not contain the key yet
+                return Uni.createFrom().completionStage(nearCache.getAsync(remoteCache.toRedisKey(key),
+                        new Function<Object, CompletionStage<Object>>() {
+                            @Override
+                            public CompletionStage<Object> apply(Object redisKey) {
+                                return getFromRemoteCache(key, valueLoader).onItem().castTo(Object.class)
+                                        .subscribeAsCompletionStage();
+                            }
+                        })).map(new Function<Object, V>() {
+                            @Override
+                            public V apply(Object value) {
+                                return cast(value);
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * The values found in the near cache are served first, the other keys are retrieved from the remote cache which then
+     * calls {@code bulkLoader} with the keys missing from both levels.
+     */
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Objects.requireNonNull(keys);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> get() {
+                if (!ensureSubscribed()) {
+                    return getAllFromRemoteCache(keys, bulkLoader);
+                }
+                Map<K, Object> nearValues = new HashMap<>();
+                List<K> remoteKeys = new ArrayList<>();
+                for (K key : keys) {
+                    Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+                    CompletableFuture<Object> nearValue = nearCache.getIfPresent(remoteCache.toRedisKey(key));
+                    // An entry which is still being loaded from the remote cache is retrieved from the remote cache again
+                    if (nearValue != null && nearValue.isDone() && !nearValue.isCompletedExceptionally()) {
+                        nearValues.put(key, nearValue.join());
+                    } else {
+                        remoteKeys.add(key);
+                    }
+                }
+                return getAllFromRemoteCache(remoteKeys, bulkLoader).map(new Function<Map<K, V>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Map<K, V> remoteValues) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        for (K key : keys) {
+                            Object value = nearValues.get(key);
+                            if (value == null) {
+                                value = remoteValues.get(key);
+                                if (value != null) {
+                                    nearCache.put(remoteCache.toRedisKey(key), CompletableFuture.completedFuture(value));
+                                }
+                            }
+                            if (value != null) {
+                                result.put(key, cast(value));
+                            }
+                        }
+                        return result;
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = remoteCache.toRedisKey(key);
+        return remoteCache.invalidate(key)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return nearCache.invalidate(redisKey);
+                    }
+                })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return pubSubCommands().publish(channel, redisKey);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return remoteCache.invalidateAll()
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return nearCache.invalidateAll();
+                    }
+                })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return pubSubCommands().publish(channel, INVALIDATE_ALL_MESSAGE);
+                    }
+                });
+    }
+
+    /**
+     * Both levels are updated. The near cache entry is only replaced if it still exists, the remote entry is always written.
+     */
+    @Override
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue) {
+        return nearCache.replaceUniValue(remoteCache.toRedisKey(key), emittedValue)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return remoteCache.replaceUniValue(key, emittedValue);
+                    }
+                });
+    }
+
+    /**
+     * The near cache entries are refreshed, the reloaded value then replaces the entry of both levels.
+     */
+    @Override
+    public Object claimRefresh(Object key) {
+        return subscribed ? nearCache.claimRefresh(remoteCache.toRedisKey(key)) : null;
+    }
+
+    /**
+     * The remote entry is only written if the near cache entry was replaced.
+     */
+    @Override
+    public Uni<Boolean> replaceRefreshedValue(Object key, Object refreshToken, Object reloadedValue) {
+        return nearCache.replaceRefreshedValue(remoteCache.toRedisKey(key), refreshToken, reloadedValue)
+                .call(new Function<Boolean, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(Boolean replaced) {
+                        return replaced ? remoteCache.replaceUniValue(key, reloadedValue) : Uni.createFrom().voidItem();
+                    }
+                });
+    }
+
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+
+    // For testing purposes only.
+    public CaffeineCacheImpl getNearCache() {
+        return nearCache;
+    }
+
+    // For testing purposes only.
+    public RedisCacheImpl getRemoteCache() {
+        return remoteCache;
+    }
+
+    private <K, V> Uni<V> getFromRemoteCache(K key, Function<K, V> valueLoader) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        return remoteCache.get(key, new Function<K, V>() {
+            @Override
+            public V apply(K k) {
+                loaded.set(true);
+                return valueLoader.apply(k);
+            }
+        }).invoke(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                if (loaded.get()) {
+                    remoteStats.recordMiss();
+                } else {
+                    remoteStats.recordHit();
+                }
+            }
+        });
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllFromRemoteCache(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        AtomicInteger loaded = new AtomicInteger();
+        return remoteCache.getAll(keys, new Function<Set<K>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Set<K> missingKeys) {
+                loaded.set(missingKeys.size());
+                return bulkLoader.apply(missingKeys);
+            }
+        }).invoke(new Consumer<Map<K, V>>() {
+            @Override
+            public void accept(Map<K, V> values) {
+                int misses = loaded.get();
+                for (int i = 0; i < misses; i++) {
+                    remoteStats.recordMiss();
+                }
+                for (int i = misses; i < keys.size(); i++) {
+                    remoteStats.recordHit();
+                }
+            }
+        });
+    }
+
+    /**
+     * Subscribes to the invalidation channel if needed.
+     *
+     * @return {@code true} if the near cache can be used
+     */
+    private boolean ensureSubscribed() {
+        if (subscribed) {
+            return true;
+        }
+        if (subscribing.compareAndSet(false, true)) {
+            pubSubCommands().subscribe(channel, new Consumer<String>() {
+                @Override
+                public void accept(String message) {
+                    onInvalidationMessage(message);
+                }
+            }, new Runnable() {
+                @Override
+                public void run() {
+                    onSubscriptionEnd(null);
+                }
+            }, new Consumer<Throwable>() {
+                @Override
+                public void accept(Throwable failure) {
+                    onSubscriptionEnd(failure);
+                }
+            }).subscribe().with(new Consumer<ReactiveRedisSubscriber>() {
+                @Override
+                public void accept(ReactiveRedisSubscriber subscriber) {
+                    LOGGER.debugf("Subscribed to the invalidation channel [%s] of cache [%s]", channel, getName());
+                    subscribed = true;
+                }
+            }, new Consumer<Throwable>() {
+                @Override
+                public void accept(Throwable failure) {
+                    LOGGER.warnf(failure, "Unable to subscribe to the invalidation channel [%s] of cache [%s]", channel,
+                            getName());
+                    subscribing.set(false);
+                }
+            });
+        }
+        return false;
+    }
+
+    private void onInvalidationMessage(String message) {
+        remoteStats.recordReceivedInvalidation();
+        Uni<Void> invalidation;
+        if (INVALIDATE_ALL_MESSAGE.equals(message)) {
+            LOGGER.debugf("Invalidating all entries from near cache [%s]", getName());
+            invalidation = nearCache.invalidateAll();
+        } else {
+            LOGGER.debugf("Invalidating entry with key [%s] from near cache [%s]", message, getName());
+            invalidation = nearCache.invalidate(message);
+        }
+        // The near cache invalidation is synchronous, this is not blocking the I/O thread
+        invalidation.subscribe().with(new Consumer<Void>() {
+            @Override
+            public void accept(Void ignored) {
+            }
+        });
+    }
+
+    private void onSubscriptionEnd(Throwable failure) {
+        if (failure != null) {
+            LOGGER.warnf(failure, "The subscription to the invalidation channel [%s] of cache [%s] failed, the near cache is "
+                    + "cleared", channel, getName());
+        } else {
+            LOGGER.debugf("The subscription to the invalidation channel [%s] of cache [%s] ended", channel, getName());
+        }
+        subscribed = false;
+        nearCache.invalidateAll().subscribe().with(new Consumer<Void>() {
+            @Override
+            public void accept(Void ignored) {
+                subscribing.set(false);
+            }
+        });
+    }
+
+    private ReactivePubSubCommands<String> pubSubCommands() {
+        ReactivePubSubCommands<String> commands = pubSubCommands;
+        if (commands == null) {
+            commands = dataSourceSupplier.get().pubsub(String.class);
+            pubSubCommands = commands;
+        }
+        return commands;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cast(Object value) {
+        try {
+            return (T) value;
+        } catch (ClassCastException e) {
+            throw new CacheException(
+                    "An existing cached value type does not match the type returned by the value loading function", e);
+        }
+    }
+}
@@ -34,6 +34,8 @@ public class HttpBinderProcessor {
     static final String RESTEASY_CONTAINER_FILTER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderRestEasyContainerFilter";
     static final String RESTEASY_REACTIVE_CONTAINER_FILTER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderRestEasyReactiveContainerFilter";
     static final String UNDERTOW_SERVLET_FILTER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderUndertowServletFilter";
+    static final String CONCURRENCY_LIMIT_BINDER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxConcurrencyLimitBinder";
+    static final String RESPONSE_CACHE_BINDER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.RestEasyReactiveResponseCacheBinder";
 
     private static final String REST_CLIENT_REQUEST_FILTER = "javax.ws.rs.client.ClientRequestFilter";
     private static final String REST_CLIENT_METRICS_FILTER = "io.quarkus.micrometer.runtime.binder.RestClientMetricsFilter";
@@ -89,6 +91,13 @@ void enableHttpServerSupport(Capabilities capabilities,
             BuildProducer<io.quarkus.undertow.deployment.FilterBuildItem> servletFilters,
             BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
 
+        createAdditionalBean(additionalBeans, CONCURRENCY_LIMIT_BINDER_CLASS_NAME);
+
+        // Hit and miss counts of the @ResponseCache resource methods
+        if (capabilities.isPresent(Capability.RESTEASY_REACTIVE)) {
+            createAdditionalBean(additionalBeans, RESPONSE_CACHE_BINDER_CLASS_NAME);
+        }
+
         // But this might be present as well (fallback. Rest URI processing preferred)
         if (capabilities.isPresent(Capability.SERVLET)) {
             servletFilters.produce(
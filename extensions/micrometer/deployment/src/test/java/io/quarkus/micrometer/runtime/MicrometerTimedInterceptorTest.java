@@ -133,6 +133,22 @@ void testTimeMethod_UniFailed() {
         Assertions.assertEquals(1, timer.count());
     }
 
+    @Test
+    void testTimeMethod_UniWithRequestContext() {
+        GuardedResult guardedResult = new GuardedResult();
+        Uni<?> uni = timed.uniCallWithRequestContext(guardedResult);
+        guardedResult.complete();
+        uni.subscribe().asCompletionStage().join();
+
+        Timer timer = registry.get("uni.requestContext.call")
+                .tag("method", "uniCallWithRequestContext")
+                .tag("class", "io.quarkus.micrometer.test.TimedResource")
+                .tag("exception", "none")
+                .tag("extra", "tag").timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1, timer.count());
+    }
+
     @Test
     void testTimeMethod_LongTaskTimer() {
         timed.longCall(false);
@@ -7,6 +7,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.control.ActivateRequestContext;
 
 import io.micrometer.core.annotation.Timed;
 import io.smallrye.mutiny.Uni;
@@ -42,6 +43,13 @@ public Uni<?> uniCall(GuardedResult guardedResult) {
         return Uni.createFrom().item(guardedResult::get);
     }
 
+    // The interceptor activating the request context invokes the timed interceptor when the Uni is subscribed
+    @ActivateRequestContext
+    @Timed(value = "uni.requestContext.call", extraTags = { "extra", "tag" })
+    public Uni<?> uniCallWithRequestContext(GuardedResult guardedResult) {
+        return Uni.createFrom().item(guardedResult::get);
+    }
+
     @Timed(value = "async.longCall", extraTags = { "extra", "tag" }, longTask = true)
     public CompletableFuture<?> longAsyncCall(GuardedResult guardedResult) {
         try {
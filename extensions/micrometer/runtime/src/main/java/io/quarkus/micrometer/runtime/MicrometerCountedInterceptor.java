@@ -2,7 +2,6 @@
 
 import java.lang.reflect.Method;
 import java.util.concurrent.CompletionStage;
-import java.util.function.BiConsumer;
 
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
@@ -13,8 +12,7 @@
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.quarkus.arc.ArcInvocationContext;
-import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.tuples.Functions;
+import io.quarkus.arc.ArcInvocationContext.CompletionCallback;
 
 /**
  * Quarkus declared interceptor responsible for intercepting all methods
@@ -54,7 +52,6 @@ public MicrometerCountedInterceptor(MeterRegistry meterRegistry) {
      * @throws Throwable When the intercepted method throws one.
      */
     @AroundInvoke
-    @SuppressWarnings("unchecked")
     Object countedMethod(ArcInvocationContext context) throws Exception {
         MicrometerCounted counted = context.findIterceptorBinding(MicrometerCounted.class);
         if (counted == null) {
@@ -64,29 +61,16 @@ Object countedMethod(ArcInvocationContext context) throws Exception {
         Tags commonTags = getCommonTags(method.getDeclaringClass().getName(), method.getName());
 
         Class<?> returnType = method.getReturnType();
-        if (TypesUtil.isCompletionStage(returnType)) {
-            try {
-                return ((CompletionStage<?>) context.proceed()).whenComplete(new BiConsumer<Object, Throwable>() {
-                    @Override
-                    public void accept(Object o, Throwable throwable) {
-                        recordCompletionResult(counted, commonTags, throwable);
-                    }
-                });
-            } catch (Throwable e) {
-                record(counted, commonTags, e);
-            }
-        } else if (TypesUtil.isUni(returnType)) {
-            try {
-                return ((Uni<Object>) context.proceed()).onTermination().invoke(
-                        new Functions.TriConsumer<>() {
-                            @Override
-                            public void accept(Object o, Throwable throwable, Boolean cancelled) {
-                                recordCompletionResult(counted, commonTags, throwable);
-                            }
-                        });
-            } catch (Throwable e) {
-                record(counted, commonTags, e);
-            }
+        if (TypesUtil.isCompletionStage(returnType) || TypesUtil.isUni(returnType)) {
+            // The result is recorded once the returned result completes; the container attaches the callbacks of all
+            // interceptors to the result at once
+            context.addCompletionCallback(new CompletionCallback() {
+                @Override
+                public void onComplete(Object result, Throwable failure) {
+                    recordCompletionResult(counted, commonTags, failure);
+                }
+            });
+            return context.proceed();
         }
 
         try {
@@ -4,7 +4,6 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
@@ -18,8 +17,7 @@
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.quarkus.arc.ArcInvocationContext;
-import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.tuples.Functions;
+import io.quarkus.arc.ArcInvocationContext.CompletionCallback;
 
 /**
  * Quarkus defined interceptor for types or methods annotated with {@link Timed @Timed}.
@@ -39,7 +37,6 @@ public MicrometerTimedInterceptor(MeterRegistry meterRegistry) {
     }
 
     @AroundInvoke
-    @SuppressWarnings("unchecked")
     Object timedMethod(ArcInvocationContext context) throws Exception {
         final List<Sample> samples = getSamples(context);
 
@@ -49,28 +46,16 @@ Object timedMethod(ArcInvocationContext context) throws Exception {
         }
 
         Class<?> returnType = context.getMethod().getReturnType();
-        if (TypesUtil.isCompletionStage(returnType)) {
-            try {
-                return ((CompletionStage<?>) context.proceed()).whenComplete((result, throwable) -> {
-                    stop(samples, MicrometerRecorder.getExceptionTag(throwable));
-                });
-            } catch (Exception ex) {
-                stop(samples, MicrometerRecorder.getExceptionTag(ex));
-                throw ex;
-            }
-        } else if (TypesUtil.isUni(returnType)) {
-            try {
-                return ((Uni<Object>) context.proceed()).onTermination().invoke(
-                        new Functions.TriConsumer<>() {
-                            @Override
-                            public void accept(Object o, Throwable throwable, Boolean cancelled) {
-                                stop(samples, MicrometerRecorder.getExceptionTag(throwable));
-                            }
-                        });
-            } catch (Exception ex) {
-                stop(samples, MicrometerRecorder.getExceptionTag(ex));
-                throw ex;
-            }
+        if (TypesUtil.isCompletionStage(returnType) || TypesUtil.isUni(returnType)) {
+            // The samples are stopped once the returned result completes; the container attaches the callbacks of all
+            // interceptors to the result at once
+            context.addCompletionCallback(new CompletionCallback() {
+                @Override
+                public void onComplete(Object result, Throwable failure) {
+                    stop(samples, MicrometerRecorder.getExceptionTag(failure));
+                }
+            });
+            return context.proceed();
         }
 
         String exceptionClass = MicrometerRecorder.getExceptionTag(null);
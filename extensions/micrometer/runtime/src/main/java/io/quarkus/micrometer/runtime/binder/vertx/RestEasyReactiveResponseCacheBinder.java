@@ -0,0 +1,44 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import javax.inject.Singleton;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ResponseCacheStore;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.resteasy.reactive.server.runtime.ResteasyReactiveRecorder;
+
+/**
+ * Monitors the response caches of the RESTEasy Reactive resource methods annotated with
+ * {@code @org.jboss.resteasy.reactive.ResponseCache}
+ */
+@Singleton
+public class RestEasyReactiveResponseCacheBinder implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Deployment deployment = ResteasyReactiveRecorder.getCurrentDeployment();
+        if (deployment == null) {
+            return;
+        }
+        for (ResponseCacheStore store : deployment.getResponseCacheStores()) {
+            Tags tags = Tags.of("method", store.getName());
+            FunctionCounter.builder("http.server.response.cache.hits", store, ResponseCacheStore::getHitCount)
+                    .description("The number of requests answered from the response cache")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("http.server.response.cache.misses", store, ResponseCacheStore::getMissCount)
+                    .description("The number of requests not found in the response cache")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("http.server.response.cache.size", store, ResponseCacheStore::size)
+                    .description("The number of responses stored in the response cache")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+}
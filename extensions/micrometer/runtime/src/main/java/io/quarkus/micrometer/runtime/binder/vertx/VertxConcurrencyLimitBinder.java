@@ -0,0 +1,47 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import javax.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.vertx.http.runtime.filters.ConcurrencyLimitHandler;
+import io.quarkus.vertx.http.runtime.filters.ConcurrencyLimiter;
+
+/**
+ * Monitors the concurrency limits configured with {@code quarkus.http.concurrency-limit}
+ */
+@Singleton
+public class VertxConcurrencyLimitBinder implements MeterBinder {
+
+    final ConcurrencyLimitHandler concurrencyLimitHandler;
+
+    VertxConcurrencyLimitBinder(ConcurrencyLimitHandler concurrencyLimitHandler) {
+        this.concurrencyLimitHandler = concurrencyLimitHandler;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ConcurrencyLimiter limiter : concurrencyLimitHandler.getLimiters()) {
+            Tags tags = Tags.of("name", limiter.getName());
+            Gauge.builder("http.server.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                    .description("The maximum number of requests processed concurrently")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("http.server.concurrency.in.flight", limiter, ConcurrencyLimiter::getInFlight)
+                    .description("The number of requests being processed")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("http.server.concurrency.queued", limiter, ConcurrencyLimiter::getQueued)
+                    .description("The number of requests waiting to be processed")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("http.server.concurrency.rejected", limiter, ConcurrencyLimiter::getRejected)
+                    .description("The number of requests rejected because the limit was reached")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.quarkus.resteasy.reactive.common.runtime;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -56,4 +59,23 @@ public class ResteasyReactiveConfig {
      */
     @ConfigItem(defaultValue = "true")
     public boolean failOnDuplicate;
+
+    /**
+     * If set, the invocation time of the endpoints that are non-blocking because of their signature is measured on the IO
+     * thread, and endpoints that repeatedly take longer than this duration are dispatched to the worker pool from then on,
+     * as if they were annotated with {@code @Blocking}. Endpoints annotated with {@code @NonBlocking} are never moved.
+     * A warning is logged when an endpoint is moved, so that it can be annotated accordingly.
+     */
+    @ConfigItem
+    public Optional<Duration> adaptiveBlockingThreshold;
+
+    /**
+     * If set, request bodies larger than {@code input-buffer-size} are deserialized on the IO thread while they are
+     * received, instead of being read from a blocking stream on a worker thread, when the body reader supports it
+     * (for example the Jackson reader). This is the maximum size of the body that can be read this way for a single
+     * request, larger requests are rejected with a 413 response.
+     * This only applies to non-blocking endpoints.
+     */
+    @ConfigItem
+    public Optional<MemorySize> maxIncrementalInputSize;
 }
@@ -0,0 +1,399 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.jackson.JacksonMixin;
+import io.quarkus.resteasy.reactive.jackson.SecureField;
+
+/**
+ * Generates {@link StdSerializer} implementations for plain Java classes, so that Jackson can serialize them without
+ * introspecting the class and invoking its accessors reflectively.
+ * <p>
+ * Only classes for which the generated serializer is guaranteed to produce the same output as the default Jackson
+ * bean serializer are handled, every other class is left to Jackson.
+ */
+final class ReflectionFreeSerializerGenerator {
+
+    private static final String SERIALIZER_SUFFIX = "$quarkusjacksonserializer";
+
+    private static final DotName JACKSON_MIXIN = DotName.createSimple(JacksonMixin.class.getName());
+    private static final DotName SECURE_FIELD = DotName.createSimple(SecureField.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+
+    /**
+     * Interfaces without methods, which cannot change how a class is serialized
+     */
+    private static final Set<DotName> MARKER_INTERFACES = Set.of(DotName.createSimple(Serializable.class.getName()),
+            DotName.createSimple(Cloneable.class.getName()));
+
+    /**
+     * Annotations with these prefixes change how a class is serialized, either directly or through a Jackson module
+     */
+    private static final String[] UNSUPPORTED_ANNOTATION_PREFIXES = { "com.fasterxml.jackson.", "javax.persistence.",
+            "jakarta.persistence.", "javax.xml.bind.", "jakarta.xml.bind.", "kotlin." };
+
+    private static final MethodDescriptor STD_SERIALIZER_CTOR = MethodDescriptor.ofConstructor(StdSerializer.class,
+            Class.class);
+    private static final MethodDescriptor WRITE_START_OBJECT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeStartObject", void.class, Object.class);
+    private static final MethodDescriptor WRITE_END_OBJECT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeEndObject", void.class);
+    private static final MethodDescriptor WRITE_FIELD_NAME = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeFieldName", void.class, String.class);
+    private static final MethodDescriptor WRITE_STRING = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeString", void.class, String.class);
+    private static final MethodDescriptor WRITE_BOOLEAN = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeBoolean", void.class, boolean.class);
+    private static final MethodDescriptor STRING_VALUE_OF_CHAR = MethodDescriptor.ofMethod(String.class, "valueOf",
+            String.class, char.class);
+    private static final MethodDescriptor DEFAULT_SERIALIZE_FIELD = MethodDescriptor.ofMethod(SerializerProvider.class,
+            "defaultSerializeField", void.class, String.class, Object.class, JsonGenerator.class);
+    private static final MethodDescriptor TYPE_ID = MethodDescriptor.ofMethod(TypeSerializer.class, "typeId",
+            WritableTypeId.class, Object.class, JsonToken.class);
+    private static final MethodDescriptor WRITE_TYPE_PREFIX = MethodDescriptor.ofMethod(TypeSerializer.class,
+            "writeTypePrefix", WritableTypeId.class, JsonGenerator.class, WritableTypeId.class);
+    private static final MethodDescriptor WRITE_TYPE_SUFFIX = MethodDescriptor.ofMethod(TypeSerializer.class,
+            "writeTypeSuffix", WritableTypeId.class, JsonGenerator.class, WritableTypeId.class);
+
+    private static final Map<PrimitiveType.Primitive, Class<?>> NUMBER_TYPES = Map.of(
+            PrimitiveType.Primitive.BYTE, int.class,
+            PrimitiveType.Primitive.SHORT, short.class,
+            PrimitiveType.Primitive.INT, int.class,
+            PrimitiveType.Primitive.LONG, long.class,
+            PrimitiveType.Primitive.FLOAT, float.class,
+            PrimitiveType.Primitive.DOUBLE, double.class);
+
+    private final IndexView index;
+    private final boolean skipNulls;
+    private final Set<DotName> mixinTargets;
+
+    ReflectionFreeSerializerGenerator(IndexView index, boolean skipNulls) {
+        this.index = index;
+        this.skipNulls = skipNulls;
+        this.mixinTargets = new HashSet<>();
+        for (AnnotationInstance mixin : index.getAnnotations(JACKSON_MIXIN)) {
+            AnnotationValue value = mixin.value();
+            if (value != null) {
+                for (Type target : value.asClassArray()) {
+                    mixinTargets.add(target.name());
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates serializers for all the eligible classes referenced by the given types, as well as for the eligible
+     * classes used by their properties.
+     *
+     * @return a map of the serialized class name to the generated serializer class name
+     */
+    Map<String, String> generate(Collection<Type> types, ClassOutput classOutput) {
+        Deque<Type> toVisit = new ArrayDeque<>(types);
+        Set<DotName> visited = new HashSet<>();
+        Map<String, String> result = new HashMap<>();
+        while (!toVisit.isEmpty()) {
+            Type type = toVisit.poll();
+            switch (type.kind()) {
+                case PARAMETERIZED_TYPE:
+                    toVisit.addAll(type.asParameterizedType().arguments());
+                    break;
+                case ARRAY:
+                    toVisit.add(type.asArrayType().component());
+                    break;
+                case CLASS:
+                    if (!visited.add(type.name())) {
+                        break;
+                    }
+                    ClassInfo classInfo = index.getClassByName(type.name());
+                    if (classInfo == null || !isEligible(classInfo)) {
+                        break;
+                    }
+                    Map<String, Property> properties = collectProperties(classInfo);
+                    if (properties == null || properties.isEmpty()) {
+                        break;
+                    }
+                    result.put(classInfo.name().toString(), generateSerializer(classInfo, properties.values(), classOutput));
+                    for (Property property : properties.values()) {
+                        toVisit.add(property.type);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return result;
+    }
+
+    private boolean isEligible(ClassInfo classInfo) {
+        if (!Modifier.isPublic(classInfo.flags())
+                || Modifier.isAbstract(classInfo.flags())
+                || Modifier.isInterface(classInfo.flags())
+                || classInfo.nestingType() == ClassInfo.NestingType.ANONYMOUS
+                || classInfo.nestingType() == ClassInfo.NestingType.LOCAL
+                || (classInfo.nestingType() == ClassInfo.NestingType.INNER
+                        && !Modifier.isStatic(classInfo.flags()))
+                || !classInfo.typeParameters().isEmpty()) {
+            return false;
+        }
+        // enums and records have a dedicated superclass, hierarchies are not supported
+        // because Jackson would also use the serializer for subclasses
+        if (!ResteasyReactiveDotNames.OBJECT.equals(classInfo.superName())
+                || !index.getKnownDirectSubclasses(classInfo.name()).isEmpty()
+                || mixinTargets.contains(classInfo.name())) {
+            return false;
+        }
+        return !hasUnsupportedAnnotation(classInfo) && hasSupportedInterfaces(classInfo);
+    }
+
+    private static boolean hasUnsupportedAnnotation(ClassInfo classInfo) {
+        for (DotName annotation : classInfo.annotationsMap().keySet()) {
+            if (annotation.equals(SECURE_FIELD)) {
+                return true;
+            }
+            String annotationName = annotation.toString();
+            for (String prefix : UNSUPPORTED_ANNOTATION_PREFIXES) {
+                if (annotationName.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Jackson also reads the annotations declared by the implemented interfaces and serializes their default getters,
+     * so every interface must be indexed and must not declare any of them. Interfaces that are not indexed, such as
+     * {@link Iterable}, are rejected because they may make Jackson use a dedicated serializer.
+     */
+    private boolean hasSupportedInterfaces(ClassInfo classInfo) {
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (MARKER_INTERFACES.contains(interfaceName)) {
+                continue;
+            }
+            ClassInfo interfaceInfo = index.getClassByName(interfaceName);
+            if (interfaceInfo == null
+                    || mixinTargets.contains(interfaceName)
+                    || hasUnsupportedAnnotation(interfaceInfo)
+                    || !hasSupportedInterfaces(interfaceInfo)) {
+                return false;
+            }
+            for (MethodInfo method : interfaceInfo.methods()) {
+                short flags = method.flags();
+                if (!Modifier.isAbstract(flags) && !Modifier.isStatic(flags) && Modifier.isPublic(flags)
+                        && method.parametersCount() == 0 && method.returnType().kind() != Type.Kind.VOID
+                        && getterPropertyName(method) != null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the properties Jackson would serialize with its default visibility rules: public fields and public
+     * getters, a getter taking precedence over a field of the same name. Like Jackson, properties backed by a field
+     * are ordered by field declaration, followed by the remaining getters.
+     *
+     * @return the properties in declaration order, or {@code null} if one of them is not supported
+     */
+    private Map<String, Property> collectProperties(ClassInfo classInfo) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (FieldInfo field : classInfo.unsortedFields()) {
+            short flags = field.flags();
+            if (Modifier.isStatic(flags) || Modifier.isTransient(flags) || field.isSynthetic()) {
+                continue;
+            }
+            if (!Modifier.isPublic(flags)) {
+                // reserve the position of a property that may be exposed by a getter
+                properties.put(field.name(), null);
+                continue;
+            }
+            if (field.type().kind() == Type.Kind.TYPE_VARIABLE) {
+                return null;
+            }
+            properties.put(field.name(), new Property(field.name(), field.type(), field, null));
+        }
+        for (MethodInfo method : classInfo.unsortedMethods()) {
+            short flags = method.flags();
+            if (!Modifier.isPublic(flags) || Modifier.isStatic(flags)
+                    || method.isSynthetic() || method.parametersCount() != 0
+                    || method.returnType().kind() == Type.Kind.VOID) {
+                continue;
+            }
+            String name = getterPropertyName(method);
+            if (name == null) {
+                continue;
+            }
+            if (method.returnType().kind() == Type.Kind.TYPE_VARIABLE) {
+                return null;
+            }
+            properties.put(name, new Property(name, method.returnType(), null, method));
+        }
+        properties.values().removeIf(Objects::isNull);
+        return properties;
+    }
+
+    /**
+     * Mirrors the default Jackson getter naming: {@code getFoo()} and {@code boolean isFoo()} map to {@code foo}, and
+     * a leading run of upper case characters is lower cased ({@code getURL()} maps to {@code url}).
+     */
+    private static String getterPropertyName(MethodInfo method) {
+        String methodName = method.name();
+        String suffix;
+        if (methodName.startsWith("get") && methodName.length() > 3) {
+            suffix = methodName.substring(3);
+        } else if (methodName.startsWith("is") && methodName.length() > 2
+                && method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+            suffix = methodName.substring(2);
+        } else {
+            return null;
+        }
+        StringBuilder sb = null;
+        for (int i = 0; i < suffix.length(); i++) {
+            char upper = suffix.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) {
+                break;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(suffix);
+            }
+            sb.setCharAt(i, lower);
+        }
+        return sb == null ? suffix : sb.toString();
+    }
+
+    private String generateSerializer(ClassInfo classInfo, Collection<Property> properties, ClassOutput classOutput) {
+        String targetClassName = classInfo.name().toString();
+        String serializerClassName = targetClassName + SERIALIZER_SUFFIX;
+        try (ClassCreator cc = ClassCreator.builder().classOutput(classOutput).className(serializerClassName)
+                .superClass(StdSerializer.class).build()) {
+
+            MethodCreator ctor = cc.getMethodCreator(MethodDescriptor.INIT, void.class);
+            ctor.invokeSpecialMethod(STD_SERIALIZER_CTOR, ctor.getThis(), ctor.loadClass(targetClassName));
+            ctor.returnValue(null);
+
+            MethodDescriptor writeProperties = MethodDescriptor.ofMethod(serializerClassName, "writeProperties",
+                    void.class, targetClassName, JsonGenerator.class, SerializerProvider.class);
+            MethodCreator write = cc.getMethodCreator(writeProperties);
+            write.setModifiers(Modifier.PRIVATE);
+            write.addException(IOException.class);
+            ResultHandle bean = write.getMethodParam(0);
+            ResultHandle gen = write.getMethodParam(1);
+            ResultHandle provider = write.getMethodParam(2);
+            for (Property property : properties) {
+                ResultHandle value = property.field != null
+                        ? write.readInstanceField(FieldDescriptor.of(property.field), bean)
+                        : write.invokeVirtualMethod(MethodDescriptor.of(property.getter), bean);
+                writeProperty(write, property, value, gen, provider);
+            }
+            write.returnValue(null);
+
+            MethodCreator serialize = cc.getMethodCreator("serialize", void.class, Object.class, JsonGenerator.class,
+                    SerializerProvider.class);
+            serialize.addException(IOException.class);
+            ResultHandle value = serialize.getMethodParam(0);
+            gen = serialize.getMethodParam(1);
+            serialize.invokeVirtualMethod(WRITE_START_OBJECT, gen, value);
+            serialize.invokeSpecialMethod(writeProperties, serialize.getThis(), serialize.checkCast(value, targetClassName),
+                    gen, serialize.getMethodParam(2));
+            serialize.invokeVirtualMethod(WRITE_END_OBJECT, gen);
+            serialize.returnValue(null);
+
+            MethodCreator serializeWithType = cc.getMethodCreator("serializeWithType", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class, TypeSerializer.class);
+            serializeWithType.addException(IOException.class);
+            value = serializeWithType.getMethodParam(0);
+            gen = serializeWithType.getMethodParam(1);
+            ResultHandle typeSer = serializeWithType.getMethodParam(3);
+            ResultHandle typeId = serializeWithType.invokeVirtualMethod(WRITE_TYPE_PREFIX, typeSer, gen,
+                    serializeWithType.invokeVirtualMethod(TYPE_ID, typeSer, value,
+                            serializeWithType.readStaticField(
+                                    FieldDescriptor.of(JsonToken.class, "START_OBJECT", JsonToken.class))));
+            serializeWithType.invokeSpecialMethod(writeProperties, serializeWithType.getThis(),
+                    serializeWithType.checkCast(value, targetClassName), gen, serializeWithType.getMethodParam(2));
+            serializeWithType.invokeVirtualMethod(WRITE_TYPE_SUFFIX, typeSer, gen, typeId);
+            serializeWithType.returnValue(null);
+        }
+        return serializerClassName;
+    }
+
+    private void writeProperty(MethodCreator write, Property property, ResultHandle value, ResultHandle gen,
+            ResultHandle provider) {
+        Type type = property.type;
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+            write.invokeVirtualMethod(WRITE_FIELD_NAME, gen, write.load(property.name));
+            if (primitive == PrimitiveType.Primitive.BOOLEAN) {
+                write.invokeVirtualMethod(WRITE_BOOLEAN, gen, value);
+            } else if (primitive == PrimitiveType.Primitive.CHAR) {
+                write.invokeVirtualMethod(WRITE_STRING, gen, write.invokeStaticMethod(STRING_VALUE_OF_CHAR, value));
+            } else {
+                write.invokeVirtualMethod(MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber", void.class,
+                        NUMBER_TYPES.get(primitive)), gen, value);
+            }
+            return;
+        }
+        BytecodeCreator notNull = write;
+        if (skipNulls) {
+            notNull = write.ifNull(value).falseBranch();
+        }
+        if (type.kind() == Type.Kind.CLASS && type.name().equals(STRING)) {
+            notNull.invokeVirtualMethod(WRITE_FIELD_NAME, gen, notNull.load(property.name));
+            notNull.invokeVirtualMethod(WRITE_STRING, gen, value);
+        } else {
+            notNull.invokeVirtualMethod(DEFAULT_SERIALIZE_FIELD, provider, notNull.load(property.name), value, gen);
+        }
+    }
+
+    private static final class Property {
+        final String name;
+        final Type type;
+        final FieldInfo field;
+        final MethodInfo getter;
+
+        Property(String name, Type type, FieldInfo field, MethodInfo getter) {
+            this.name = name;
+            this.type = type;
+            this.field = field;
+            this.getter = getter;
+        }
+    }
+}
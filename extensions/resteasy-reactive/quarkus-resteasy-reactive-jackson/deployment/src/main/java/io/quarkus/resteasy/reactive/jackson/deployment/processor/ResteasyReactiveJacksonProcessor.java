@@ -8,6 +8,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -25,22 +26,28 @@
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+import org.jboss.resteasy.reactive.common.processor.scanning.ResourceScanningResult;
 import org.jboss.resteasy.reactive.server.util.MethodId;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.jackson.runtime.JacksonBuildTimeConfig;
+import io.quarkus.jackson.spi.JacksonModuleBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
@@ -261,6 +268,61 @@ void handleJsonAnnotations(Optional<ResourceScanningResultBuildItem> resourceSca
         }
     }
 
+    @BuildStep
+    void generateReflectionFreeSerializers(ResteasyReactiveServerJacksonBuildTimeConfig config,
+            JacksonBuildTimeConfig jacksonConfig,
+            Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
+            CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<JacksonModuleBuildItem> jacksonModules) {
+        if (!config.optimization.enableReflectionFreeSerializers || resourceScanningResultBuildItem.isEmpty()) {
+            return;
+        }
+        if (jacksonConfig.propertyNamingStrategy.isPresent()) {
+            log.debug("Reflection-free serializers are not generated because a property naming strategy is configured");
+            return;
+        }
+        JsonInclude.Include inclusion = jacksonConfig.serializationInclusion.orElse(JsonInclude.Include.ALWAYS);
+        if (inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS
+                && inclusion != JsonInclude.Include.NON_NULL) {
+            log.debugf("Reflection-free serializers are not generated because the '%s' serialization inclusion is configured",
+                    inclusion);
+            return;
+        }
+        IndexView indexView = index.getIndex();
+        // these features configure the ObjectWriter per resource method, which a type level serializer would bypass
+        if (!indexView.getAnnotations(JSON_VIEW).isEmpty() || !indexView.getAnnotations(CUSTOM_SERIALIZATION).isEmpty()) {
+            log.debug("Reflection-free serializers are not generated because @JsonView or @CustomSerialization is used");
+            return;
+        }
+
+        ResourceScanningResult result = resourceScanningResultBuildItem.get().getResult();
+        Set<DotName> httpAnnotations = result.getHttpAnnotationToMethod().keySet();
+        List<Type> returnTypes = new ArrayList<>();
+        for (ClassInfo resourceClass : result.getScannedResources().values()) {
+            for (MethodInfo method : resourceClass.methods()) {
+                for (DotName httpAnnotation : httpAnnotations) {
+                    if (method.hasAnnotation(httpAnnotation)) {
+                        returnTypes.add(method.returnType());
+                        break;
+                    }
+                }
+            }
+        }
+
+        Map<String, String> serializers = new ReflectionFreeSerializerGenerator(indexView,
+                inclusion == JsonInclude.Include.NON_NULL)
+                .generate(returnTypes, new GeneratedClassGizmoAdaptor(generatedClasses, true));
+        if (serializers.isEmpty()) {
+            return;
+        }
+        JacksonModuleBuildItem.Builder builder = new JacksonModuleBuildItem.Builder("reflection-free-serializers");
+        for (Map.Entry<String, String> entry : serializers.entrySet()) {
+            builder.addSerializer(entry.getValue(), entry.getKey());
+        }
+        jacksonModules.produce(builder.build());
+    }
+
     @BuildStep
     public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem index,
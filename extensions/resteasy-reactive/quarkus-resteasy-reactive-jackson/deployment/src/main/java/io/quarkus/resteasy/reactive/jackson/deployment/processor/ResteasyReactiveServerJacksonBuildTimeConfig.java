@@ -0,0 +1,37 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-reactive.jackson", phase = ConfigPhase.BUILD_TIME)
+public class ResteasyReactiveServerJacksonBuildTimeConfig {
+
+    /**
+     * Optimizations applied to the JSON serialization of resource method results.
+     */
+    @ConfigItem
+    public OptimizationConfig optimization;
+
+    @ConfigGroup
+    public static class OptimizationConfig {
+
+        /**
+         * If enabled, Quarkus generates a dedicated Jackson serializer at build time for the plain Java classes
+         * returned by JSON resource methods, so that their serialization does not rely on reflection.
+         * <p>
+         * Serializers are only generated for public, non-generic classes without annotations and subclasses,
+         * whose properties are exposed through public fields or getters. Classes using Jackson annotations,
+         * {@code @JsonView} or {@code @CustomSerialization} keep using the default Jackson serialization.
+         * The generated serializers honor {@code quarkus.jackson.serialization-inclusion=non_null}, and they are not
+         * generated when {@code quarkus.jackson.property-naming-strategy} is set. The serializers are registered as a
+         * module of the {@code ObjectMapper} bean, so they are used by every serialization performed with it, and they
+         * ignore the customizations applied to it at runtime that change how beans are serialized, e.g. a naming strategy
+         * or {@code SORT_PROPERTIES_ALPHABETICALLY} set by an {@code ObjectMapperCustomizer}. Do not enable this
+         * optimization if the application relies on such customizations.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enableReflectionFreeSerializers;
+    }
+}
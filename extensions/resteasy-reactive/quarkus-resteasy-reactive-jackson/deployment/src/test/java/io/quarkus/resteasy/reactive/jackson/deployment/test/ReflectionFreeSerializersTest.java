@@ -0,0 +1,178 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+
+public class ReflectionFreeSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class, Order.class, Line.class, Annotated.class, Labeled.class,
+                                    LabeledLine.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testGeneratedSerializersAreRegistered() throws JsonMappingException {
+        assertThat(serializerOf(Order.class)).endsWith("$quarkusjacksonserializer");
+        assertThat(serializerOf(Line.class)).endsWith("$quarkusjacksonserializer");
+        assertThat(serializerOf(Annotated.class)).doesNotEndWith("$quarkusjacksonserializer");
+        assertThat(serializerOf(LabeledLine.class)).doesNotEndWith("$quarkusjacksonserializer");
+    }
+
+    @Test
+    public void testSerialization() {
+        RestAssured.get("/orders/single")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.equalTo(
+                        "{\"id\":42,\"customer\":\"Bob\",\"paid\":true,\"lines\":[{\"product\":\"cheese\",\"quantity\":2}],"
+                                + "\"note\":null}"));
+    }
+
+    @Test
+    public void testSerializationOfWrappedTypes() {
+        RestAssured.get("/orders/uni")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("[0].id", Matchers.equalTo(42))
+                .body("[0].lines[0].product", Matchers.equalTo("cheese"));
+        RestAssured.get("/orders/annotated")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("renamed", Matchers.equalTo("value"));
+        RestAssured.get("/orders/labeled")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("product", Matchers.equalTo("bread"))
+                .body("label", Matchers.equalTo("line of bread"));
+    }
+
+    private String serializerOf(Class<?> type) throws JsonMappingException {
+        return objectMapper.getSerializerProviderInstance().findValueSerializer(type).getClass().getName();
+    }
+
+    @Path("orders")
+    public static class Resource {
+
+        @GET
+        @Path("single")
+        public Order single() {
+            return order();
+        }
+
+        @GET
+        @Path("uni")
+        public Uni<List<Order>> uni() {
+            return Uni.createFrom().item(List.of(order()));
+        }
+
+        @GET
+        @Path("annotated")
+        public Annotated annotated() {
+            Annotated annotated = new Annotated();
+            annotated.value = "value";
+            return annotated;
+        }
+
+        @GET
+        @Path("labeled")
+        public LabeledLine labeled() {
+            LabeledLine line = new LabeledLine();
+            line.product = "bread";
+            return line;
+        }
+
+        private static Order order() {
+            Order order = new Order();
+            order.id = 42;
+            order.customer = "Bob";
+            order.paid = true;
+            Line line = new Line();
+            line.product = "cheese";
+            line.quantity = 2;
+            order.lines = List.of(line);
+            return order;
+        }
+    }
+
+    public static class Order {
+
+        public long id;
+        private String customer;
+        private boolean paid;
+        public List<Line> lines;
+        public String note;
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+    }
+
+    public static class Line {
+
+        public String product;
+        public int quantity;
+    }
+
+    public static class Annotated {
+
+        @JsonProperty("renamed")
+        public String value;
+    }
+
+    public interface Labeled {
+
+        String getProduct();
+
+        default String getLabel() {
+            return "line of " + getProduct();
+        }
+    }
+
+    public static class LabeledLine implements Labeled {
+
+        public String product;
+
+        @Override
+        public String getProduct() {
+            return product;
+        }
+    }
+}
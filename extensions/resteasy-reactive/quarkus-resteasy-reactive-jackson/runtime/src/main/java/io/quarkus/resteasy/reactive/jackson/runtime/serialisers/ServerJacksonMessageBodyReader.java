@@ -13,15 +13,17 @@
 
 import org.jboss.resteasy.reactive.common.util.StreamUtil;
 import org.jboss.resteasy.reactive.server.jackson.JacksonBasicMessageBodyReader;
+import org.jboss.resteasy.reactive.server.jackson.JacksonIncrementalReader;
+import org.jboss.resteasy.reactive.server.spi.IncrementalServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
-import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
-public class ServerJacksonMessageBodyReader extends JacksonBasicMessageBodyReader implements ServerMessageBodyReader<Object> {
+public class ServerJacksonMessageBodyReader extends JacksonBasicMessageBodyReader
+        implements IncrementalServerMessageBodyReader<Object> {
 
     @Inject
     public ServerJacksonMessageBodyReader(ObjectMapper mapper) {
@@ -54,6 +56,14 @@ public Object readFrom(Class<Object> type, Type genericType, MediaType mediaType
         return doReadFrom(type, genericType, context.getInputStream());
     }
 
+    @Override
+    public IncrementalReader<Object> createIncrementalReader(Class<Object> type, Type genericType, MediaType mediaType,
+            ServerRequestContext context) throws IOException {
+        ObjectReader reader = getEffectiveReader();
+        return new JacksonIncrementalReader(
+                reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)));
+    }
+
     private Object doReadFrom(Class<Object> type, Type genericType, InputStream entityStream) throws IOException {
         if (StreamUtil.isEmpty(entityStream)) {
             return null;
@@ -1037,7 +1037,8 @@ public void additionalReflection(BeanArchiveIndexBuildItem beanArchiveIndexBuild
                     continue;
                 }
                 List<DotName> interfaceNames = writerClassInfo.interfaceNames();
-                if (!interfaceNames.contains(ResteasyReactiveServerDotNames.SERVER_MESSAGE_BODY_READER)) {
+                if (!interfaceNames.contains(ResteasyReactiveServerDotNames.SERVER_MESSAGE_BODY_READER)
+                        && !interfaceNames.contains(ResteasyReactiveServerDotNames.INCREMENTAL_SERVER_MESSAGE_BODY_READER)) {
                     serializersRequireResourceReflection = true;
                     break;
                 }
@@ -1300,11 +1301,18 @@ else if (isEmpty.negate().test(rm.getConsumes()) && isEmpty.test(rm.getProduces(
     private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReactiveConfig(ResteasyReactiveConfig config) {
         Config mpConfig = ConfigProvider.getConfig();
 
-        return new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
+        var result = new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
                 getEffectivePropertyValue("input-buffer-size", config.inputBufferSize.asLongValue(), Long.class, mpConfig),
                 getEffectivePropertyValue("output-buffer-size", config.outputBufferSize, Integer.class, mpConfig),
                 getEffectivePropertyValue("single-default-produces", config.singleDefaultProduces, Boolean.class, mpConfig),
                 getEffectivePropertyValue("default-produces", config.defaultProduces, Boolean.class, mpConfig));
+        if (config.adaptiveBlockingThreshold.isPresent()) {
+            result.setAdaptiveBlockingThreshold(config.adaptiveBlockingThreshold.get().toMillis());
+        }
+        if (config.maxIncrementalInputSize.isPresent()) {
+            result.setMaxIncrementalInputSize(config.maxIncrementalInputSize.get().asLongValue());
+        }
+        return result;
     }
 
     private <T> T getEffectivePropertyValue(String legacyPropertyName, T newPropertyValue, Class<T> propertyType,
@@ -34,6 +34,26 @@ public void testPathMapper() {
 
     }
 
+    @Test
+    public void testParamsNotLeakedBetweenCandidates() {
+        RequestMapper<String> mapper = mapper("/foo/{p1}/{p2}/bar", "/foo/{p1}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/foo/34/44/bar");
+        Assertions.assertEquals("/foo/{p1}/{p2}/bar", result.value);
+        Assertions.assertEquals("34", result.pathParamValues[0]);
+        Assertions.assertEquals("44", result.pathParamValues[1]);
+
+        result = mapper.map("/foo/34");
+        Assertions.assertEquals("/foo/{p1}", result.value);
+        Assertions.assertEquals("34", result.pathParamValues[0]);
+        Assertions.assertNull(result.pathParamValues[1]);
+
+        mapper = mapper("/foo", "/foo/{p1}");
+        result = mapper.map("/foo");
+        Assertions.assertEquals("/foo", result.value);
+        Assertions.assertTrue(result.pathParamValues.length == 0 || result.pathParamValues[0] == null);
+    }
+
     RequestMapper<String> mapper(String... vals) {
         ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
@@ -2,6 +2,7 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
@@ -10,28 +11,36 @@
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
@@ -121,6 +130,94 @@ void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildI
         }
     }
 
+    /**
+     * Generates a gzip compressed variant of the compressible static resources, so that they don't need to be compressed
+     * on every request. The variants are not generated in dev mode, where the resources are served from the sources.
+     */
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(Capabilities capabilities, HttpBuildTimeConfig httpBuildTimeConfig,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<AdditionalStaticResourceBuildItem> additionalStaticResources) throws Exception {
+        if (capabilities.isPresent(Capability.SERVLET) || !httpBuildTimeConfig.enableCompression
+                || !httpBuildTimeConfig.precompressStaticResources || httpBuildTimeConfig.compressMediaTypes.isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
+        long threshold = httpBuildTimeConfig.compressionThreshold.isPresent()
+                ? httpBuildTimeConfig.compressionThreshold.get().asLongValue()
+                : 0;
+        Map<String, byte[]> compressible = new HashMap<>();
+        Set<String> existingVariants = new HashSet<>();
+
+        for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
+            i.accept(tree -> {
+                Path resource = tree.getPath(StaticResourcesRecorder.META_INF_RESOURCES);
+                if (resource != null && Files.exists(resource)) {
+                    collectCompressibleResources(resource, compressMediaTypes, threshold, compressible, existingVariants);
+                }
+            });
+        }
+        ClassPathUtils.consumeAsPaths(StaticResourcesRecorder.META_INF_RESOURCES, resource -> {
+            collectCompressibleResources(resource, compressMediaTypes, threshold, compressible, existingVariants);
+        });
+
+        for (Map.Entry<String, byte[]> entry : compressible.entrySet()) {
+            String variant = entry.getKey() + StaticResourcesRecorder.GZIP_VARIANT_SUFFIX;
+            if (existingVariants.contains(variant)) {
+                continue;
+            }
+            byte[] compressed = gzip(entry.getValue());
+            if (compressed.length >= entry.getValue().length) {
+                // not worth it, the resource will be served uncompressed or compressed on the fly
+                continue;
+            }
+            generatedResources.produce(
+                    new GeneratedResourceBuildItem(StaticResourcesRecorder.META_INF_RESOURCES + variant, compressed));
+            additionalStaticResources.produce(new AdditionalStaticResourceBuildItem(variant, false));
+        }
+    }
+
+    private static void collectCompressibleResources(Path resource, Set<String> compressMediaTypes, long threshold,
+            Map<String, byte[]> compressible, Set<String> existingVariants) {
+        try {
+            Files.walkFileTree(resource, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path p, BasicFileAttributes attrs)
+                        throws IOException {
+                    // Windows has a backslash
+                    String file = "/" + resource.relativize(p).toString().replace('\\', '/');
+                    if (file.endsWith(StaticResourcesRecorder.GZIP_VARIANT_SUFFIX) || file.endsWith(".br")
+                            || file.endsWith(".zst")) {
+                        existingVariants.add(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+                    String contentType = MimeMapping.getMimeTypeForFilename(file);
+                    if (contentType != null && compressMediaTypes.contains(contentType) && attrs.size() >= threshold
+                            && !compressible.containsKey(file)) {
+                        // the content must be read right away as the path may not be accessible later
+                        compressible.put(file, Files.readAllBytes(p));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem> staticResources,
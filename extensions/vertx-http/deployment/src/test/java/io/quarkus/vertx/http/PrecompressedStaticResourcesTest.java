@@ -0,0 +1,79 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class PrecompressedStaticResourcesTest {
+
+    static final String SCRIPT = "console.log('Hello World');\n".repeat(100);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.precompress-static-resources=true\n"), "application.properties")
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/app.js")
+                    .addAsResource(new ByteArrayAsset(gzip(SCRIPT)), "META-INF/resources/app.js.gz")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html"));
+
+    @Test
+    public void testVariantIsServed() {
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/app.js").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .header("content-type", Matchers.startsWith("application/javascript"))
+                .header("vary", "accept-encoding")
+                .body(Matchers.equalTo(SCRIPT));
+    }
+
+    @Test
+    public void testVariantConditionalRequest() {
+        String lastModified = RestAssured.given().header("Accept-Encoding", "gzip").get("/app.js").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .header("last-modified", Matchers.notNullValue())
+                .header("cache-control", Matchers.notNullValue())
+                .extract().header("last-modified");
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-Modified-Since", lastModified)
+                .get("/app.js").then().statusCode(304)
+                .header("vary", "accept-encoding");
+    }
+
+    @Test
+    public void testVariantIsNotServedWhenNotAccepted() {
+        RestAssured.given().header("Accept-Encoding", "gzip;q=0").get("/app.js").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("vary", "accept-encoding")
+                .body(Matchers.equalTo(SCRIPT));
+    }
+
+    @Test
+    public void testResourceWithoutVariant() {
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/").then().statusCode(200)
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    static byte[] gzip(String content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,117 @@
+package io.quarkus.vertx.http.filters;
+
+import static io.restassured.RestAssured.get;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.runtime.filters.ConcurrencyLimitHandler;
+import io.quarkus.vertx.http.runtime.filters.ConcurrencyLimiter;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.Router;
+
+public class ConcurrencyLimitTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.concurrency-limit.rejected.paths=/rejected\n" +
+            "quarkus.http.concurrency-limit.rejected.limit=1\n" +
+            "quarkus.http.concurrency-limit.rejected.retry-after=5S\n" +
+            "quarkus.http.concurrency-limit.queued.paths=/queued/*\n" +
+            "quarkus.http.concurrency-limit.queued.limit=1\n" +
+            "quarkus.http.concurrency-limit.queued.queue-size=1\n" +
+            "quarkus.http.concurrency-limit.queued.queue-timeout=10S\n";
+
+    static volatile CountDownLatch started;
+    static volatile CountDownLatch release;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(Routes.class));
+
+    @Inject
+    ConcurrencyLimitHandler concurrencyLimitHandler;
+
+    @Test
+    public void testRequestIsRejectedBeyondLimit() throws Exception {
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> get("/rejected").statusCode());
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        get("/rejected").then().statusCode(503).header("Retry-After", "5");
+        // other paths are not limited
+        get("/unlimited").then().statusCode(200).body(is("ok"));
+
+        release.countDown();
+        assertEquals(200, first.get(10, TimeUnit.SECONDS));
+        get("/rejected").then().statusCode(200).body(is("ok"));
+
+        ConcurrencyLimiter limiter = getLimiter("rejected");
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    public void testRequestIsQueued() throws Exception {
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> get("/queued/a").statusCode());
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> get("/queued/b").statusCode());
+        ConcurrencyLimiter limiter = getLimiter("queued");
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (limiter.getQueued() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, limiter.getQueued());
+        // the queue is full
+        get("/queued/c").then().statusCode(503);
+
+        release.countDown();
+        assertEquals(200, first.get(10, TimeUnit.SECONDS));
+        assertEquals(200, second.get(10, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getQueued());
+    }
+
+    private ConcurrencyLimiter getLimiter(String name) {
+        return concurrencyLimitHandler.getLimiters().stream().filter(l -> l.getName().equals(name)).findFirst()
+                .orElseThrow();
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        public void register(@Observes Router router) {
+            router.route("/rejected").handler(rc -> hold(rc.vertx(), () -> rc.response().end("ok")));
+            router.route("/queued/*").handler(rc -> hold(rc.vertx(), () -> rc.response().end("ok")));
+            router.route("/unlimited").handler(rc -> rc.response().end("ok"));
+        }
+
+        private static void hold(Vertx vertx, Runnable end) {
+            started.countDown();
+            vertx.executeBlocking(promise -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                promise.complete();
+            }, false, result -> end.run());
+        }
+    }
+}
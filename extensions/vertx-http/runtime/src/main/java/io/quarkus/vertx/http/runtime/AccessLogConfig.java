@@ -4,6 +4,7 @@
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public class AccessLogConfig {
@@ -77,4 +78,19 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * The size beyond which the log file is rotated, in addition to the daily rotation.
+     */
+    @ConfigItem
+    public Optional<MemorySize> rotateSize;
+
+    /**
+     * The maximum number of entries waiting to be written to the log file. The entries logged while the log file
+     * cannot keep up with the requests are dropped, so that a slow disk doesn't exhaust the memory.
+     *
+     * If this is set to 0 then no entry is ever dropped.
+     */
+    @ConfigItem(defaultValue = "100000")
+    public int maxPendingEntries;
+
 }
@@ -0,0 +1,79 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Bounds the number of requests that are processed concurrently for a set of paths
+ */
+@ConfigGroup
+public class ConcurrencyLimitConfig {
+
+    /**
+     * Determines whether this concurrency limit is enabled, or not.
+     *
+     * By default, if the concurrency limit is defined, it is enabled.
+     */
+    @ConfigItem
+    public Optional<Boolean> enabled;
+
+    /**
+     * The paths that this concurrency limit applies to. If the path ends in /* then this is treated
+     * as a path prefix, otherwise it is treated as an exact match.
+     *
+     * Matches are done on a length basis, so the most specific path match takes precedence. All the requests matching
+     * the paths of this limit share the same number of permits.
+     */
+    @ConfigItem
+    public Optional<List<String>> paths;
+
+    /**
+     * The maximum number of requests that are processed concurrently. If the limit is adaptive, this is the initial
+     * limit.
+     */
+    @ConfigItem(defaultValue = "100")
+    public int limit;
+
+    /**
+     * The maximum number of requests waiting for a permit once the limit is reached. The requests that can't be queued
+     * are rejected with a {@code 503 Service Unavailable} response.
+     */
+    @ConfigItem(defaultValue = "0")
+    public int queueSize;
+
+    /**
+     * The maximum amount of time a request waits in the queue before it is rejected.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration queueTimeout;
+
+    /**
+     * The value of the {@code Retry-After} header sent with the rejected requests, rounded to seconds.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration retryAfter;
+
+    /**
+     * If enabled, the limit is adjusted according to the observed response times: it is increased while the response
+     * times stay close to the lowest observed response time and decreased when they grow, which is a sign of requests
+     * queuing up somewhere in the application.
+     */
+    @ConfigItem
+    public boolean adaptive;
+
+    /**
+     * The lowest value of an adaptive limit.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int minLimit;
+
+    /**
+     * The highest value of an adaptive limit.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxLimit;
+}
@@ -9,6 +9,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.runtime.annotations.ConvertWith;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.NormalizeRootHttpPathConverter;
 import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
@@ -97,4 +98,39 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * The compression algorithms that can be negotiated with the client when compression support is enabled. If not set,
+     * {@code gzip} and {@code deflate} are used.
+     * <p>
+     * {@code br} requires {@code com.aayushatharva.brotli4j:brotli4j} and {@code zstd} requires
+     * {@code com.github.luben:zstd-jni} to be present, otherwise they are ignored.
+     */
+    @ConfigItem
+    public Optional<List<CompressionAlgorithm>> compressors;
+
+    /**
+     * Responses that declare a {@code Content-Length} smaller than this threshold are not compressed, as the overhead
+     * of the compression outweighs the gain.
+     */
+    @ConfigItem
+    public Optional<MemorySize> compressionThreshold;
+
+    /**
+     * If enabled, a gzip compressed variant of each static resource from {@code META-INF/resources} whose media type is
+     * listed in {@code quarkus.http.compress-media-types} is generated when the application is packaged. It is then
+     * served to the clients that accept it, instead of the resource being compressed on every request.
+     * <p>
+     * The {@code .br}, {@code .zst} and {@code .gz} variants that are shipped along the static resources are served the
+     * same way. This only applies when {@code quarkus.http.enable-compression} is enabled.
+     */
+    @ConfigItem
+    public boolean precompressStaticResources;
+
+    public enum CompressionAlgorithm {
+        GZIP,
+        DEFLATE,
+        BR,
+        ZSTD
+    }
 }
@@ -228,6 +228,12 @@ public class HttpConfiguration {
     @ConfigItem
     public Map<String, FilterConfig> filter;
 
+    /**
+     * Concurrency limits per set of paths, beyond which the requests are queued and then rejected
+     */
+    @ConfigItem
+    public Map<String, ConcurrencyLimitConfig> concurrencyLimit;
+
     public ProxyConfig proxy;
 
     public int determinePort(LaunchMode launchMode) {
@@ -5,11 +5,14 @@
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
@@ -20,11 +23,26 @@ public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
+    /**
+     * The suffix of the gzip compressed variants of the static resources
+     */
+    public static final String GZIP_VARIANT_SUFFIX = ".gz";
+
+    /**
+     * The suffixes of the pre-compressed variants of the static resources with their content encoding, in the order of
+     * preference
+     */
+    private static final String[][] PRECOMPRESSED_VARIANTS = { { ".br", "br" }, { ".zst", "zstd" },
+            { GZIP_VARIANT_SUFFIX, "gzip" } };
+    private static final Pattern ZERO_QUALITY = Pattern.compile("q=0(\\.0*)?");
+    private static final String PRECOMPRESSED_VARIANT = StaticResourcesRecorder.class.getName() + ".precompressedVariant";
+
     private static volatile List<Path> hotDeploymentResourcePaths;
 
     final RuntimeValue<HttpConfiguration> httpConfiguration;
     final HttpBuildTimeConfig httpBuildTimeConfig;
     private Set<String> compressMediaTypes = Set.of();
+    private boolean precompressed;
 
     public StaticResourcesRecorder(RuntimeValue<HttpConfiguration> httpConfiguration,
             HttpBuildTimeConfig httpBuildTimeConfig) {
@@ -40,6 +58,7 @@ public Consumer<Route> start(Set<String> knownPaths) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
+        this.precompressed = httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.precompressStaticResources;
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
 
         if (hotDeploymentResourcePaths != null && !hotDeploymentResourcePaths.isEmpty()) {
@@ -76,6 +95,10 @@ public void handle(RoutingContext ctx) {
                                     // let's be extra careful here in case Vert.x normalizes the mount points at some point
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     if (knownPaths.contains(rel)) {
+                        if (precompressed && (sendPrecompressed(ctx, rel, staticHandler) || reroutePrecompressed(ctx, rel,
+                                knownPaths))) {
+                            return;
+                        }
                         compressIfNeeded(ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -98,6 +121,108 @@ public void accept(Route route) {
         };
     }
 
+    /**
+     * Reroutes the request to the pre-compressed variant of the resource with the preferred encoding that the client
+     * accepts, if any.
+     * <p>
+     * The variant is then served by the {@link StaticHandler} as if it was requested directly, so that it gets the same
+     * caching headers, conditional request and range handling as the uncompressed resource. Rerouting clears the response
+     * headers, so the variant to send is kept in the context data until {@link #sendPrecompressed} handles it.
+     *
+     * @return {@code true} if the request was rerouted
+     */
+    private boolean reroutePrecompressed(RoutingContext ctx, String path, Set<String> knownPaths) {
+        String resourcePath = path.endsWith("/") ? path + StaticHandler.DEFAULT_INDEX_PAGE : path;
+        String[] variant = null;
+        boolean hasVariants = false;
+        String acceptEncoding = ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING);
+        for (String[] candidate : PRECOMPRESSED_VARIANTS) {
+            if (knownPaths.contains(resourcePath + candidate[0])) {
+                hasVariants = true;
+                if (acceptEncoding != null && accepts(acceptEncoding, candidate[1])) {
+                    variant = candidate;
+                    break;
+                }
+            }
+        }
+        if (!hasVariants) {
+            return false;
+        }
+        // caches must not serve a compressed variant to clients that don't accept it, and the other way around
+        ctx.response().putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        HttpMethod method = ctx.request().method();
+        if (variant == null || (method != HttpMethod.GET && method != HttpMethod.HEAD)) {
+            return false;
+        }
+        String normalizedPath = ctx.normalizedPath();
+        String variantPath = (normalizedPath.endsWith("/") ? normalizedPath + StaticHandler.DEFAULT_INDEX_PAGE
+                : normalizedPath) + variant[0];
+        ctx.put(PRECOMPRESSED_VARIANT, new PrecompressedVariant(resourcePath + variant[0],
+                MimeMapping.getMimeTypeForFilename(resourcePath), variant[1]));
+        String query = ctx.request().query();
+        ctx.reroute(query == null ? variantPath : variantPath + "?" + query);
+        return true;
+    }
+
+    /**
+     * Sends the pre-compressed variant selected by {@link #reroutePrecompressed} once the request has been rerouted to it.
+     * The {@code Content-Type} of the uncompressed resource and the {@code Content-Encoding} of the variant are set once the
+     * response status is known.
+     *
+     * @return {@code true} if the variant is being sent
+     */
+    private boolean sendPrecompressed(RoutingContext ctx, String path, StaticHandler staticHandler) {
+        PrecompressedVariant variant = ctx.get(PRECOMPRESSED_VARIANT);
+        if (variant == null || !variant.path.equals(path)) {
+            return false;
+        }
+        ctx.remove(PRECOMPRESSED_VARIANT);
+        HttpServerResponse response = ctx.response();
+        response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ctx.addHeadersEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                int status = response.getStatusCode();
+                if (status != 200 && status != 206 && status != 304) {
+                    return;
+                }
+                if (variant.contentType != null) {
+                    response.putHeader(HttpHeaders.CONTENT_TYPE,
+                            variant.contentType.startsWith("text") ? variant.contentType + ";charset=UTF-8"
+                                    : variant.contentType);
+                }
+                response.putHeader(HttpHeaders.CONTENT_ENCODING, variant.contentEncoding);
+            }
+        });
+        staticHandler.handle(ctx);
+        return true;
+    }
+
+    private static final class PrecompressedVariant {
+
+        final String path;
+        final String contentType;
+        final String contentEncoding;
+
+        PrecompressedVariant(String path, String contentType, String contentEncoding) {
+            this.path = path;
+            this.contentType = contentType;
+            this.contentEncoding = contentEncoding;
+        }
+    }
+
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        for (String part : acceptEncoding.split(",")) {
+            int paramIndex = part.indexOf(';');
+            String coding = (paramIndex < 0 ? part : part.substring(0, paramIndex)).trim();
+            if (coding.equalsIgnoreCase(encoding)) {
+                // a zero quality value explicitly rejects the encoding
+                return paramIndex < 0 || !ZERO_QUALITY.matcher(part.substring(paramIndex + 1).replace(" ", "")).matches();
+            }
+        }
+        return false;
+    }
+
     private void compressIfNeeded(RoutingContext ctx, String path) {
         if (httpBuildTimeConfig.enableCompression && isCompressed(path)) {
             // VertxHttpRecorder is adding "Content-Encoding: identity" to all requests if compression is enabled.
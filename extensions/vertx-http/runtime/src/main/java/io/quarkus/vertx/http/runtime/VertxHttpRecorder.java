@@ -43,6 +43,10 @@
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.arc.Arc;
@@ -65,6 +69,7 @@
 import io.quarkus.runtime.configuration.ConfigInstantiator;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
@@ -73,6 +78,7 @@
 import io.quarkus.vertx.http.runtime.HttpConfiguration.InsecureRequests;
 import io.quarkus.vertx.http.runtime.devmode.RemoteSyncHandler;
 import io.quarkus.vertx.http.runtime.devmode.VertxHttpHotReplacementSetup;
+import io.quarkus.vertx.http.runtime.filters.ConcurrencyLimitHandler;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.Filters;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
@@ -99,6 +105,7 @@
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.impl.Http1xServerConnection;
 import io.vertx.core.impl.ContextInternal;
@@ -153,6 +160,8 @@ public class VertxHttpRecorder {
 
     private static volatile Handler<RoutingContext> nonApplicationRedirectHandler;
 
+    private static volatile DefaultAccessLogReceiver fileAccessLogReceiver;
+
     private static volatile int actualHttpPort = -1;
     private static volatile int actualHttpsPort = -1;
 
@@ -381,12 +390,30 @@ public void finalizeRouter(BeanContainer container, Consumer<Route> defaultRoute
         }
 
         if (httpBuildTimeConfig.enableCompression) {
+            long compressionThreshold = httpBuildTimeConfig.compressionThreshold.isPresent()
+                    ? httpBuildTimeConfig.compressionThreshold.get().asLongValue()
+                    : 0;
             httpRouteRouter.route().order(0).handler(new Handler<RoutingContext>() {
                 @Override
                 public void handle(RoutingContext ctx) {
                     // Add "Content-Encoding: identity" header that disables the compression
                     // This header can be removed to enable the compression
                     ctx.response().putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                    if (compressionThreshold > 0) {
+                        ctx.addHeadersEndHandler(new Handler<Void>() {
+                            @Override
+                            public void handle(Void event) {
+                                HttpServerResponse response = ctx.response();
+                                if (response.headers().contains(HttpHeaders.CONTENT_ENCODING)) {
+                                    return;
+                                }
+                                String contentLength = response.headers().get(HttpHeaders.CONTENT_LENGTH);
+                                if (contentLength != null && Long.parseLong(contentLength) < compressionThreshold) {
+                                    response.putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                                }
+                            }
+                        });
+                    }
                     ctx.next();
                 }
             });
@@ -395,6 +422,12 @@ public void handle(RoutingContext ctx) {
         httpRouteRouter.route().last().failureHandler(
                 new QuarkusErrorHandler(launchMode.isDevOrTest(), httpConfiguration.unhandledErrorContentTypeDefault));
 
+        ConcurrencyLimitHandler concurrencyLimitHandler = container.beanInstance(ConcurrencyLimitHandler.class);
+        if (concurrencyLimitHandler.isEnabled()) {
+            // the requests are admitted before their body is read, so that the queued requests don't use any memory
+            httpRouteRouter.route().order(Integer.MIN_VALUE).handler(concurrencyLimitHandler);
+        }
+
         if (requireBodyHandler) {
             //if this is set then everything needs the body handler installed
             //TODO: config etc
@@ -554,12 +587,22 @@ public void handle(HttpServerRequest event) {
         }
 
         AccessLogConfig accessLog = httpConfiguration.accessLog;
+        fileAccessLogReceiver = null;
         if (accessLog.enabled) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                DefaultAccessLogReceiver fileReceiver = DefaultAccessLogReceiver.builder()
+                        .setLogWriteExecutor(executor)
+                        .setOutputDirectory(outputDir.toPath())
+                        .setLogBaseName(accessLog.baseFileName)
+                        .setLogNameSuffix(accessLog.logSuffix)
+                        .setRotate(accessLog.rotate)
+                        .setMaxFileSize(accessLog.rotateSize.isPresent() ? accessLog.rotateSize.get().asLongValue() : 0)
+                        .setMaxPendingMessages(accessLog.maxPendingEntries)
+                        .build();
+                fileAccessLogReceiver = fileReceiver;
+                receiver = fileReceiver;
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
@@ -939,11 +982,45 @@ private static void applyCommonOptions(HttpServerOptions httpServerOptions,
         if (buildTimeConfig.compressionLevel.isPresent()) {
             httpServerOptions.setCompressionLevel(buildTimeConfig.compressionLevel.getAsInt());
         }
+        if (buildTimeConfig.enableCompression && buildTimeConfig.compressors.isPresent()) {
+            httpServerOptions.setCompressors(createCompressors(buildTimeConfig.compressors.get(),
+                    httpServerOptions.getCompressionLevel()));
+        }
         httpServerOptions.setDecompressionSupported(buildTimeConfig.enableDecompression);
         httpServerOptions.setMaxInitialLineLength(httpConfiguration.limits.maxInitialLineLength);
         httpServerOptions.setHandle100ContinueAutomatically(httpConfiguration.handle100ContinueAutomatically);
     }
 
+    private static List<CompressionOptions> createCompressors(List<HttpBuildTimeConfig.CompressionAlgorithm> algorithms,
+            int compressionLevel) {
+        List<CompressionOptions> compressors = new ArrayList<>(algorithms.size());
+        for (HttpBuildTimeConfig.CompressionAlgorithm algorithm : algorithms) {
+            switch (algorithm) {
+                case GZIP:
+                    compressors.add(StandardCompressionOptions.gzip(compressionLevel, 15, 8));
+                    break;
+                case DEFLATE:
+                    compressors.add(StandardCompressionOptions.deflate(compressionLevel, 15, 8));
+                    break;
+                case BR:
+                    if (Brotli.isAvailable()) {
+                        compressors.add(StandardCompressionOptions.brotli());
+                    } else {
+                        LOGGER.warn("Brotli compression was configured but Brotli4j is not available, it will be ignored");
+                    }
+                    break;
+                case ZSTD:
+                    if (Zstd.isAvailable()) {
+                        compressors.add(StandardCompressionOptions.zstd());
+                    } else {
+                        LOGGER.warn("Zstd compression was configured but zstd-jni is not available, it will be ignored");
+                    }
+                    break;
+            }
+        }
+        return compressors;
+    }
+
     private static KeyStoreOptions createKeyStoreOptions(Path path, String password, Optional<String> fileType,
             Optional<String> provider, Optional<String> alias, Optional<String> aliasPassword) throws IOException {
         final String type;
@@ -1107,6 +1184,44 @@ public Handler<RoutingContext> getNonApplicationRedirectHandler() {
         return nonApplicationRedirectHandler;
     }
 
+    public Supplier<ConcurrencyLimitHandler> createConcurrencyLimitHandler() {
+        ConcurrencyLimitHandler handler = new ConcurrencyLimitHandler(httpConfiguration.getValue().concurrencyLimit,
+                httpBuildTimeConfig.rootPath);
+        return new Supplier<ConcurrencyLimitHandler>() {
+            @Override
+            public ConcurrencyLimitHandler get() {
+                return handler;
+            }
+        };
+    }
+
+    public Consumer<MetricsFactory> registerAccessLogMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                // the receiver is created once the router is finalized and replaced on restart, so it is looked up lazily
+                metricsFactory.builder("http.server.access.log.pending")
+                        .description("Number of access log entries waiting to be written to the log file")
+                        .buildGauge(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                DefaultAccessLogReceiver receiver = fileAccessLogReceiver;
+                                return receiver != null ? receiver.getPendingMessages() : 0;
+                            }
+                        });
+                metricsFactory.builder("http.server.access.log.dropped")
+                        .description("Number of access log entries dropped because the log file could not keep up")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                DefaultAccessLogReceiver receiver = fileAccessLogReceiver;
+                                return receiver != null ? receiver.getDroppedMessages() : 0;
+                            }
+                        });
+            }
+        };
+    }
+
     public GracefulShutdownFilter createGracefulShutdownHandler() {
         return new GracefulShutdownFilter();
     }
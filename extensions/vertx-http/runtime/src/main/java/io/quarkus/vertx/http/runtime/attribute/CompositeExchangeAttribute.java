@@ -8,7 +8,14 @@
  */
 public class CompositeExchangeAttribute implements ExchangeAttribute {
 
+    // the initial capacity of the builder never exceeds this value, so that a single long line does not oversize the builder
+    // of all the following requests
+    private static final int MAX_EXPECTED_LENGTH = 1024;
+
     private final ExchangeAttribute[] attributes;
+    // the length of the longest value read so far, capped to MAX_EXPECTED_LENGTH, so that the builder doesn't need to grow in
+    // most cases; the races between the threads are harmless as it's only a sizing hint
+    private int expectedLength = 64;
 
     public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
         ExchangeAttribute[] copy = new ExchangeAttribute[attributes.length];
@@ -18,13 +25,17 @@ public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
-        final StringBuilder sb = new StringBuilder();
+        final StringBuilder sb = new StringBuilder(expectedLength);
         for (int i = 0; i < attributes.length; ++i) {
             final String val = attributes[i].readAttribute(exchange);
             if (val != null) {
                 sb.append(val);
             }
         }
+        int length = sb.length();
+        if (length > expectedLength && expectedLength < MAX_EXPECTED_LENGTH) {
+            expectedLength = Math.min(length, MAX_EXPECTED_LENGTH);
+        }
         return sb.toString();
     }
 
@@ -14,6 +14,10 @@ public ConstantExchangeAttribute(final String value) {
         this.value = value;
     }
 
+    String getValue() {
+        return value;
+    }
+
     @Override
     public String readAttribute(final RoutingContext exchange) {
         return value;
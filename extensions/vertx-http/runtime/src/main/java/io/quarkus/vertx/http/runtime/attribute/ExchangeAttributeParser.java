@@ -140,6 +140,7 @@ public ExchangeAttribute parse(final String valueString) {
                 throw new RuntimeException("Mismatched braces: " + valueString);
             }
         }
+        mergeConstants(attributes);
         if (attributes.size() == 1) {
             return attributes.get(0);
         }
@@ -159,6 +160,20 @@ public ExchangeAttribute parseSingleToken(final String token) {
         return new ConstantExchangeAttribute(token);
     }
 
+    /**
+     * Merges the adjacent constant parts of the pattern, so that they are appended at once for each exchange
+     */
+    private static void mergeConstants(List<ExchangeAttribute> attributes) {
+        for (int i = attributes.size() - 1; i > 0; --i) {
+            if (attributes.get(i) instanceof ConstantExchangeAttribute
+                    && attributes.get(i - 1) instanceof ConstantExchangeAttribute) {
+                attributes.set(i - 1, new ConstantExchangeAttribute(
+                        ((ConstantExchangeAttribute) attributes.get(i - 1)).getValue()
+                                + ((ConstantExchangeAttribute) attributes.remove(i)).getValue()));
+            }
+        }
+    }
+
     private ExchangeAttribute wrap(ExchangeAttribute attribute) {
         ExchangeAttribute res = attribute;
         for (ExchangeAttributeWrapper w : wrappers) {
@@ -12,6 +12,10 @@ public SubstituteEmptyWrapper(String substitute) {
 
     @Override
     public ExchangeAttribute wrap(final ExchangeAttribute attribute) {
+        if (attribute instanceof ConstantExchangeAttribute && !((ConstantExchangeAttribute) attribute).getValue().isEmpty()) {
+            // never empty, so there is nothing to substitute
+            return attribute;
+        }
         return new SubstituteEmptyAttribute(attribute, substitute);
     }
 
@@ -0,0 +1,79 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.http.runtime.ConcurrencyLimitConfig;
+import io.quarkus.vertx.http.runtime.security.PathMatcher;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Applies the concurrency limits configured with {@code quarkus.http.concurrency-limit} to the matching requests.
+ */
+public class ConcurrencyLimitHandler implements Handler<RoutingContext> {
+
+    private static final Logger log = Logger.getLogger(ConcurrencyLimitHandler.class);
+
+    private final PathMatcher<ConcurrencyLimiter> pathMatcher = new PathMatcher<>();
+    private final List<ConcurrencyLimiter> limiters;
+
+    public ConcurrencyLimitHandler(Map<String, ConcurrencyLimitConfig> limits, String rootPath) {
+        List<ConcurrencyLimiter> limiters = new ArrayList<>();
+        for (Map.Entry<String, ConcurrencyLimitConfig> entry : limits.entrySet()) {
+            ConcurrencyLimitConfig config = entry.getValue();
+            if (!config.enabled.orElse(Boolean.TRUE)) {
+                continue;
+            }
+            if (config.paths.isEmpty() || config.paths.get().isEmpty()) {
+                log.warnf("Concurrency limit %s does not define any path and is ignored", entry.getKey());
+                continue;
+            }
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(entry.getKey(), config);
+            limiters.add(limiter);
+            for (String path : config.paths.get()) {
+                path = path.trim();
+                if (!path.startsWith("/")) {
+                    path = rootPath + path;
+                }
+                if (path.endsWith("/*")) {
+                    String stripped = path.substring(0, path.length() - 2);
+                    pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, limiter);
+                } else if (path.endsWith("*")) {
+                    pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), limiter);
+                } else {
+                    pathMatcher.addExactPath(path, limiter);
+                }
+            }
+        }
+        this.limiters = Collections.unmodifiableList(limiters);
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        ConcurrencyLimiter limiter = pathMatcher.match(ctx.request().path()).getValue();
+        if (limiter == null) {
+            ctx.next();
+        } else {
+            limiter.handle(ctx);
+        }
+    }
+
+    /**
+     * @return {@code true} if at least one concurrency limit applies
+     */
+    public boolean isEnabled() {
+        return !limiters.isEmpty();
+    }
+
+    /**
+     * @return the enabled concurrency limits
+     */
+    public List<ConcurrencyLimiter> getLimiters() {
+        return limiters;
+    }
+}
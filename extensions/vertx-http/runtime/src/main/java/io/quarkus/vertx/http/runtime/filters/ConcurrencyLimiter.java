@@ -0,0 +1,209 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.ConcurrencyLimitConfig;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Bounds the number of requests processed concurrently for a set of paths.
+ * <p>
+ * Once the limit is reached, the requests wait in a bounded queue until a permit is released, and are rejected with a
+ * {@code 503 Service Unavailable} response when the queue is full or when they waited for too long.
+ * <p>
+ * An adaptive limit follows the TCP Vegas congestion control algorithm: the number of requests queuing up in the
+ * application is estimated from the ratio between the lowest observed response time and the current one, and the limit
+ * is increased while this estimate is low and decreased when it grows.
+ */
+public class ConcurrencyLimiter {
+
+    /**
+     * The number of samples after which the lowest observed response time is reset, so that the limit can recover
+     * from a change of the baseline, e.g. after a deployment of a slower dependency
+     */
+    static final int MIN_RTT_RESET_SAMPLES = 1000;
+
+    private final String name;
+    private final int queueSize;
+    private final long queueTimeoutMillis;
+    private final String retryAfter;
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    private final LongAdder rejected = new LongAdder();
+    // guarded by this
+    private int limit;
+    private int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samples;
+
+    public ConcurrencyLimiter(String name, ConcurrencyLimitConfig config) {
+        this.name = name;
+        this.queueSize = config.queueSize;
+        this.queueTimeoutMillis = config.queueTimeout.toMillis();
+        this.retryAfter = Long.toString(Math.max(1, config.retryAfter.toSeconds()));
+        this.adaptive = config.adaptive;
+        this.minLimit = Math.max(1, config.minLimit);
+        this.maxLimit = Math.max(this.minLimit, config.maxLimit);
+        this.limit = adaptive ? Math.min(Math.max(config.limit, minLimit), maxLimit) : Math.max(1, config.limit);
+    }
+
+    void handle(RoutingContext ctx) {
+        boolean admitted = false;
+        Waiter waiter = null;
+        synchronized (this) {
+            if (inFlight < limit) {
+                inFlight++;
+                admitted = true;
+            } else if (queue.size() < queueSize) {
+                waiter = new Waiter(ctx);
+                queue.add(waiter);
+            }
+        }
+        if (admitted) {
+            admit(ctx);
+        } else if (waiter != null) {
+            waiter.scheduleTimeout();
+        } else {
+            reject(ctx);
+        }
+    }
+
+    private void admit(RoutingContext ctx) {
+        long start = System.nanoTime();
+        ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> event) {
+                release(System.nanoTime() - start);
+            }
+        });
+        ctx.next();
+    }
+
+    private void release(long rttNanos) {
+        Waiter next = null;
+        synchronized (this) {
+            if (adaptive) {
+                updateLimit(rttNanos);
+            }
+            // the permit is handed over to the next request, unless the limit has been lowered in the meantime
+            if (inFlight <= limit) {
+                next = queue.poll();
+            }
+            if (next == null) {
+                inFlight--;
+            }
+        }
+        if (next != null) {
+            next.admit();
+        }
+    }
+
+    private void updateLimit(long rttNanos) {
+        if (++samples == MIN_RTT_RESET_SAMPLES) {
+            samples = 0;
+            minRttNanos = rttNanos;
+        } else if (rttNanos < minRttNanos) {
+            minRttNanos = rttNanos;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+        double queued = limit * (1 - (double) minRttNanos / rttNanos);
+        int threshold = Math.max(1, (int) Math.log10(limit));
+        if (queued <= 3 * threshold) {
+            // only increase the limit when it is actually reached, otherwise it would grow without bounds
+            if (inFlight * 2 >= limit && limit < maxLimit) {
+                limit++;
+            }
+        } else if (queued > 6 * threshold && limit > minLimit) {
+            limit--;
+        }
+    }
+
+    private void reject(RoutingContext ctx) {
+        rejected.increment();
+        ctx.response().setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code())
+                .putHeader(HttpHeaderNames.RETRY_AFTER, retryAfter)
+                .end();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the current limit, which changes over time if the limit is adaptive
+     */
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of requests being processed
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the number of requests waiting for a permit
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * @return the total number of rejected requests
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private final class Waiter {
+
+        private final RoutingContext ctx;
+        private final Context context;
+        private long timerId = -1;
+
+        Waiter(RoutingContext ctx) {
+            this.ctx = ctx;
+            this.context = Vertx.currentContext();
+        }
+
+        void scheduleTimeout() {
+            timerId = ctx.vertx().setTimer(queueTimeoutMillis, new Handler<Long>() {
+                @Override
+                public void handle(Long event) {
+                    boolean removed;
+                    synchronized (ConcurrencyLimiter.this) {
+                        removed = queue.remove(Waiter.this);
+                    }
+                    if (removed) {
+                        reject(ctx);
+                    }
+                }
+            });
+        }
+
+        void admit() {
+            // the permit is released on the thread that completed the previous request
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    ctx.vertx().cancelTimer(timerId);
+                    ConcurrencyLimiter.this.admit(ctx);
+                }
+            });
+        }
+    }
+}
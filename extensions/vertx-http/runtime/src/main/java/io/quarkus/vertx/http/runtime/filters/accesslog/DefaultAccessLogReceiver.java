@@ -21,7 +21,9 @@
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -35,17 +37,22 @@
 import java.util.Locale;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.logging.Logger;
 
 /**
  * Log Receiver that stores logs in a directory under the specified file name, and rotates them after
- * midnight.
+ * midnight, or once the file reaches a given size.
  * <p/>
  * Web threads do not touch the log file, but simply queue messages to be written later by a worker thread.
  * A lightweight CAS based locking mechanism is used to ensure than only 1 thread is active writing messages at
- * any given time
+ * any given time. The messages are written in batches, with a single write to the file per batch.
+ * <p/>
+ * If a maximum number of pending messages is set, the messages logged while the worker thread lags behind that much
+ * are dropped, so that a slow disk cannot exhaust the memory.
  *
  * @author Stuart Douglas
  */
@@ -58,6 +65,9 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
     private final Executor logWriteExecutor;
 
     private final Deque<String> pendingMessages;
+    private final AtomicInteger pendingMessageCount = new AtomicInteger();
+    private final LongAdder droppedMessages = new LongAdder();
+    private final int maxPendingMessages;
 
     //0 = not running
     //1 = queued
@@ -78,7 +88,9 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
     private final String logBaseName;
     private final String logNameSuffix; // always starts with a '.' character
 
-    private Writer writer = null;
+    private FileChannel channel = null;
+    private long currentFileSize;
+    private final long maxFileSize;
 
     private volatile boolean closed = false;
     private boolean initialRun = true;
@@ -110,12 +122,15 @@ public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outp
 
     public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
             final String logNameSuffix, boolean rotate) {
-        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null);
+        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null, 0, 0);
     }
 
     private DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
-            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader) {
+            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader, long maxFileSize,
+            int maxPendingMessages) {
         this.logWriteExecutor = logWriteExecutor;
+        this.maxFileSize = maxFileSize;
+        this.maxPendingMessages = maxPendingMessages;
         this.outputDirectory = outputDirectory;
         this.logBaseName = logBaseName;
         this.rotate = rotate;
@@ -155,6 +170,11 @@ private void calculateChangeOverPoint() {
 
     @Override
     public void logMessage(final String message) {
+        if (pendingMessageCount.incrementAndGet() > maxPendingMessages && maxPendingMessages > 0) {
+            pendingMessageCount.decrementAndGet();
+            droppedMessages.increment();
+            return;
+        }
         this.pendingMessages.add(message);
         int state = stateUpdater.get(this);
         if (state == 0) {
@@ -198,6 +218,7 @@ public void run() {
             if (msg == null) {
                 break;
             }
+            pendingMessageCount.decrementAndGet();
             messages.add(msg);
         }
         try {
@@ -214,11 +235,7 @@ public void run() {
                 }
             } else if (closed) {
                 try {
-                    if (writer != null) {
-                        writer.flush();
-                        writer.close();
-                        writer = null;
-                    }
+                    closeChannel();
                 } catch (IOException e) {
                     log.error("Error writing access log", e);
                 }
@@ -245,41 +262,61 @@ private void writeMessage(final List<String> messages) {
         if (System.currentTimeMillis() > changeOverPoint) {
             doRotate();
         }
+        StringBuilder batch = new StringBuilder();
+        for (String message : messages) {
+            batch.append(message).append('\n');
+        }
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(batch));
         try {
-            if (writer == null) {
-                boolean created = !Files.exists(defaultLogFile);
-                writer = Files.newBufferedWriter(defaultLogFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND,
+            if (maxFileSize > 0 && currentFileSize > 0 && currentFileSize + buffer.remaining() > maxFileSize) {
+                closeChannel();
+                moveLogFile();
+            }
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND,
                         StandardOpenOption.CREATE);
-                if (Files.size(defaultLogFile) == 0 && fileHeaderGenerator != null) {
+                currentFileSize = channel.size();
+                if (currentFileSize == 0 && fileHeaderGenerator != null) {
                     String header = fileHeaderGenerator.generateHeader();
                     if (header != null) {
-                        writer.write(header);
-                        writer.write("\n");
-                        writer.flush();
+                        write(StandardCharsets.UTF_8.encode(header + "\n"));
                     }
                 }
             }
-            for (String message : messages) {
-                writer.write(message);
-                writer.write('\n');
-            }
-            writer.flush();
+            write(buffer);
         } catch (IOException e) {
             log.error("Error writing access log", e);
         }
     }
 
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            currentFileSize += channel.write(buffer);
+        }
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
     private void doRotate() {
         forceLogRotation = false;
         if (!rotate) {
             return;
         }
         try {
-            if (writer != null) {
-                writer.flush();
-                writer.close();
-                writer = null;
-            }
+            closeChannel();
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        }
+        moveLogFile();
+    }
+
+    private void moveLogFile() {
+        try {
             if (!Files.exists(defaultLogFile)) {
                 return;
             }
@@ -316,6 +353,20 @@ public void close() throws IOException {
         }
     }
 
+    /**
+     * @return the number of messages waiting to be written
+     */
+    public int getPendingMessages() {
+        return pendingMessageCount.get();
+    }
+
+    /**
+     * @return the number of messages that were dropped because too many messages were pending
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -327,6 +378,8 @@ public static class Builder {
         private String logNameSuffix;
         private boolean rotate;
         private LogFileHeaderGenerator logFileHeaderGenerator;
+        private long maxFileSize;
+        private int maxPendingMessages;
 
         public Executor getLogWriteExecutor() {
             return logWriteExecutor;
@@ -382,9 +435,33 @@ public Builder setLogFileHeaderGenerator(LogFileHeaderGenerator logFileHeaderGen
             return this;
         }
 
+        public long getMaxFileSize() {
+            return maxFileSize;
+        }
+
+        /**
+         * @param maxFileSize the size beyond which the log file is rotated, or {@code 0} to only rotate the file daily
+         */
+        public Builder setMaxFileSize(long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        public int getMaxPendingMessages() {
+            return maxPendingMessages;
+        }
+
+        /**
+         * @param maxPendingMessages the maximum number of messages waiting to be written, or {@code 0} for no limit
+         */
+        public Builder setMaxPendingMessages(int maxPendingMessages) {
+            this.maxPendingMessages = maxPendingMessages;
+            return this;
+        }
+
         public DefaultAccessLogReceiver build() {
             return new DefaultAccessLogReceiver(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate,
-                    logFileHeaderGenerator);
+                    logFileHeaderGenerator, maxFileSize, maxPendingMessages);
         }
     }
 }
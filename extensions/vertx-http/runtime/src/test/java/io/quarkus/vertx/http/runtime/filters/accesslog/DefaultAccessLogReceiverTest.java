@@ -0,0 +1,75 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DefaultAccessLogReceiverTest {
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    public void testRotationOnSize() throws Exception {
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(Runnable::run)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("access")
+                .setMaxFileSize(100)
+                .build();
+        for (int i = 0; i < 10; i++) {
+            // 30 bytes per line with the line separator
+            receiver.logMessage(String.format("message %020d", i));
+        }
+        receiver.awaitWrittenForTest();
+        receiver.close();
+
+        List<Path> files = listFiles();
+        assertEquals(4, files.size());
+        long lines = 0;
+        for (Path file : files) {
+            assertTrue(Files.size(file) <= 100, file + " exceeds the maximum size");
+            lines += Files.readAllLines(file).size();
+        }
+        assertEquals(10, lines);
+    }
+
+    @Test
+    public void testMessagesAreDroppedBeyondMaxPendingMessages() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("access")
+                .setMaxPendingMessages(2)
+                .build();
+        for (int i = 0; i < 5; i++) {
+            receiver.logMessage("message " + i);
+        }
+        assertEquals(2, receiver.getPendingMessages());
+        assertEquals(3, receiver.getDroppedMessages());
+
+        tasks.remove(0).run();
+        assertEquals(0, receiver.getPendingMessages());
+        assertEquals(List.of("message 0", "message 1"),
+                Files.readAllLines(logDirectory.resolve("access.log"), StandardCharsets.UTF_8));
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            List<Path> result = new ArrayList<>();
+            files.forEach(result::add);
+            return result;
+        }
+    }
+}
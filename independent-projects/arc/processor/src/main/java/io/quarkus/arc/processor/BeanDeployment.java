@@ -15,9 +15,13 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -53,6 +57,9 @@ public class BeanDeployment {
 
     private static final Logger LOGGER = Logger.getLogger(BeanDeployment.class);
 
+    // the number of components whose injection points are resolved by a single task when resolving in parallel
+    private static final int RESOLUTION_BATCH_SIZE = 100;
+
     private final BuildContextImpl buildContext;
 
     private final IndexView beanArchiveIndex;
@@ -96,6 +103,8 @@ public class BeanDeployment {
 
     private final boolean removeUnusedBeans;
 
+    private final boolean strictUnusedBeansRemoval;
+
     private final List<Predicate<BeanInfo>> unusedExclusions;
 
     private final Set<BeanInfo> removedBeans;
@@ -134,6 +143,7 @@ public class BeanDeployment {
                 initAndSort(builder.injectionPointTransformers, buildContext), buildContext);
         this.observerTransformers = initAndSort(builder.observerTransformers, buildContext);
         this.removeUnusedBeans = builder.removeUnusedBeans;
+        this.strictUnusedBeansRemoval = builder.strictUnusedBeansRemoval;
         this.unusedExclusions = removeUnusedBeans ? new ArrayList<>(builder.removalExclusions) : null;
         this.removedBeans = removeUnusedBeans ? new CopyOnWriteArraySet<>() : Collections.emptySet();
         this.customContexts = new ConcurrentHashMap<>();
@@ -266,17 +276,15 @@ BeanRegistrar.RegistrationContext registerBeans(List<BeanRegistrar> beanRegistra
     }
 
     void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
-            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
         long start = System.nanoTime();
 
         // Collect dependency resolution errors
         List<Throwable> errors = new ArrayList<>();
+        resolveInjectionPoints(errors, executor);
         for (BeanInfo bean : beans) {
             bean.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
         }
-        for (ObserverInfo observer : observers) {
-            observer.init(errors);
-        }
         for (InterceptorInfo interceptor : interceptors) {
             interceptor.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
         }
@@ -311,6 +319,65 @@ void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
         LOGGER.debugf("Bean deployment initialized in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
+    private void resolveInjectionPoints(List<Throwable> errors, ExecutorService executor) {
+        long start = System.nanoTime();
+        List<Consumer<List<Throwable>>> targets = new ArrayList<>(
+                beans.size() + observers.size() + interceptors.size() + decorators.size());
+        for (BeanInfo bean : beans) {
+            targets.add(bean::resolveInjectionPoints);
+        }
+        for (ObserverInfo observer : observers) {
+            targets.add(observer::init);
+        }
+        for (InterceptorInfo interceptor : interceptors) {
+            targets.add(interceptor::resolveInjectionPoints);
+        }
+        for (DecoratorInfo decorator : decorators) {
+            targets.add(decorator::resolveInjectionPoints);
+        }
+
+        if (executor == null || targets.size() < 2 * RESOLUTION_BATCH_SIZE) {
+            for (Consumer<List<Throwable>> target : targets) {
+                target.accept(errors);
+            }
+        } else {
+            // Each batch collects its own errors; they are merged in the original order so that the result is deterministic
+            List<Future<List<Throwable>>> batches = new ArrayList<>();
+            for (int i = 0; i < targets.size(); i += RESOLUTION_BATCH_SIZE) {
+                List<Consumer<List<Throwable>>> batch = targets.subList(i,
+                        Math.min(i + RESOLUTION_BATCH_SIZE, targets.size()));
+                batches.add(executor.submit(new Callable<List<Throwable>>() {
+                    @Override
+                    public List<Throwable> call() {
+                        List<Throwable> batchErrors = new ArrayList<>();
+                        for (Consumer<List<Throwable>> target : batch) {
+                            target.accept(batchErrors);
+                        }
+                        return batchErrors;
+                    }
+                }));
+            }
+            try {
+                for (Future<List<Throwable>> batch : batches) {
+                    errors.addAll(batch.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while resolving injection points", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        LOGGER.debugf("Resolved injection points of %s components in %s ms%s", targets.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), executor != null ? " (parallel)" : "");
+    }
+
     /**
      * Re-initialize the map that is used to speed-up lookup requests.
      */
@@ -436,6 +503,10 @@ private Set<DecoratorInfo> removeUnusedDecorators(Set<DecoratorInfo> removedDeco
     private Set<BeanInfo> removeUnusedBeans(Set<BeanInfo> declaresObserver, List<Predicate<BeanInfo>> allUnusedExclusions) {
         Set<BeanInfo> removableBeans = UnusedBeans.findRemovableBeans(this.beans, this.injectionPoints, declaresObserver,
                 allUnusedExclusions);
+        if (strictUnusedBeansRemoval) {
+            removableBeans.addAll(UnusedBeans.findUnreachableBeans(this.beans, this.interceptors, this.decorators,
+                    this.injectionPoints, declaresObserver, allUnusedExclusions));
+        }
         if (!removableBeans.isEmpty()) {
             this.beans.removeAll(removableBeans);
             this.removedBeans.addAll(removableBeans);
@@ -453,6 +524,7 @@ private Set<BeanInfo> removeUnusedBeans(Set<BeanInfo> declaresObserver, List<Pre
 
     ValidationContext validate(List<BeanDeploymentValidator> validators,
             Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+        long start = System.nanoTime();
         // Validate the bean deployment
         List<Throwable> errors = new ArrayList<>();
         // First, validate all beans internally
@@ -465,6 +537,7 @@ ValidationContext validate(List<BeanDeploymentValidator> validators,
         for (BeanDeploymentValidator validator : validators) {
             validator.validate(validationContext);
         }
+        LOGGER.debugf("Bean deployment validated in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         return validationContext;
     }
 
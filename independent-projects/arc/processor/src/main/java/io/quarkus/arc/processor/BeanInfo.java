@@ -525,8 +525,7 @@ void validate(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTran
         Beans.validateBean(this, errors, bytecodeTransformerConsumer, classesReceivingNoArgsCtor);
     }
 
-    void init(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
-            boolean transformUnproxyableClasses) {
+    void resolveInjectionPoints(List<Throwable> errors) {
         for (Injection injection : injections) {
             for (InjectionPointInfo injectionPoint : injection.injectionPoints) {
                 if (injectionPoint.isDelegate() && !isDecorator()) {
@@ -543,6 +542,10 @@ void init(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransfor
         if (disposer != null) {
             disposer.init(errors);
         }
+    }
+
+    void init(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            boolean transformUnproxyableClasses) {
         interceptedMethods.putAll(initInterceptedMethods(errors, bytecodeTransformerConsumer, transformUnproxyableClasses));
         decoratedMethods.putAll(initDecoratedMethods());
         if (errors.isEmpty()) {
@@ -9,6 +9,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -86,6 +87,10 @@ public static Builder builder() {
     // Such as java.lang.Deprecated
     protected final Predicate<DotName> injectionPointAnnotationsPredicate;
 
+    // Set when the resources are generated
+    private volatile Map<BeanInfo, String> beanToGeneratedName;
+    private volatile Map<ObserverInfo, String> observerToGeneratedName;
+
     private BeanProcessor(Builder builder) {
         this.reflectionRegistration = builder.reflectionRegistration;
         this.applicationClassPredicate = builder.applicationClassPredicate;
@@ -140,7 +145,18 @@ public ObserverRegistrar.RegistrationContext registerSyntheticObservers() {
      */
     public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
             List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
-        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions);
+        initialize(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, null);
+    }
+
+    /**
+     *
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param additionalUnusedBeanExclusions Additional predicates to exclude unused beans
+     * @param executor If not null, the injection points are resolved in parallel
+     */
+    public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
+        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, executor);
     }
 
     /**
@@ -206,6 +222,8 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         for (ObserverInfo observer : observers) {
             observerGenerator.precomputeGeneratedName(observer);
         }
+        this.beanToGeneratedName = beanToGeneratedName;
+        this.observerToGeneratedName = observerToGeneratedName;
 
         List<Resource> resources = new ArrayList<>();
 
@@ -406,6 +424,46 @@ public Collection<Resource> call() throws Exception {
         return resources;
     }
 
+    /**
+     * Returns the names of the classes generated for each bean, interceptor and decorator, i.e. the bean class, the client
+     * proxy, the intercepted subclass and the observers declared by the bean. The names are in the form
+     * {@code com/foo/MyBean_Bean}. Note that a class is only generated if it does not exist yet.
+     *
+     * @return the generated class names, or an empty map if no resources were generated yet
+     * @see #generateResources(ReflectionRegistration, Set, Consumer, boolean, ExecutorService)
+     */
+    public Map<BeanInfo, List<String>> getGeneratedClassNames() {
+        Map<BeanInfo, String> beanNames = this.beanToGeneratedName;
+        Map<ObserverInfo, String> observerNames = this.observerToGeneratedName;
+        if (beanNames == null) {
+            return Collections.emptyMap();
+        }
+        Map<BeanInfo, List<String>> names = new HashMap<>();
+        for (Entry<BeanInfo, String> entry : beanNames.entrySet()) {
+            BeanInfo bean = entry.getKey();
+            String beanName = entry.getValue();
+            List<String> beanClassNames = new ArrayList<>(3);
+            beanClassNames.add(beanName);
+            String baseName = beanName.substring(beanName.lastIndexOf('/') + 1,
+                    beanName.lastIndexOf(BeanGenerator.BEAN_SUFFIX));
+            if (bean.getScope().isNormal()) {
+                beanClassNames.add(AbstractGenerator.generatedNameFromTarget(bean.getClientProxyPackageName(), baseName,
+                        ClientProxyGenerator.CLIENT_PROXY_SUFFIX));
+            }
+            if (bean.isSubclassRequired()) {
+                beanClassNames.add(SubclassGenerator.generatedName(bean.getProviderType().name(), baseName));
+            }
+            names.put(bean, beanClassNames);
+        }
+        for (Entry<ObserverInfo, String> entry : observerNames.entrySet()) {
+            List<String> beanClassNames = names.get(entry.getKey().getDeclaringBean());
+            if (beanClassNames != null) {
+                beanClassNames.add(entry.getValue());
+            }
+        }
+        return names;
+    }
+
     public BeanDeployment getBeanDeployment() {
         return beanDeployment;
     }
@@ -460,6 +518,7 @@ public static class Builder {
         final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
         boolean removeUnusedBeans = false;
+        boolean strictUnusedBeansRemoval = false;
         final List<Predicate<BeanInfo>> removalExclusions;
 
         boolean generateSources;
@@ -671,6 +730,26 @@ public Builder setRemoveUnusedBeans(boolean removeUnusedBeans) {
             return this;
         }
 
+        /**
+         * If set to true the container will also remove the beans that cannot be reached from an unremovable component.
+         * <p>
+         * A bean is reachable if it's unremovable, or if it's eligible for injection into an injection point (including
+         * {@link javax.enterprise.inject.Instance} injection points) of a reachable component or an observer method, or if
+         * it declares a reachable producer, or if it's an interceptor or a decorator bound to a reachable bean. Unlike
+         * the default removal, the injection points of unused beans are never taken into account. In particular, the beans
+         * only referenced by an {@code Instance<T>} injection point of an unused bean, or by a cycle of unused beans, are
+         * removed too.
+         * <p>
+         * This option has no effect unless {@link #setRemoveUnusedBeans(boolean)} is set to true.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setStrictUnusedBeansRemoval(boolean value) {
+            this.strictUnusedBeansRemoval = value;
+            return this;
+        }
+
         /**
          * Exclude unused beans that match the given predicate from removal.
          *
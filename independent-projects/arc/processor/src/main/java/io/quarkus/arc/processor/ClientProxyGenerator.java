@@ -26,6 +26,7 @@
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.Mockable;
 import io.quarkus.arc.processor.BeanGenerator.ProviderType;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
@@ -54,6 +55,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String INSTANCE_HANDLE_FIELD = "instanceHandle";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
@@ -133,6 +135,9 @@ Collection<Resource> generate(BeanInfo bean, String beanClassName,
             // It is safe to store the application context instance on the proxy
             contextField = clientProxy.getFieldCreator(CONTEXT_FIELD, InjectableContext.class)
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            // The handle of the contextual instance is cached until the instance is destroyed
+            clientProxy.getFieldCreator(INSTANCE_HANDLE_FIELD, ContextInstanceHandleImpl.class)
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         }
 
         createConstructor(clientProxy, superClass, beanField.getFieldDescriptor(),
@@ -291,11 +296,35 @@ void implementDelegate(ClassCreator clientProxy, ProviderType providerType, Fiel
 
         if (BuiltinScope.APPLICATION.is(bean.getScope())) {
             // Application context is stored in a field and is always active
-            creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
-                    creator.readInstanceField(
-                            FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
-                            creator.getThis()),
-                    beanHandle));
+            // ContextInstanceHandleImpl handle = this.instanceHandle;
+            // if (handle == null || handle.isDestroyed()) {
+            //    handle = ClientProxies.getApplicationScopedHandle(this.context, this.bean);
+            //    if (handle == null) {
+            //       return ClientProxies.getApplicationScopedDelegate(this.context, this.bean);
+            //    }
+            //    this.instanceHandle = handle;
+            // }
+            // return handle.get();
+            FieldDescriptor instanceHandleField = FieldDescriptor.of(clientProxy.getClassName(), INSTANCE_HANDLE_FIELD,
+                    ContextInstanceHandleImpl.class);
+            ResultHandle cachedHandle = creator.readInstanceField(instanceHandleField, creator.getThis());
+            BytecodeCreator cached = creator.ifNull(cachedHandle).falseBranch();
+            BytecodeCreator notDestroyed = cached
+                    .ifFalse(cached.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_IS_DESTROYED, cachedHandle))
+                    .trueBranch();
+            notDestroyed.returnValue(notDestroyed.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_GET,
+                    cachedHandle));
+
+            ResultHandle contextHandle = creator.readInstanceField(
+                    FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
+                    creator.getThis());
+            ResultHandle instanceHandle = creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE,
+                    contextHandle, beanHandle);
+            BytecodeCreator notSupported = creator.ifNull(instanceHandle).trueBranch();
+            notSupported.returnValue(notSupported.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
+                    contextHandle, beanHandle));
+            creator.writeInstanceField(instanceHandleField, creator.getThis(), instanceHandle);
+            creator.returnValue(creator.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_GET, instanceHandle));
         } else {
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE,
                     beanHandle));
@@ -55,6 +55,7 @@
 import io.quarkus.arc.All;
 import io.quarkus.arc.AlternativePriority;
 import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.Batched;
 import io.quarkus.arc.DefaultBean;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableInstance;
@@ -72,6 +73,7 @@ public final class DotNames {
     public static final DotName OBJECT = create(Object.class);
     public static final DotName OBSERVES = create(Observes.class);
     public static final DotName OBSERVES_ASYNC = create(ObservesAsync.class);
+    public static final DotName BATCHED = create(Batched.class);
     public static final DotName PRODUCES = create(Produces.class);
     public static final DotName DISPOSES = create(Disposes.class);
     public static final DotName QUALIFIER = create(Qualifier.class);
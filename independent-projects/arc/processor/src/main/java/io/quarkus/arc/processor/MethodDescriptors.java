@@ -29,6 +29,7 @@
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableReferenceProvider;
 import io.quarkus.arc.impl.ClientProxies;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
 import io.quarkus.arc.impl.FixedValueSupplier;
@@ -252,6 +253,15 @@ public final class MethodDescriptors {
     public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getApplicationScopedDelegate", Object.class, InjectableContext.class, InjectableBean.class);
 
+    public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_HANDLE = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getApplicationScopedHandle", ContextInstanceHandleImpl.class, InjectableContext.class, InjectableBean.class);
+
+    public static final MethodDescriptor CONTEXT_INSTANCE_HANDLE_IS_DESTROYED = MethodDescriptor.ofMethod(
+            ContextInstanceHandleImpl.class, "isDestroyed", boolean.class);
+
+    public static final MethodDescriptor CONTEXT_INSTANCE_HANDLE_GET = MethodDescriptor.ofMethod(
+            ContextInstanceHandleImpl.class, "get", Object.class);
+
     public static final MethodDescriptor CLIENT_PROXIES_GET_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getDelegate", Object.class, InjectableBean.class);
 
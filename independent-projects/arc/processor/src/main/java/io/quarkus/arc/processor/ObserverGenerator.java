@@ -232,6 +232,9 @@ Collection<Resource> generate(ObserverInfo observer) {
         if (observer.isAsync()) {
             implementIsAsync(observerCreator);
         }
+        if (observer.isBatched()) {
+            implementBatchMethods(observerCreator, observer);
+        }
         implementGetDeclaringBeanIdentifier(observerCreator, observer.getDeclaringBean());
 
         if (mockable) {
@@ -292,6 +295,15 @@ protected void implementIsAsync(ClassCreator observerCreator) {
         isAsync.returnValue(isAsync.load(true));
     }
 
+    protected void implementBatchMethods(ClassCreator observerCreator, ObserverInfo observer) {
+        MethodCreator getBatchMaxSize = observerCreator.getMethodCreator("getBatchMaxSize", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getBatchMaxSize.returnValue(getBatchMaxSize.load(observer.getBatchMaxSize()));
+        MethodCreator getBatchMaxDelay = observerCreator.getMethodCreator("getBatchMaxDelay", long.class)
+                .setModifiers(ACC_PUBLIC);
+        getBatchMaxDelay.returnValue(getBatchMaxDelay.load(observer.getBatchMaxDelay()));
+    }
+
     protected void implementGetDeclaringBeanIdentifier(ClassCreator observerCreator, BeanInfo declaringBean) {
         MethodCreator getDeclaringBeanIdentifier = observerCreator.getMethodCreator("getDeclaringBeanIdentifier", String.class)
                 .setModifiers(ACC_PUBLIC);
@@ -10,6 +10,7 @@
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.enterprise.event.Reception;
@@ -41,12 +42,16 @@ public class ObserverInfo implements InjectionTargetInfo {
 
     private static final Logger LOGGER = Logger.getLogger(ObserverInfo.class.getName());
 
+    // see io.quarkus.arc.Batched
+    private static final int DEFAULT_BATCH_MAX_SIZE = 100;
+    private static final long DEFAULT_BATCH_MAX_DELAY = 1000;
+
     static ObserverInfo create(BeanInfo declaringBean, MethodInfo observerMethod, Injection injection, boolean isAsync,
             List<ObserverTransformer> transformers, BuildContext buildContext, boolean jtaCapabilities) {
         MethodParameterInfo eventParameter = initEventParam(observerMethod, declaringBean.getDeployment());
-        AnnotationInstance priorityAnnotation = find(
-                getParameterAnnotations(declaringBean.getDeployment(), observerMethod, eventParameter.position()),
-                DotNames.PRIORITY);
+        Set<AnnotationInstance> eventParameterAnnotations = getParameterAnnotations(declaringBean.getDeployment(),
+                observerMethod, eventParameter.position());
+        AnnotationInstance priorityAnnotation = find(eventParameterAnnotations, DotNames.PRIORITY);
         Integer priority;
         if (priorityAnnotation != null) {
             priority = priorityAnnotation.value().asInt();
@@ -63,7 +68,19 @@ static ObserverInfo create(BeanInfo declaringBean, MethodInfo observerMethod, In
                     declaringBean.getDeployment().getBeanArchiveIndex());
         }
 
-        return create(null, declaringBean.getDeployment(), declaringBean.getTarget().get().asClass().name(), declaringBean,
+        AnnotationInstance batchedAnnotation = find(eventParameterAnnotations, DotNames.BATCHED);
+        if (batchedAnnotation != null) {
+            if (!observedType.name().equals(DotNames.LIST) || observedType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                throw new DefinitionException(String.format(
+                        "The event parameter of a batching observer must be a parameterized java.util.List: %s.%s()",
+                        observerMethod.declaringClass().name(), observerMethod.name()));
+            }
+            // The list elements are the observed events
+            observedType = observedType.asParameterizedType().arguments().get(0);
+        }
+
+        ObserverInfo observer = create(null, declaringBean.getDeployment(), declaringBean.getTarget().get().asClass().name(),
+                declaringBean,
                 observerMethod, injection,
                 eventParameter,
                 observedType,
@@ -71,6 +88,25 @@ static ObserverInfo create(BeanInfo declaringBean, MethodInfo observerMethod, In
                 initReception(isAsync, declaringBean.getDeployment(), observerMethod),
                 initTransactionPhase(isAsync, declaringBean.getDeployment(), observerMethod), isAsync, priority, transformers,
                 buildContext, jtaCapabilities, null, Collections.emptyMap());
+
+        if (observer != null && batchedAnnotation != null) {
+            if (!observer.isAsync()) {
+                throw new DefinitionException(String.format("@Batched can only be used with asynchronous observers: %s.%s()",
+                        observerMethod.declaringClass().name(), observerMethod.name()));
+            }
+            AnnotationValue maxSizeValue = batchedAnnotation.value("maxSize");
+            AnnotationValue maxDelayValue = batchedAnnotation.value("maxDelay");
+            AnnotationValue unitValue = batchedAnnotation.value("unit");
+            observer.batchMaxSize = maxSizeValue != null ? maxSizeValue.asInt() : DEFAULT_BATCH_MAX_SIZE;
+            observer.batchMaxDelay = (unitValue != null ? TimeUnit.valueOf(unitValue.asEnum()) : TimeUnit.MILLISECONDS)
+                    .toMillis(maxDelayValue != null ? maxDelayValue.asLong() : DEFAULT_BATCH_MAX_DELAY);
+            if (observer.batchMaxSize < 1 || observer.batchMaxDelay < 1) {
+                throw new DefinitionException(String.format(
+                        "The max size and the max delay of a batching observer must be positive: %s.%s()",
+                        observerMethod.declaringClass().name(), observerMethod.name()));
+            }
+        }
+        return observer;
     }
 
     static ObserverInfo create(String id, BeanDeployment beanDeployment, DotName beanClass, BeanInfo declaringBean,
@@ -155,6 +191,11 @@ static ObserverInfo create(String id, BeanDeployment beanDeployment, DotName bea
 
     private final Set<AnnotationInstance> qualifiers;
 
+    // 0 if the observer is not notified in batches
+    private int batchMaxSize;
+
+    private long batchMaxDelay;
+
     // Following fields are only used by synthetic observers
 
     private final Consumer<MethodCreator> notify;
@@ -324,6 +365,26 @@ public int getPriority() {
         return priority;
     }
 
+    /**
+     *
+     * @return {@code true} if the event parameter is annotated with {@link io.quarkus.arc.Batched}
+     */
+    public boolean isBatched() {
+        return batchMaxSize > 0;
+    }
+
+    public int getBatchMaxSize() {
+        return batchMaxSize;
+    }
+
+    /**
+     *
+     * @return the max delay in milliseconds
+     */
+    public long getBatchMaxDelay() {
+        return batchMaxDelay;
+    }
+
     static MethodParameterInfo initEventParam(MethodInfo observerMethod, BeanDeployment beanDeployment) {
         List<MethodParameterInfo> eventParams = new ArrayList<>();
         for (AnnotationInstance annotation : beanDeployment.getAnnotations(observerMethod)) {
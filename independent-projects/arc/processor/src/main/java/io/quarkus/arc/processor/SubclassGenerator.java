@@ -3,6 +3,7 @@
 import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -776,8 +777,20 @@ private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, Met
         }
 
         // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = interceptedMethod.createFunction(Function.class);
+        // The function only captures the subclass instance and the decorator, so it's created once and reused
+        // Function<InvocationContext, Object> forward = this.arc$1$forward;
+        // if (forward == null) {
+        //    forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0]);
+        //    this.arc$1$forward = forward;
+        // }
+        FieldDescriptor forwardField = subclass
+                .getFieldCreator(metadataField.getName() + "$forward", Function.class)
+                .setModifiers(ACC_PRIVATE | ACC_VOLATILE)
+                .getFieldDescriptor();
+        AssignableResultHandle forwardHandle = interceptedMethod.createVariable(Function.class);
+        interceptedMethod.assign(forwardHandle, interceptedMethod.readInstanceField(forwardField, interceptedMethod.getThis()));
+        BytecodeCreator createForward = interceptedMethod.ifNull(forwardHandle).trueBranch();
+        FunctionCreator func = createForward.createFunction(Function.class);
         BytecodeCreator funcBytecode = func.getBytecode();
         ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
         ResultHandle[] superParamHandles;
@@ -814,6 +827,8 @@ private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, Met
                     superParamHandles);
             funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         }
+        createForward.assign(forwardHandle, func.getInstance());
+        createForward.writeInstanceField(forwardField, createForward.getThis(), forwardHandle);
 
         for (Type declaredException : method.exceptions()) {
             interceptedMethod.addException(declaredException.name().toString());
@@ -858,7 +873,7 @@ private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, Met
         ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
+                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), forwardHandle, paramsHandle,
                 tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
                 tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
         tryCatch.returnValue(ret);
@@ -2,7 +2,11 @@
 
 import static java.util.function.Predicate.not;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -104,4 +108,112 @@ static Set<BeanInfo> findRemovableBeans(Collection<BeanInfo> beans, Collection<I
         return removableBeans;
     }
 
+    static Set<BeanInfo> findUnreachableBeans(Collection<BeanInfo> beans, Collection<InterceptorInfo> interceptors,
+            Collection<DecoratorInfo> decorators, Collection<InjectionPointInfo> injectionPoints,
+            Set<BeanInfo> declaresObserver, List<Predicate<BeanInfo>> allUnusedExclusions) {
+        // Injection points of beans, interceptors and decorators are followed once the component is reachable
+        // Other injection points, e.g. observer method params, are always followed
+        Map<BeanInfo, List<InjectionPointInfo>> injectionPointsByTarget = new HashMap<>();
+        Set<InjectionPointInfo> targetInjectionPoints = new HashSet<>();
+        for (Collection<? extends BeanInfo> components : List.of(beans, interceptors, decorators)) {
+            for (BeanInfo component : components) {
+                List<InjectionPointInfo> componentInjectionPoints = new ArrayList<>(component.getAllInjectionPoints());
+                if (component.getDisposer() != null) {
+                    componentInjectionPoints.addAll(component.getDisposer().getAllInjectionPoints());
+                }
+                injectionPointsByTarget.put(component, componentInjectionPoints);
+                targetInjectionPoints.addAll(componentInjectionPoints);
+            }
+        }
+        List<InjectionPointInfo> rootInjectionPoints = new ArrayList<>();
+        for (InjectionPointInfo injectionPoint : injectionPoints) {
+            if (!targetInjectionPoints.contains(injectionPoint)) {
+                rootInjectionPoints.add(injectionPoint);
+            }
+        }
+
+        Set<BeanInfo> reachable = new HashSet<>();
+        Deque<BeanInfo> queue = new ArrayDeque<>();
+        for (BeanInfo bean : beans) {
+            if (bean.getName() != null || !bean.isRemovable() || declaresObserver.contains(bean)
+                    || isExcluded(bean, allUnusedExclusions)) {
+                markReachable(bean, reachable, queue);
+            }
+        }
+        for (BeanInfo interceptor : interceptors) {
+            if (isExcluded(interceptor, allUnusedExclusions)) {
+                markReachable(interceptor, reachable, queue);
+            }
+        }
+        for (BeanInfo decorator : decorators) {
+            if (isExcluded(decorator, allUnusedExclusions)) {
+                markReachable(decorator, reachable, queue);
+            }
+        }
+        for (InjectionPointInfo injectionPoint : rootInjectionPoints) {
+            markReachable(injectionPoint, beans, reachable, queue);
+        }
+
+        BeanInfo next;
+        while ((next = queue.poll()) != null) {
+            for (InjectionPointInfo injectionPoint : injectionPointsByTarget.getOrDefault(next, List.of())) {
+                markReachable(injectionPoint, beans, reachable, queue);
+            }
+            if (next.getDeclaringBean() != null) {
+                markReachable(next.getDeclaringBean(), reachable, queue);
+            }
+            for (InterceptorInfo interceptor : next.getBoundInterceptors()) {
+                markReachable(interceptor, reachable, queue);
+            }
+            for (DecoratorInfo decorator : next.getBoundDecorators()) {
+                markReachable(decorator, reachable, queue);
+            }
+        }
+
+        Set<BeanInfo> unreachable = new HashSet<>();
+        for (BeanInfo bean : beans) {
+            if (!reachable.contains(bean)) {
+                LOG.debugf("Unreachable: %s", bean);
+                unreachable.add(bean);
+            }
+        }
+        return unreachable;
+    }
+
+    private static boolean isExcluded(BeanInfo bean, List<Predicate<BeanInfo>> allUnusedExclusions) {
+        for (Predicate<BeanInfo> exclusion : allUnusedExclusions) {
+            if (exclusion.test(bean)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void markReachable(InjectionPointInfo injectionPoint, Collection<BeanInfo> beans,
+            Set<BeanInfo> reachable, Deque<BeanInfo> queue) {
+        if (injectionPoint.isDelegate()) {
+            // The delegate injection point of a decorator resolves to the decorated bean
+            return;
+        }
+        if (injectionPoint.isProgrammaticLookup()) {
+            // Instance<Foo>
+            for (BeanInfo bean : beans) {
+                if (!reachable.contains(bean)
+                        && Beans.hasQualifiers(bean, injectionPoint.getRequiredQualifiers())
+                        && bean.getDeployment().getBeanResolver().matchesType(bean,
+                                injectionPoint.getType().asParameterizedType().arguments().get(0))) {
+                    markReachable(bean, reachable, queue);
+                }
+            }
+        } else if (injectionPoint.hasResolvedBean()) {
+            markReachable(injectionPoint.getResolvedBean(), reachable, queue);
+        }
+    }
+
+    private static void markReachable(BeanInfo bean, Set<BeanInfo> reachable, Deque<BeanInfo> queue) {
+        if (reachable.add(bean)) {
+            queue.add(bean);
+        }
+    }
+
 }
@@ -0,0 +1,133 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.spi.DeploymentException;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+
+public class ParallelInjectionPointResolutionTest {
+
+    // Enough beans for several resolution batches
+    private static final int CONSUMERS = 351;
+
+    @Test
+    public void testErrorsOrder() throws IOException {
+        Index index = index();
+
+        List<String> sequential = resolutionErrors(index, null);
+        // Every third consumer injects an ambiguous and every third an unsatisfied dependency
+        assertEquals(2 * CONSUMERS / 3, sequential.size());
+        assertTrue(sequential.stream().anyMatch(e -> e.contains("Unsatisfied dependency")));
+        assertTrue(sequential.stream().anyMatch(e -> e.contains("Ambiguous dependencies")));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 5; i++) {
+                assertEquals(sequential, resolutionErrors(index, executor));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> resolutionErrors(Index index, ExecutorService executor) {
+        BeanProcessor processor = BeanProcessor.builder().setBeanArchiveIndex(index).build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        processor.registerBeans();
+        processor.getBeanDeployment().initBeanByTypeMap();
+        processor.registerSyntheticObservers();
+        DeploymentException exception = assertThrows(DeploymentException.class,
+                () -> processor.initialize(transformer -> {
+                }, Collections.emptyList(), executor));
+        List<String> errors = new ArrayList<>();
+        for (Throwable error : exception.getSuppressed()) {
+            errors.add(error.getMessage());
+        }
+        return errors;
+    }
+
+    private static Index index() throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : new Class<?>[] { Service.class, Missing.class, Alpha.class, Bravo.class, Charlie.class,
+                Object.class, Default.class, Any.class, Singleton.class, Inject.class }) {
+            try (InputStream stream = ParallelInjectionPointResolutionTest.class.getClassLoader()
+                    .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        for (int i = 0; i < CONSUMERS; i++) {
+            Class<?> injected;
+            switch (i % 3) {
+                case 0:
+                    injected = Service.class;
+                    break;
+                case 1:
+                    injected = Missing.class;
+                    break;
+                default:
+                    injected = Alpha.class;
+                    break;
+            }
+            try (ClassCreator creator = ClassCreator.builder()
+                    .classOutput((name, data) -> {
+                        try {
+                            indexer.index(new ByteArrayInputStream(data));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .className(ParallelInjectionPointResolutionTest.class.getPackage().getName() + ".Consumer" + i)
+                    .build()) {
+                creator.addAnnotation(Singleton.class);
+                creator.getFieldCreator("dependency", injected).addAnnotation(Inject.class);
+                MethodCreator constructor = creator.getMethodCreator("<init>", void.class);
+                constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(Object.class), constructor.getThis());
+                constructor.returnValue(null);
+            }
+        }
+        return indexer.complete();
+    }
+
+    interface Service {
+    }
+
+    interface Missing {
+    }
+
+    @Singleton
+    static class Alpha {
+    }
+
+    @Singleton
+    static class Bravo implements Service {
+    }
+
+    @Singleton
+    static class Charlie implements Service {
+    }
+
+}
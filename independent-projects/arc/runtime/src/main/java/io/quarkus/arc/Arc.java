@@ -1,5 +1,6 @@
 package io.quarkus.arc;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -41,6 +42,14 @@ public static void setExecutor(ExecutorService executor) {
         INSTANCE.get().setExecutor(executor);
     }
 
+    /**
+     *
+     * @param executor the executor used to notify asynchronous observers, or {@code null} to use the container executor
+     */
+    public static void setAsyncObserverExecutor(Executor executor) {
+        INSTANCE.get().setAsyncObserverExecutor(executor);
+    }
+
     /**
      *
      * @return the container instance
@@ -2,6 +2,7 @@
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -233,4 +234,10 @@ public interface ArcContainer {
      * @see CurrentContext
      */
     CurrentContextFactory getCurrentContextFactory();
+
+    /**
+     *
+     * @return the statistics of the locks held by the built-in interceptor for {@link Lock}
+     */
+    Collection<LockStatistics> getLockStatistics();
 }
@@ -37,6 +37,26 @@ public interface ArcInvocationContext extends InvocationContext {
      */
     <T extends Annotation> List<T> findIterceptorBindings(Class<T> annotationType);
 
+    /**
+     * Registers a callback that is notified when the intercepted method invocation completes.
+     * <p>
+     * The callbacks registered by all interceptors of the chain are attached at once to the result of the outermost
+     * {@link #proceed()} call made after the first callback was registered, i.e. the result is only transformed once no
+     * matter how many interceptors register a callback. An interceptor invoked after that call returned, e.g. because an
+     * outer interceptor calls {@link #proceed()} lazily, attaches its callbacks to the result of its own {@link #proceed()}
+     * call.
+     * <p>
+     * If the intercepted method returns {@link io.smallrye.mutiny.Uni}, {@link io.smallrye.mutiny.Multi} or
+     * {@link java.util.concurrent.CompletionStage} then the callbacks are notified when that result terminates. Otherwise,
+     * and for lifecycle callback and {@code @AroundConstruct} interceptors, the callbacks are notified when {@link #proceed()}
+     * returns or throws an exception.
+     * <p>
+     * This method must be called before {@link #proceed()}.
+     *
+     * @param callback
+     */
+    void addCompletionCallback(CompletionCallback callback);
+
     /**
      *
      * @param context
@@ -63,4 +83,24 @@ static <T extends Annotation> List<T> findIterceptorBindings(InvocationContext c
         return Collections.emptyList();
     }
 
+    /**
+     * A callback notified when an intercepted method invocation completes.
+     *
+     * @see ArcInvocationContext#addCompletionCallback(CompletionCallback)
+     */
+    @FunctionalInterface
+    interface CompletionCallback {
+
+        /**
+         * Both the result and the failure are {@code null} if the returned {@link io.smallrye.mutiny.Uni} or
+         * {@link io.smallrye.mutiny.Multi} is cancelled. The result is always {@code null} for
+         * {@link io.smallrye.mutiny.Multi}.
+         *
+         * @param result the result, or {@code null} if the invocation failed
+         * @param failure the failure, or {@code null} if the invocation completed successfully
+         */
+        void onComplete(Object result, Throwable failure);
+
+    }
+
 }
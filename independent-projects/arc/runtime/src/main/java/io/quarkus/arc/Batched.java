@@ -0,0 +1,54 @@
+package io.quarkus.arc;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks the event parameter of an asynchronous observer method as a batch of events.
+ * <p>
+ * The event parameter must be a {@link java.util.List}; the type argument of the list is the observed event type. The
+ * events of the observed type fired asynchronously are collected by the container and delivered in a single notification
+ * once {@link #maxSize()} events are collected, or when {@link #maxDelay()} elapsed since the first event of the batch was
+ * collected, whichever comes first. Pending events are also delivered when the container is shut down.
+ * <p>
+ * Note that the {@link java.util.concurrent.CompletionStage} returned by
+ * {@link javax.enterprise.event.Event#fireAsync(Object)} completes once the event is added to a batch, i.e. it does not wait
+ * for the batch to be delivered. If the delivery fails, the exception is passed to the {@link AsyncObserverExceptionHandler}.
+ *
+ * <pre>
+ * &#64;ApplicationScoped
+ * class AuditListener {
+ *
+ *     void onEvents(&#64;ObservesAsync &#64;Batched(maxSize = 50) List&lt;AuditEvent&gt; events) {
+ *         // persist the events at once
+ *     }
+ * }
+ * </pre>
+ */
+@Target(PARAMETER)
+@Retention(RUNTIME)
+public @interface Batched {
+
+    /**
+     *
+     * @return the maximum number of events delivered at once
+     */
+    int maxSize() default 100;
+
+    /**
+     *
+     * @return the maximum time an event waits for the batch to be delivered
+     */
+    long maxDelay() default 1000;
+
+    /**
+     *
+     * @return the max delay time unit
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+}
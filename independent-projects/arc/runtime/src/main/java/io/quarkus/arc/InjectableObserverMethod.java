@@ -39,6 +39,24 @@ default TransactionPhase getTransactionPhase() {
      */
     String getDeclaringBeanIdentifier();
 
+    /**
+     *
+     * @return the maximum number of events delivered at once, or {@code 0} if the observer is not notified in batches
+     * @see Batched
+     */
+    default int getBatchMaxSize() {
+        return 0;
+    }
+
+    /**
+     *
+     * @return the maximum time in milliseconds an event waits for its batch to be delivered
+     * @see Batched
+     */
+    default long getBatchMaxDelay() {
+        return 0;
+    }
+
     static int compare(InjectableObserverMethod<?> o1, InjectableObserverMethod<?> o2) {
         return Integer.compare(o1.getPriority(), o2.getPriority());
     }
@@ -18,6 +18,9 @@
  * <p>
  * The container provides a built-in interceptor for this interceptor binding. Each interceptor instance associated with a
  * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy.
+ * <p>
+ * The lock statistics, such as the number of contended acquisitions and the wait time, are available via
+ * {@link ArcContainer#getLockStatistics()}.
  */
 @InterceptorBinding
 @Inherited
@@ -57,6 +60,19 @@ public enum Type {
          * Acquires the write (exclusive) lock before the business method is invoked.
          */
         WRITE,
+        /**
+         * Attempts an optimistic read first, i.e. the business method is invoked without acquiring any lock. If a write lock
+         * was held before or during the invocation, the result is discarded and the business method is invoked again while
+         * holding the read lock. Therefore, the business method must be free of side effects and it must tolerate
+         * inconsistent state observed during a concurrent write, e.g. an exception thrown from a failed optimistic read is
+         * ignored as well.
+         * <p>
+         * This could be useful for frequently invoked read-only methods of a bean that is rarely modified, because readers
+         * do not need to update the shared state of the lock.
+         * <p>
+         * The wait time is ignored for the optimistic read but applies if the read lock is acquired.
+         */
+        OPTIMISTIC,
         /**
          * Acquires no lock.
          * <p>
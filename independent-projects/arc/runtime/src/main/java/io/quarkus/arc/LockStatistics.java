@@ -0,0 +1,66 @@
+package io.quarkus.arc;
+
+import java.time.Duration;
+
+/**
+ * Statistics of the locks held by the built-in interceptor for {@link Lock}.
+ * <p>
+ * The statistics are aggregated per bean class, i.e. all contextual instances of a bean share the same statistics.
+ *
+ * @see ArcContainer#getLockStatistics()
+ */
+public interface LockStatistics {
+
+    /**
+     *
+     * @return the fully qualified name of the bean class
+     */
+    String getBeanClass();
+
+    /**
+     *
+     * @return the number of acquired read and write locks
+     */
+    long getAcquisitionCount();
+
+    /**
+     * A lock is contended if it could not be acquired immediately.
+     *
+     * @return the number of contended lock acquisitions, including the ones that timed out
+     */
+    long getContentionCount();
+
+    /**
+     *
+     * @return the number of lock acquisitions that timed out
+     * @see Lock#time()
+     */
+    long getTimeoutCount();
+
+    /**
+     *
+     * @return the total time spent waiting for a lock
+     */
+    Duration getTotalWaitTime();
+
+    /**
+     *
+     * @return the longest time spent waiting for a lock
+     */
+    Duration getMaxWaitTime();
+
+    /**
+     *
+     * @return the number of {@link Lock.Type#OPTIMISTIC} invocations
+     */
+    long getOptimisticReadCount();
+
+    /**
+     * An optimistic read fails if a write lock was acquired during the invocation. In such case, the method is invoked
+     * again while holding the read lock.
+     *
+     * @return the number of failed optimistic reads
+     */
+    long getOptimisticReadFailureCount();
+
+}
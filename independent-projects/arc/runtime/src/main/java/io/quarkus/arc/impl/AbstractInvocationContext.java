@@ -32,13 +32,17 @@ protected AbstractInvocationContext(Object target, Method method,
         this.method = method;
         this.constructor = constructor;
         this.parameters = parameters != null ? parameters : EMPTY_PARAMS;
-        this.contextData = contextData != null ? contextData : new ContextDataMap(interceptorBindings);
+        // the context data are only allocated if needed
+        this.contextData = contextData;
         this.interceptorBindings = interceptorBindings;
         this.chain = chain;
     }
 
     @Override
     public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new ContextDataMap(interceptorBindings);
+        }
         return contextData;
     }
 
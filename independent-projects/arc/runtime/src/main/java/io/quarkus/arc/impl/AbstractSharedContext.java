@@ -51,6 +51,23 @@ public <T> T get(Contextual<T> contextual) {
         return handle != null ? (T) handle.get() : null;
     }
 
+    /**
+     * Unlike {@link #get(Contextual, CreationalContext)} the scope of the bean is not validated.
+     *
+     * @param bean
+     * @return the handle of the contextual instance, the instance is created if needed
+     */
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandleImpl<T> getInstanceHandle(InjectableBean<T> bean) {
+        return (ContextInstanceHandleImpl<T>) instances.computeIfAbsent(bean.getIdentifier(),
+                new Supplier<ContextInstanceHandle<?>>() {
+                    @Override
+                    public ContextInstanceHandle<?> get() {
+                        return createInstanceHandle(bean, new CreationalContextImpl<>(bean));
+                    }
+                });
+    }
+
     @Override
     public ContextState getState() {
         return this;
@@ -17,6 +17,9 @@
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -63,6 +66,7 @@
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.LockStatistics;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.RemovedBean;
 import io.quarkus.arc.ResourceReferenceProvider;
@@ -73,6 +77,7 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final Annotation[] DEFAULT_QUALIFIERS = { Default.Literal.INSTANCE };
 
     private final String id;
 
@@ -86,6 +91,9 @@ public class ArcContainerImpl implements ArcContainer {
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
     private final Contexts contexts;
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    // lookups with the default qualifier are the most common ones, so they are cached by type to avoid the allocation
+    // and the hashing of a resolvable per lookup
+    private final ComputingCache<Type, Set<InjectableBean<?>>> resolvedDefault;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -96,8 +104,12 @@ public class ArcContainerImpl implements ArcContainer {
 
     private volatile ExecutorService executorService;
 
+    private volatile Executor asyncObserverExecutor;
+
     private final CurrentContextFactory currentContextFactory;
 
+    private final ConcurrentMap<String, LockStatisticsImpl> lockStatistics;
+
     public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         id = String.valueOf(ID_GENERATOR.incrementAndGet());
         running = new AtomicBoolean(true);
@@ -111,6 +123,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         Set<String> qualifiers = new HashSet<>();
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
                 : currentContextFactory;
+        this.lockStatistics = new ConcurrentHashMap<>();
 
         List<Components> components = new ArrayList<>();
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
@@ -128,7 +141,9 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
                 }
             }
             removedBeans.add(c.getRemovedBeans());
-            observers.addAll(c.getObservers());
+            for (InjectableObserverMethod<?> observer : c.getObservers()) {
+                observers.add(observer.getBatchMaxSize() > 0 ? new BatchingObserverMethod<>(observer) : observer);
+            }
             transitiveInterceptorBindings.putAll(c.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(c.getQualifierNonbindingMembers());
             qualifiers.addAll(c.getQualifiers());
@@ -140,6 +155,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
+        resolvedDefault = new ComputingCache<>(this::resolveDefault);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -172,7 +188,8 @@ public List<RemovedBean> get() {
                 new RequestContext(this.currentContextFactory.create(RequestScoped.class),
                         notifierOrNull(Set.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE)),
                         notifierOrNull(Set.of(BeforeDestroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
-                        notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE))),
+                        notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
+                        requestScopedBeans(this.beans)),
                 new ApplicationContext(),
                 new SingletonContext());
 
@@ -194,6 +211,16 @@ public List<RemovedBean> get() {
         this.contexts = contextsBuilder.build();
     }
 
+    private static List<InjectableBean<?>> requestScopedBeans(List<InjectableBean<?>> beans) {
+        List<InjectableBean<?>> requestScoped = new ArrayList<>();
+        for (InjectableBean<?> bean : beans) {
+            if (RequestScoped.class.equals(bean.getScope())) {
+                requestScoped.add(bean);
+            }
+        }
+        return requestScoped;
+    }
+
     public void init() {
         // Fire an event with qualifier @Initialized(ApplicationScoped.class)
         Set<Annotation> qualifiers = Set.of(Initialized.Literal.APPLICATION, Any.Literal.INSTANCE);
@@ -247,10 +274,8 @@ public <T> Supplier<InstanceHandle<T>> instanceSupplier(Class<T> type, Annotatio
 
     private <T> Supplier<InstanceHandle<T>> createInstanceSupplier(boolean resolveAmbiguities, Class<T> type,
             Annotation... qualifiers) {
-        if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = qualifiers == null || qualifiers.length == 0 ? resolvedDefault.getValue(type)
+                : resolved.getValue(new Resolvable(type, qualifiers));
         Set<InjectableBean<?>> filteredBean = resolvedBeans;
         if (resolvedBeans.size() > 1) {
             if (resolveAmbiguities) {
@@ -358,11 +383,33 @@ public void setExecutor(ExecutorService executor) {
         this.executorService = executor;
     }
 
+    /**
+     *
+     * @return the executor used to notify asynchronous observers if no executor is specified in the notification options
+     */
+    public Executor getAsyncObserverExecutor() {
+        Executor executor = asyncObserverExecutor;
+        return executor != null ? executor : getExecutorService();
+    }
+
+    public void setAsyncObserverExecutor(Executor executor) {
+        this.asyncObserverExecutor = executor;
+    }
+
     @Override
     public CurrentContextFactory getCurrentContextFactory() {
         return currentContextFactory;
     }
 
+    @Override
+    public Collection<LockStatistics> getLockStatistics() {
+        return Collections.unmodifiableCollection(lockStatistics.values());
+    }
+
+    LockStatisticsImpl lockStatistics(String beanClass) {
+        return lockStatistics.computeIfAbsent(beanClass, LockStatisticsImpl::new);
+    }
+
     @Override
     public String toString() {
         return "ArcContainerImpl [id=" + id + ", running=" + running + ", beans=" + beans.size() + ", observers="
@@ -378,6 +425,12 @@ public synchronized void shutdown() {
                 ArcCDI arcCdi = (ArcCDI) cdi;
                 arcCdi.destroy();
             }
+            // Deliver the pending batches of events
+            for (InjectableObserverMethod<?> observer : observers) {
+                if (observer instanceof BatchingObserverMethod) {
+                    ((BatchingObserverMethod<?>) observer).flush();
+                }
+            }
             // Terminate request context if for any reason is still active
             contexts.requestContext.terminate();
             // Fire an event with qualifier @BeforeDestroyed(ApplicationScoped.class)
@@ -405,6 +458,7 @@ public synchronized void shutdown() {
             // Clear caches
             Reflections.clearCaches();
             resolved.clear();
+            resolvedDefault.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
 
@@ -491,15 +545,19 @@ <T> InstanceHandle<T> beanInstanceHandle(InjectableBean<T> bean, CreationalConte
 
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
+        Set<InjectableBean<?>> resolvedBeans;
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            resolvedBeans = resolvedDefault.getValue(requiredType);
+            if (resolvedBeans.isEmpty()) {
+                scanRemovedBeans(new Resolvable(requiredType, DEFAULT_QUALIFIERS));
+            }
         } else {
             registeredQualifiers.verify(qualifiers);
-        }
-        Resolvable resolvable = new Resolvable(requiredType, qualifiers);
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(resolvable);
-        if (resolvedBeans.isEmpty()) {
-            scanRemovedBeans(resolvable);
+            Resolvable resolvable = new Resolvable(requiredType, qualifiers);
+            resolvedBeans = resolved.getValue(resolvable);
+            if (resolvedBeans.isEmpty()) {
+                scanRemovedBeans(resolvable);
+            }
         }
         return resolvedBeans.size() != 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
@@ -509,7 +567,7 @@ Set<Bean<?>> getBeans(Type requiredType, Annotation... qualifiers) {
             throw new IllegalArgumentException("The given type is a type variable: " + requiredType);
         }
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         } else {
             registeredQualifiers.verify(qualifiers);
         }
@@ -551,6 +609,10 @@ boolean isNormalScope(Class<? extends Annotation> annotationType) {
         return false;
     }
 
+    private Set<InjectableBean<?>> resolveDefault(Type requiredType) {
+        return resolve(new Resolvable(requiredType, DEFAULT_QUALIFIERS));
+    }
+
     private Set<InjectableBean<?>> resolve(Resolvable resolvable) {
         return resolve(getMatchingBeans(resolvable));
     }
@@ -830,10 +892,9 @@ private boolean hasAllInterceptionBindings(InjectableInterceptor<?> interceptor,
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        } else {
-            registeredQualifiers.verify(qualifiers);
+            return resolvedDefault.getValue(requiredType);
         }
+        registeredQualifiers.verify(qualifiers);
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
 
@@ -864,12 +925,17 @@ static ArcContainerImpl unwrap(ArcContainer container) {
         }
     }
 
+    private static InjectableObserverMethod<?> unwrap(InjectableObserverMethod<?> observer) {
+        return observer instanceof BatchingObserverMethod ? ((BatchingObserverMethod<?>) observer).getDelegate() : observer;
+    }
+
     public static void mockObservers(String beanIdentifier, boolean mock) {
         instance().mockObserversFor(beanIdentifier, mock);
     }
 
     private void mockObserversFor(String beanIdentifier, boolean mock) {
         for (InjectableObserverMethod<?> observer : observers) {
+            observer = unwrap(observer);
             if (observer instanceof Mockable && beanIdentifier.equals(observer.getDeclaringBeanIdentifier())) {
                 Mockable mockable = (Mockable) observer;
                 if (mock) {
@@ -883,6 +949,7 @@ private void mockObserversFor(String beanIdentifier, boolean mock) {
 
     public void mockObserversFor(Class<?> beanClass, boolean mock) {
         for (InjectableObserverMethod<?> observer : observers) {
+            observer = unwrap(observer);
             if (observer instanceof Mockable && beanClass.equals(observer.getBeanClass())) {
                 Mockable mockable = (Mockable) observer;
                 if (mock) {
@@ -3,12 +3,22 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import javax.interceptor.InvocationContext;
 
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.tuples.Functions;
+
 /**
  * Special type of InvocationContext for AroundInvoke interceptors.
  * <p>
@@ -17,18 +27,34 @@
  * "cut off" the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors
  * asynchronously, possibly on a different thread.
  * <p>
+ * The context data are shared by all the invocation contexts of the chain and only allocated when first requested by an
+ * interceptor. Likewise, the completion callbacks registered by all interceptors are held by the first invocation context.
+ * The outermost {@link #proceed()} call made after a callback was registered attaches all the callbacks registered until it
+ * returns to its result at once. An interceptor invoked after that call returned, e.g. because an outer interceptor calls
+ * {@link #proceed()} lazily when the returned {@link Uni} is subscribed, attaches its callbacks to the result of its own
+ * {@link #proceed()} call.
+ * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
+    private static final Logger LOG = Logger.getLogger(AroundInvokeInvocationContext.class);
+
     private final int position;
     private final Function<InvocationContext, Object> aroundInvokeForward;
+    // the first invocation context of the chain, which holds the context data, or null if this is the first one
+    private final AroundInvokeInvocationContext first;
+    // only used by the first invocation context
+    private List<CompletionCallback> completionCallbacks;
+    // only used by the first invocation context, the proceed() call which will attach the callbacks
+    private boolean attachingCompletionCallbacks;
 
     AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            ContextDataMap contextData, Set<Annotation> interceptorBindings, int position,
+            AroundInvokeInvocationContext first, Set<Annotation> interceptorBindings, int position,
             List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
+        super(target, method, null, parameters, null, interceptorBindings, chain);
+        this.first = first;
         this.position = position;
         this.aroundInvokeForward = aroundInvokeForward;
     }
@@ -42,13 +68,100 @@ static Object perform(Object target, Method method,
                 parameters, null, interceptorBindings, 1, chain, aroundInvokeForward));
     }
 
+    @Override
+    public void addCompletionCallback(CompletionCallback callback) {
+        if (first != null) {
+            first.addCompletionCallback(callback);
+            return;
+        }
+        if (completionCallbacks == null) {
+            completionCallbacks = new ArrayList<>(2);
+        }
+        completionCallbacks.add(callback);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object attachCompletionCallbacks(List<CompletionCallback> callbacks, Object result) {
+        if (result == null) {
+            notifyCompletion(callbacks, null, null);
+            return null;
+        }
+        switch (ReactiveType.valueOf(method)) {
+            case UNI:
+                return ((Uni<Object>) result).onTermination().invoke(new Functions.TriConsumer<Object, Throwable, Boolean>() {
+                    @Override
+                    public void accept(Object item, Throwable failure, Boolean cancelled) {
+                        notifyCompletion(callbacks, item, failure);
+                    }
+                });
+            case MULTI:
+                return ((Multi<Object>) result).onTermination().invoke(new BiConsumer<Throwable, Boolean>() {
+                    @Override
+                    public void accept(Throwable failure, Boolean cancelled) {
+                        notifyCompletion(callbacks, null, failure);
+                    }
+                });
+            case STAGE:
+                return ((CompletionStage<Object>) result).whenComplete(new BiConsumer<Object, Throwable>() {
+                    @Override
+                    public void accept(Object value, Throwable failure) {
+                        notifyCompletion(callbacks, value, failure);
+                    }
+                });
+            default:
+                notifyCompletion(callbacks, result, null);
+                return result;
+        }
+    }
+
+    private void notifyCompletion(List<CompletionCallback> callbacks, Object result, Throwable failure) {
+        for (CompletionCallback callback : callbacks) {
+            try {
+                callback.onComplete(result, failure);
+            } catch (Throwable e) {
+                // A failing callback must not affect the result or other callbacks
+                LOG.errorf(e, "Completion callback %s failed for %s", callback, method);
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        return first != null ? first.getContextData() : super.getContextData();
+    }
+
     @Override
     public Object proceed() throws Exception {
+        AroundInvokeInvocationContext root = first != null ? first : this;
+        if (root.completionCallbacks == null || root.attachingCompletionCallbacks) {
+            // No callback registered or an outer proceed() call will attach the callbacks
+            return proceedChain();
+        }
+        root.attachingCompletionCallbacks = true;
+        Object result;
+        try {
+            result = proceedChain();
+        } catch (Throwable e) {
+            notifyCompletion(root.takeCompletionCallbacks(), null, e);
+            throw e;
+        }
+        return attachCompletionCallbacks(root.takeCompletionCallbacks(), result);
+    }
+
+    private List<CompletionCallback> takeCompletionCallbacks() {
+        List<CompletionCallback> callbacks = completionCallbacks;
+        completionCallbacks = null;
+        attachingCompletionCallbacks = false;
+        return callbacks;
+    }
+
+    private Object proceedChain() throws Exception {
         try {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
                 return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                        parameters, first != null ? first : this, interceptorBindings, position + 1, chain,
+                        aroundInvokeForward));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
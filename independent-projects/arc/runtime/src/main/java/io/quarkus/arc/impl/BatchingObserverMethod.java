@@ -0,0 +1,239 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.event.Reception;
+import javax.enterprise.event.TransactionPhase;
+import javax.enterprise.inject.spi.EventContext;
+import javax.enterprise.inject.spi.EventMetadata;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.AsyncObserverExceptionHandler;
+import io.quarkus.arc.Batched;
+import io.quarkus.arc.InjectableObserverMethod;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.EventImpl.EventContextImpl;
+
+/**
+ * Collects the events delivered to an asynchronous observer method and notifies the observer with a list of events.
+ *
+ * @param <T>
+ * @see Batched
+ */
+class BatchingObserverMethod<T> implements InjectableObserverMethod<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchingObserverMethod.class);
+
+    private final InjectableObserverMethod<T> delegate;
+    private final int maxSize;
+    private final long maxDelay;
+
+    // guarded by this
+    private Batch current;
+
+    BatchingObserverMethod(InjectableObserverMethod<T> delegate) {
+        this.delegate = delegate;
+        this.maxSize = delegate.getBatchMaxSize();
+        this.maxDelay = delegate.getBatchMaxDelay();
+    }
+
+    InjectableObserverMethod<T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void notify(EventContext<T> eventContext) {
+        Batch full = null;
+        synchronized (this) {
+            if (current == null) {
+                Batch created = new Batch(eventContext.getMetadata());
+                created.timer = Timer.EXECUTOR.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        flushLater(created);
+                    }
+                }, maxDelay, TimeUnit.MILLISECONDS);
+                current = created;
+            }
+            current.events.add(eventContext.getEvent());
+            if (current.events.size() >= maxSize) {
+                full = current;
+                current = null;
+            }
+        }
+        if (full != null) {
+            // the cancelled timer is removed from the queue so that it does not retain the delivered events
+            full.timer.cancel(false);
+            // the batch is delivered on the thread that notifies the last event
+            deliver(full);
+        }
+    }
+
+    private void flushLater(Batch batch) {
+        ArcContainerImpl container = ArcContainerImpl.instance();
+        if (container == null || !container.isRunning()) {
+            // the pending events were delivered when the container was shut down
+            return;
+        }
+        container.getAsyncObserverExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                flush(batch);
+            }
+        });
+    }
+
+    /**
+     * Delivers the pending events, if any.
+     */
+    void flush() {
+        flush(null);
+    }
+
+    private void flush(Batch batch) {
+        Batch pending;
+        synchronized (this) {
+            // a timer only delivers the batch it was scheduled for
+            if (current == null || (batch != null && current != batch)) {
+                return;
+            }
+            pending = current;
+            current = null;
+        }
+        pending.timer.cancel(false);
+        deliver(pending);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(Batch batch) {
+        ArcContainer container = Arc.container();
+        if (container == null || !container.isRunning()) {
+            LOGGER.debugf("Container not running, %s events not delivered to batching async observer %s", batch.events.size(),
+                    delegate);
+            return;
+        }
+        EventContext<T> eventContext = (EventContext<T>) new EventContextImpl<>(batch.events, batch.metadata);
+        ManagedContext requestContext = container.requestContext();
+        boolean activate = !requestContext.isActive();
+        try {
+            if (activate) {
+                requestContext.activate();
+            }
+            delegate.notify(eventContext);
+        } catch (Throwable t) {
+            handleException(t, eventContext);
+        } finally {
+            if (activate) {
+                requestContext.terminate();
+            }
+        }
+    }
+
+    private void handleException(Throwable throwable, EventContext<T> eventContext) {
+        try {
+            Arc.container().instance(AsyncObserverExceptionHandler.class).get().handle(throwable, delegate, eventContext);
+        } catch (Throwable e) {
+            LOGGER.errorf(throwable, "Failure occurred while notifying a batching async observer %s", delegate);
+        }
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return delegate.getBeanClass();
+    }
+
+    @Override
+    public Type getObservedType() {
+        return delegate.getObservedType();
+    }
+
+    @Override
+    public Set<Annotation> getObservedQualifiers() {
+        return delegate.getObservedQualifiers();
+    }
+
+    @Override
+    public Reception getReception() {
+        return delegate.getReception();
+    }
+
+    @Override
+    public TransactionPhase getTransactionPhase() {
+        return delegate.getTransactionPhase();
+    }
+
+    @Override
+    public int getPriority() {
+        return delegate.getPriority();
+    }
+
+    @Override
+    public boolean isAsync() {
+        return delegate.isAsync();
+    }
+
+    @Override
+    public String getDeclaringBeanIdentifier() {
+        return delegate.getDeclaringBeanIdentifier();
+    }
+
+    @Override
+    public int getBatchMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getBatchMaxDelay() {
+        return maxDelay;
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    private static final class Batch {
+
+        // the metadata of the first event is used for the whole batch
+        private final EventMetadata metadata;
+        private final List<Object> events = new ArrayList<>();
+        // delivers the batch once the max delay elapsed
+        private ScheduledFuture<?> timer;
+
+        Batch(EventMetadata metadata) {
+            this.metadata = metadata;
+        }
+
+    }
+
+    // the timer thread is only started when the first batch is created
+    private static final class Timer {
+
+        static final ScheduledThreadPoolExecutor EXECUTOR;
+
+        static {
+            EXECUTOR = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "arc-batching-observer-timer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            EXECUTOR.setRemoveOnCancelPolicy(true);
+        }
+
+    }
+
+}
@@ -23,6 +23,22 @@ public static <T> T getApplicationScopedDelegate(InjectableContext applicationCo
         return result;
     }
 
+    /**
+     * The returned handle may be cached by a client proxy as long as it's not destroyed.
+     *
+     * @param applicationContext
+     * @param bean
+     * @return the handle of the contextual instance, or {@code null} if the context does not support this operation
+     * @see ContextInstanceHandleImpl#isDestroyed()
+     */
+    public static <T> ContextInstanceHandleImpl<T> getApplicationScopedHandle(InjectableContext applicationContext,
+            InjectableBean<T> bean) {
+        if (applicationContext instanceof AbstractSharedContext) {
+            return ((AbstractSharedContext) applicationContext).getInstanceHandle(bean);
+        }
+        return null;
+    }
+
     public static <T> T getDelegate(InjectableBean<T> bean) {
         List<InjectableContext> contexts = Arc.container().getContexts(bean.getScope());
         T result = null;
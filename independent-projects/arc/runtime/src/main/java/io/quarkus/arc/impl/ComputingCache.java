@@ -46,6 +46,11 @@ public V getValueIfPresent(K key) {
     }
 
     public V computeIfAbsent(K key, Function<? super K, ? extends V> computingFunction) {
+        LazyValue<V> value = map.get(key);
+        if (value != null) {
+            // avoid allocating the supplier if the value is present
+            return value.get();
+        }
         return computeIfAbsent(key, new Supplier<V>() {
             @Override
             public V get() {
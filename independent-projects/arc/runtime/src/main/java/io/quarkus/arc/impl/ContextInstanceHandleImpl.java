@@ -12,13 +12,25 @@
  */
 public class ContextInstanceHandleImpl<T> extends EagerInstanceHandle<T> implements ContextInstanceHandle<T> {
 
+    // Client proxies may cache the handle and use this flag to detect that the instance was destroyed
+    private volatile boolean destroyed;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
     }
 
     @Override
     public void destroy() {
+        destroyed = true;
         destroyInternal();
     }
 
+    /**
+     *
+     * @return {@code true} if the contextual instance was destroyed, {@code false} otherwise
+     */
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
 }
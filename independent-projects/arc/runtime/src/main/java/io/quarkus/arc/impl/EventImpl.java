@@ -92,7 +92,7 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
 
         Executor executor = options.getExecutor();
         if (executor == null) {
-            executor = Arc.container().getExecutorService();
+            executor = ArcContainerImpl.instance().getAsyncObserverExecutor();
         }
 
         if (notifier.isEmpty()) {
@@ -221,6 +221,10 @@ void destroy() {
 
     private T getBeanInstance(InjectableBean<T> bean) {
         CreationalContextImpl<T> ctx = creationalContext.child(bean);
+        if (!Dependent.class.equals(bean.getScope())) {
+            // only a @Dependent bean may inject the injection point, so there is no need to create it
+            return bean.get(ctx);
+        }
         InjectionPoint prev = InjectionPointProvider
                 .set(new InjectionPointImpl(injectionPointType, requiredType, requiredQualifiers, targetBean, annotations,
                         javaMember, position));
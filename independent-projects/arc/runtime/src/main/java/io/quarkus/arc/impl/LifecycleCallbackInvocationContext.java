@@ -3,9 +3,12 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import org.jboss.logging.Logger;
+
 /**
  * A simple InvocationContext implementation used for PostConstruct and PreDestroy callbacks.
  * <p>
@@ -13,15 +16,54 @@
  */
 class LifecycleCallbackInvocationContext extends AbstractInvocationContext {
 
+    private static final Logger LOG = Logger.getLogger(LifecycleCallbackInvocationContext.class);
+
     private int position = 0;
+    private List<CompletionCallback> completionCallbacks;
+    // the proceed() call which will notify the callbacks
+    private boolean notifyingCompletionCallbacks;
 
     LifecycleCallbackInvocationContext(Object target, Constructor<?> constructor, Object[] parameters,
             Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
         super(target, null, constructor, parameters, null, interceptorBindings, chain);
     }
 
+    @Override
+    public void addCompletionCallback(CompletionCallback callback) {
+        if (completionCallbacks == null) {
+            completionCallbacks = new ArrayList<>(2);
+        }
+        completionCallbacks.add(callback);
+    }
+
     @Override
     public Object proceed() throws Exception {
+        if (completionCallbacks == null || notifyingCompletionCallbacks) {
+            return proceedChain();
+        }
+        notifyingCompletionCallbacks = true;
+        Throwable failure = null;
+        try {
+            return proceedChain();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            List<CompletionCallback> callbacks = completionCallbacks;
+            completionCallbacks = null;
+            notifyingCompletionCallbacks = false;
+            for (CompletionCallback callback : callbacks) {
+                try {
+                    callback.onComplete(null, failure);
+                } catch (Throwable e) {
+                    // A failing callback must not affect the result or other callbacks
+                    LOG.errorf(e, "Completion callback %s failed", callback);
+                }
+            }
+        }
+    }
+
+    private Object proceedChain() throws Exception {
         try {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
@@ -3,8 +3,8 @@
 import static javax.interceptor.Interceptor.Priority.PLATFORM_BEFORE;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.VarHandle;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.annotation.Priority;
@@ -15,13 +15,21 @@
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.Lock;
 import io.quarkus.arc.LockException;
+import io.quarkus.arc.Subclass;
 
 @Lock
 @Interceptor
 @Priority(PLATFORM_BEFORE)
 public class LockInterceptor {
 
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    // Incremented when the outermost write lock is acquired and before it's released
+    // An odd value means that a write lock is held
+    private volatile long writeSequence;
+
+    // Initialized lazily because the bean class is not known until the first invocation
+    private volatile LockStatisticsImpl statistics;
 
     @AroundInvoke
     Object lock(InvocationContext ctx) throws Exception {
@@ -31,6 +39,8 @@ Object lock(InvocationContext ctx) throws Exception {
                 return writeLock(lock, ctx);
             case READ:
                 return readLock(lock, ctx);
+            case OPTIMISTIC:
+                return optimisticRead(lock, ctx);
             case NONE:
                 return ctx.proceed();
         }
@@ -38,45 +48,101 @@ Object lock(InvocationContext ctx) throws Exception {
     }
 
     private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
-        long time = lock.time();
+        java.util.concurrent.locks.Lock writeLock = readWriteLock.writeLock();
+        acquire(writeLock, lock, ctx, "Write");
+        // The sequence is only modified by the thread that holds the write lock
+        boolean outermost = readWriteLock.getWriteHoldCount() == 1;
+        if (outermost) {
+            writeSequence++;
+            // The volatile write does not prevent the following writes of the invocation from being reordered before it,
+            // an optimistic reader could then observe a partial write with an even sequence (same as StampedLock)
+            VarHandle.storeStoreFence();
+        }
         try {
-            if (time > 0) {
-                locked = readWriteLock.writeLock().tryLock(time, lock.unit());
-                if (!locked) {
-                    throw new LockException("Write lock not acquired in " + lock.unit().toMillis(time) + " ms");
-                }
-            } else {
-                readWriteLock.writeLock().lock();
-                locked = true;
-            }
             return ctx.proceed();
         } finally {
-            if (locked) {
-                readWriteLock.writeLock().unlock();
+            if (outermost) {
+                writeSequence++;
             }
+            writeLock.unlock();
         }
     }
 
     private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
-        long time = lock.time();
+        java.util.concurrent.locks.Lock readLock = readWriteLock.readLock();
+        acquire(readLock, lock, ctx, "Read");
         try {
-            if (time > 0) {
-                locked = readWriteLock.readLock().tryLock(time, lock.unit());
-                if (!locked) {
-                    throw new LockException("Read lock not acquired in " + lock.unit().toMillis(time) + " ms");
-                }
-            } else {
-                readWriteLock.readLock().lock();
-                locked = true;
-            }
             return ctx.proceed();
         } finally {
-            if (locked) {
-                readWriteLock.readLock().unlock();
+            readLock.unlock();
+        }
+    }
+
+    private Object optimisticRead(Lock lock, InvocationContext ctx) throws Exception {
+        long sequence = writeSequence;
+        if ((sequence & 1) == 0) {
+            Object result = null;
+            Throwable failure = null;
+            try {
+                result = ctx.proceed();
+            } catch (Throwable e) {
+                // The exception or error could be caused by a concurrent write
+                failure = e;
+            }
+            // Make sure the reads performed during the invocation are not reordered with the validation
+            VarHandle.acquireFence();
+            if (writeSequence == sequence) {
+                statistics(ctx).optimisticRead(false);
+                if (failure instanceof Exception) {
+                    throw (Exception) failure;
+                }
+                if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+                if (failure != null) {
+                    throw new RuntimeException(failure);
+                }
+                return result;
+            }
+        }
+        // A write lock was held before or during the invocation
+        statistics(ctx).optimisticRead(true);
+        return readLock(lock, ctx);
+    }
+
+    private void acquire(java.util.concurrent.locks.Lock javaLock, Lock lock, InvocationContext ctx, String type)
+            throws InterruptedException {
+        // Do not barge in front of the queued threads
+        if (!readWriteLock.hasQueuedThreads() && javaLock.tryLock()) {
+            statistics(ctx).acquired();
+            return;
+        }
+        long start = System.nanoTime();
+        long time = lock.time();
+        boolean locked;
+        if (time > 0) {
+            locked = javaLock.tryLock(time, lock.unit());
+        } else {
+            javaLock.lock();
+            locked = true;
+        }
+        statistics(ctx).contended(System.nanoTime() - start, locked);
+        if (!locked) {
+            throw new LockException(type + " lock not acquired in " + lock.unit().toMillis(time) + " ms");
+        }
+    }
+
+    private LockStatisticsImpl statistics(InvocationContext ctx) {
+        LockStatisticsImpl stats = statistics;
+        if (stats == null) {
+            Class<?> beanClass = ctx.getTarget().getClass();
+            if (ctx.getTarget() instanceof Subclass) {
+                beanClass = beanClass.getSuperclass();
             }
+            stats = ArcContainerImpl.instance().lockStatistics(beanClass.getName());
+            statistics = stats;
         }
+        return stats;
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,101 @@
+package io.quarkus.arc.impl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.arc.LockStatistics;
+
+class LockStatisticsImpl implements LockStatistics {
+
+    private final String beanClass;
+    private final LongAdder acquisitions;
+    private final LongAdder contentions;
+    private final LongAdder timeouts;
+    private final LongAdder waitTime;
+    private final LongAccumulator maxWaitTime;
+    private final LongAdder optimisticReads;
+    private final LongAdder optimisticReadFailures;
+
+    LockStatisticsImpl(String beanClass) {
+        this.beanClass = beanClass;
+        this.acquisitions = new LongAdder();
+        this.contentions = new LongAdder();
+        this.timeouts = new LongAdder();
+        this.waitTime = new LongAdder();
+        this.maxWaitTime = new LongAccumulator(Math::max, 0);
+        this.optimisticReads = new LongAdder();
+        this.optimisticReadFailures = new LongAdder();
+    }
+
+    void acquired() {
+        acquisitions.increment();
+    }
+
+    void contended(long waitNanos, boolean acquired) {
+        contentions.increment();
+        waitTime.add(waitNanos);
+        maxWaitTime.accumulate(waitNanos);
+        if (acquired) {
+            acquisitions.increment();
+        } else {
+            timeouts.increment();
+        }
+    }
+
+    void optimisticRead(boolean failed) {
+        optimisticReads.increment();
+        if (failed) {
+            optimisticReadFailures.increment();
+        }
+    }
+
+    @Override
+    public String getBeanClass() {
+        return beanClass;
+    }
+
+    @Override
+    public long getAcquisitionCount() {
+        return acquisitions.sum();
+    }
+
+    @Override
+    public long getContentionCount() {
+        return contentions.sum();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(waitTime.sum());
+    }
+
+    @Override
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitTime.get());
+    }
+
+    @Override
+    public long getOptimisticReadCount() {
+        return optimisticReads.sum();
+    }
+
+    @Override
+    public long getOptimisticReadFailureCount() {
+        return optimisticReadFailures.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "LockStatistics [beanClass=" + beanClass + ", acquisitions=" + getAcquisitionCount() + ", contentions="
+                + getContentionCount() + ", timeouts=" + getTimeoutCount() + ", totalWaitTime=" + getTotalWaitTime()
+                + ", maxWaitTime=" + getMaxWaitTime() + ", optimisticReads=" + getOptimisticReadCount()
+                + ", optimisticReadFailures=" + getOptimisticReadFailureCount() + "]";
+    }
+
+}
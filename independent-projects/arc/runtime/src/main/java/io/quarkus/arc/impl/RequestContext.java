@@ -4,10 +4,15 @@
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -35,13 +40,22 @@ class RequestContext implements ManagedContext {
 
     private final CurrentContext<RequestContextState> currentContext;
 
+    // request scoped beans known at init time -> index of the instance in the state
+    private final Map<Contextual<?>, Integer> indexes;
+
     private final Notifier<Object> initializedNotifier;
     private final Notifier<Object> beforeDestroyedNotifier;
     private final Notifier<Object> destroyedNotifier;
 
     public RequestContext(CurrentContext<RequestContextState> currentContext, Notifier<Object> initializedNotifier,
-            Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier) {
+            Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier,
+            Collection<InjectableBean<?>> beans) {
         this.currentContext = currentContext;
+        Map<Contextual<?>, Integer> indexes = new IdentityHashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            indexes.putIfAbsent(bean, indexes.size());
+        }
+        this.indexes = indexes;
         this.initializedNotifier = initializedNotifier;
         this.beforeDestroyedNotifier = beforeDestroyedNotifier;
         this.destroyedNotifier = destroyedNotifier;
@@ -66,13 +80,14 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             // Context is not active!
             return null;
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.map.get(contextual);
+        int index = indexOf(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(index, contextual);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctxState.map.put(contextual, instance);
+            ctxState.put(index, contextual, instance);
         }
         return instance.get();
     }
@@ -99,7 +114,7 @@ public <T> T get(Contextual<T> contextual) {
         if (state == null) {
             throw notActive();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.get(indexOf(contextual), contextual);
         return instance == null ? null : instance.get();
     }
 
@@ -115,7 +130,7 @@ public void destroy(Contextual<?> contextual) {
             // Context is not active
             throw notActive();
         }
-        ContextInstanceHandle<?> instance = state.map.remove(contextual);
+        ContextInstanceHandle<?> instance = state.remove(indexOf(contextual), contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -133,7 +148,7 @@ public void activate(ContextState initialState) {
                     initialState != null ? Integer.toHexString(initialState.hashCode()) : "new", stack);
         }
         if (initialState == null) {
-            currentContext.set(new RequestContextState(new ConcurrentHashMap<>()));
+            currentContext.set(new RequestContextState(indexes.size()));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -196,12 +211,7 @@ public void destroy(ContextState state) {
             if (reqState.invalidate()) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(beforeDestroyedNotifier);
-                Map<Contextual<?>, ContextInstanceHandle<?>> map = ((RequestContextState) state).map;
-                if (!map.isEmpty()) {
-                    //Performance: avoid an iterator on the map elements
-                    map.forEach(this::destroyContextElement);
-                    map.clear();
-                }
+                reqState.destroyAll(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(destroyedNotifier);
             }
@@ -210,7 +220,12 @@ public void destroy(ContextState state) {
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private int indexOf(Contextual<?> contextual) {
+        Integer index = indexes.get(contextual);
+        return index != null ? index : -1;
+    }
+
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -234,30 +249,123 @@ private ContextNotActiveException notActive() {
         return new ContextNotActiveException(msg);
     }
 
+    /**
+     * The instances of the beans known at init time are stored in an array indexed by bean, any other instance is stored
+     * in a map. Both are only allocated when a request scoped bean is first used, as many requests do not use any.
+     */
     static class RequestContextState implements ContextState {
 
         private static final VarHandle IS_VALID;
+        private static final VarHandle INSTANCES;
+        private static final VarHandle OTHERS;
+        private static final VarHandle INSTANCE = MethodHandles.arrayElementVarHandle(ContextInstanceHandle[].class);
 
         static {
             try {
-                IS_VALID = MethodHandles.lookup().findVarHandle(RequestContextState.class, "isValid", int.class);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                IS_VALID = lookup.findVarHandle(RequestContextState.class, "isValid", int.class);
+                INSTANCES = lookup.findVarHandle(RequestContextState.class, "instances", ContextInstanceHandle[].class);
+                OTHERS = lookup.findVarHandle(RequestContextState.class, "others", ConcurrentMap.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final Map<Contextual<?>, ContextInstanceHandle<?>> map;
+        private final int size;
+        private volatile ContextInstanceHandle<?>[] instances;
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
         private volatile int isValid;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.map = Objects.requireNonNull(value);
+        RequestContextState(int size) {
+            this.size = size;
             this.isValid = 1;
         }
 
+        ContextInstanceHandle<?> get(int index, Contextual<?> contextual) {
+            if (index >= 0) {
+                ContextInstanceHandle<?>[] instances = this.instances;
+                return instances == null ? null : (ContextInstanceHandle<?>) INSTANCE.getVolatile(instances, index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others == null ? null : others.get(contextual);
+        }
+
+        void put(int index, Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            if (index >= 0) {
+                INSTANCE.setVolatile(instances(), index, instance);
+            } else {
+                others().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(int index, Contextual<?> contextual) {
+            if (index >= 0) {
+                ContextInstanceHandle<?>[] instances = this.instances;
+                return instances == null ? null : (ContextInstanceHandle<?>) INSTANCE.getAndSet(instances, index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others == null ? null : others.remove(contextual);
+        }
+
+        void destroyAll(Consumer<ContextInstanceHandle<?>> destroyAction) {
+            ContextInstanceHandle<?>[] instances = this.instances;
+            if (instances != null) {
+                for (int i = 0; i < instances.length; i++) {
+                    ContextInstanceHandle<?> instance = (ContextInstanceHandle<?>) INSTANCE.getAndSet(instances, i, null);
+                    if (instance != null) {
+                        destroyAction.accept(instance);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null && !others.isEmpty()) {
+                //Performance: avoid an iterator on the map elements
+                others.forEach((contextual, instance) -> destroyAction.accept(instance));
+                others.clear();
+            }
+        }
+
+        private ContextInstanceHandle<?>[] instances() {
+            ContextInstanceHandle<?>[] instances = this.instances;
+            if (instances == null) {
+                instances = new ContextInstanceHandle<?>[size];
+                if (!INSTANCES.compareAndSet(this, null, instances)) {
+                    instances = this.instances;
+                }
+            }
+            return instances;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others == null) {
+                others = new ConcurrentHashMap<>();
+                if (!OTHERS.compareAndSet(this, null, others)) {
+                    others = this.others;
+                }
+            }
+            return others;
+        }
+
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return map.values().stream()
-                    .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> result = new HashMap<>();
+            ContextInstanceHandle<?>[] instances = this.instances;
+            if (instances != null) {
+                for (int i = 0; i < instances.length; i++) {
+                    ContextInstanceHandle<?> instance = (ContextInstanceHandle<?>) INSTANCE.getVolatile(instances, i);
+                    if (instance != null) {
+                        result.put(instance.getBean(), instance.get());
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                for (ContextInstanceHandle<?> instance : others.values()) {
+                    result.put(instance.getBean(), instance.get());
+                }
+            }
+            return Collections.unmodifiableMap(result);
         }
 
         /**
@@ -84,6 +84,7 @@ public static class Builder {
         private final List<BeanDeploymentValidator> beanDeploymentValidators;
         private boolean shouldFail = false;
         private boolean removeUnusedBeans = false;
+        private boolean strictUnusedBeansRemoval = false;
         private final List<Predicate<BeanInfo>> exclusions;
         private AlternativePriorities alternativePriorities;
 
@@ -181,6 +182,11 @@ public Builder removeUnusedBeans(boolean value) {
             return this;
         }
 
+        public Builder strictUnusedBeansRemoval(boolean value) {
+            this.strictUnusedBeansRemoval = value;
+            return this;
+        }
+
         public Builder addRemovalExclusion(Predicate<BeanInfo> exclusion) {
             this.exclusions.add(exclusion);
             return this;
@@ -224,6 +230,7 @@ public ArcTestContainer build() {
     private final AtomicReference<Throwable> buildFailure;
 
     private final boolean removeUnusedBeans;
+    private final boolean strictUnusedBeansRemoval;
     private final List<Predicate<BeanInfo>> exclusions;
 
     private final AlternativePriorities alternativePriorities;
@@ -246,6 +253,7 @@ public ArcTestContainer(Class<?>... beanClasses) {
         this.buildFailure = new AtomicReference<Throwable>(null);
         this.shouldFail = false;
         this.removeUnusedBeans = false;
+        this.strictUnusedBeansRemoval = false;
         this.exclusions = Collections.emptyList();
         this.alternativePriorities = null;
     }
@@ -268,6 +276,7 @@ public ArcTestContainer(Builder builder) {
         this.buildFailure = new AtomicReference<Throwable>(null);
         this.shouldFail = builder.shouldFail;
         this.removeUnusedBeans = builder.removeUnusedBeans;
+        this.strictUnusedBeansRemoval = builder.strictUnusedBeansRemoval;
         this.exclusions = builder.exclusions;
         this.alternativePriorities = builder.alternativePriorities;
     }
@@ -412,6 +421,7 @@ public void writeResource(Resource resource) throws IOException {
                 }
             });
             builder.setRemoveUnusedBeans(removeUnusedBeans);
+            builder.setStrictUnusedBeansRemoval(strictUnusedBeansRemoval);
             for (Predicate<BeanInfo> exclusion : exclusions) {
                 builder.addRemovalExclusion(exclusion);
             }
@@ -0,0 +1,110 @@
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ApplicationScopedClientProxyCacheTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class);
+
+    @BeforeEach
+    public void reset() {
+        Counter.CREATED.set(0);
+        Counter.DESTROYED.set(0);
+    }
+
+    @Test
+    public void testInstanceIsCachedUntilDestroyed() {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        String id = counter.getId();
+        assertEquals(id, counter.getId());
+        assertEquals(1, Counter.CREATED.get());
+
+        // Destroy the contextual instance - the proxy must not use the cached instance anymore
+        InjectableBean<Counter> bean = Arc.container().instance(Counter.class).getBean();
+        Arc.container().getActiveContext(ApplicationScoped.class).destroy(bean);
+        assertEquals(1, Counter.DESTROYED.get());
+        String newId = counter.getId();
+        assertNotEquals(id, newId);
+        assertEquals(newId, counter.getId());
+        assertEquals(2, Counter.CREATED.get());
+    }
+
+    @Test
+    public void testConcurrentInvocations() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(counter.getId());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(1, ids.size());
+            assertEquals(1, Counter.CREATED.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = "counter" + CREATED.incrementAndGet();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -4,9 +4,12 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Map;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.control.RequestContextController;
@@ -204,6 +207,32 @@ public void testGet() {
         }
     }
 
+    @Test
+    public void testContextualInstances() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNull(requestContext.get(controllerBean));
+
+            String id = arc.instance(Controller.class).get().getId();
+            Map<InjectableBean<?>, Object> instances = requestContext.getState().getContextualInstances();
+            assertEquals(1, instances.size());
+            assertEquals(id, ((Controller) instances.get(controllerBean)).getId());
+            assertEquals(id, requestContext.get(controllerBean).getId());
+
+            requestContext.destroy(controllerBean);
+            assertTrue(Controller.DESTROYED.get());
+            assertNull(requestContext.get(controllerBean));
+            assertNotEquals(id, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
     @ApplicationScoped
     public static class Boom {
 
@@ -0,0 +1,109 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.inject.Default;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+
+/**
+ * The lookups without qualifiers are cached by type, they must return the same results as the lookups with the
+ * {@link Default} qualifier.
+ */
+public class DefaultQualifierLookupTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class);
+
+    @Test
+    public void testResolvedBean() {
+        ArcContainer arc = Arc.container();
+        for (int i = 0; i < 3; i++) {
+            InstanceHandle<Alpha> handle = arc.instance(Alpha.class);
+            assertTrue(handle.isAvailable());
+            assertSame(handle.getBean(), arc.instance(Alpha.class, Default.Literal.INSTANCE).getBean());
+            assertSame(handle.get(), arc.instance(Alpha.class, Default.Literal.INSTANCE).get());
+            assertSame(handle.getBean(), arc.instanceSupplier(Alpha.class).get().getBean());
+            assertEquals(arc.beanManager().getBeans(Alpha.class), arc.beanManager().getBeans(Alpha.class,
+                    Default.Literal.INSTANCE));
+        }
+    }
+
+    @Test
+    public void testAmbiguousBeans() {
+        ArcContainer arc = Arc.container();
+        for (int i = 0; i < 3; i++) {
+            // Bravo and Charlie are both Service beans with the @Default qualifier
+            assertFalse(arc.instance(Service.class).isAvailable());
+            assertFalse(arc.instance(Service.class, Default.Literal.INSTANCE).isAvailable());
+            assertEquals(2, arc.select(Service.class).stream().count());
+            assertEquals(2, arc.beanManager().getBeans(Service.class).size());
+        }
+    }
+
+    @Test
+    public void testUnsatisfiedBean() {
+        ArcContainer arc = Arc.container();
+        for (int i = 0; i < 3; i++) {
+            InstanceHandle<Runnable> handle = arc.instance(Runnable.class);
+            assertFalse(handle.isAvailable());
+            assertNull(handle.getBean());
+            assertFalse(arc.instance(Runnable.class, Default.Literal.INSTANCE).isAvailable());
+        }
+    }
+
+    @Test
+    public void testNamedBean() {
+        ArcContainer arc = Arc.container();
+        // @Named does not remove the @Default qualifier
+        InjectableBean<Charlie> bean = arc.instance(Charlie.class).getBean();
+        assertSame(bean, arc.instance(Charlie.class, Default.Literal.INSTANCE).getBean());
+        assertSame(bean, arc.instance("charlie").getBean());
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Singleton
+    static class Alpha {
+
+    }
+
+    @Singleton
+    static class Bravo implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Named("charlie")
+    @Singleton
+    static class Charlie implements Service {
+
+        @Override
+        public String ping() {
+            return "charlie";
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class InstanceInjectionPointTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Consumer.class, DependentService.class,
+            ApplicationScopedService.class, Blue.class);
+
+    @Test
+    public void testDependentBeanInjectionPoint() throws NoSuchFieldException {
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+
+        InjectionPoint injectionPoint = consumer.dependent.get().injectionPoint;
+        assertNotNull(injectionPoint);
+        assertEquals(DependentService.class, injectionPoint.getType());
+        assertEquals(Consumer.class, injectionPoint.getBean().getBeanClass());
+        Field field = Consumer.class.getDeclaredField("dependent");
+        assertEquals(field, injectionPoint.getMember());
+        assertTrue(injectionPoint.getQualifiers().contains(new Blue.Literal()));
+        assertTrue(injectionPoint.getAnnotated().isAnnotationPresent(Blue.class));
+        // the injection point of the Instance is also used when a subtype is selected
+        injectionPoint = consumer.dependent.select(DependentService.class).get().injectionPoint;
+        assertEquals(DependentService.class, injectionPoint.getType());
+        assertEquals(field, injectionPoint.getMember());
+    }
+
+    @Test
+    public void testNormalScopedBean() {
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+
+        // the injection point is not created for a bean that cannot inject it
+        assertEquals("application-scoped", consumer.applicationScoped.get().ping());
+        assertEquals(DependentService.class, consumer.dependent.get().injectionPoint.getType());
+    }
+
+    @Singleton
+    static class Consumer {
+
+        @Inject
+        @Blue
+        Instance<DependentService> dependent;
+
+        @Inject
+        Instance<ApplicationScopedService> applicationScoped;
+
+    }
+
+    @Blue
+    @Dependent
+    static class DependentService {
+
+        @Inject
+        InjectionPoint injectionPoint;
+
+    }
+
+    @ApplicationScoped
+    static class ApplicationScopedService {
+
+        String ping() {
+            return "application-scoped";
+        }
+
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Blue {
+
+        @SuppressWarnings("serial")
+        final class Literal extends AnnotationLiteral<Blue> implements Blue {
+        }
+
+    }
+
+}
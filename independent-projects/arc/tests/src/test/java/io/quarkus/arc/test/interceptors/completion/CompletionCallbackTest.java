@@ -0,0 +1,212 @@
+package io.quarkus.arc.test.interceptors.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.smallrye.mutiny.Uni;
+
+public class CompletionCallbackTest {
+
+    static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Completion.class, Deferred.class, AlphaInterceptor.class,
+            BravoInterceptor.class, DeferredInterceptor.class, Service.class, LifecycleService.class);
+
+    @BeforeEach
+    void reset() {
+        EVENTS.clear();
+    }
+
+    @Test
+    public void testSynchronousResult() {
+        assertEquals("ok", Arc.container().instance(Service.class).get().hello());
+        assertEquals(List.of("alpha:ok:null", "bravo:ok:null"), EVENTS);
+    }
+
+    @Test
+    public void testSynchronousFailure() {
+        assertThrows(IllegalStateException.class, () -> Arc.container().instance(Service.class).get().fail());
+        assertEquals(List.of("alpha:null:IllegalStateException", "bravo:null:IllegalStateException"), EVENTS);
+    }
+
+    @Test
+    public void testUni() {
+        Uni<String> uni = Arc.container().instance(Service.class).get().uni();
+        assertTrue(EVENTS.isEmpty());
+        assertEquals("uni", uni.await().indefinitely());
+        assertEquals(List.of("alpha:uni:null", "bravo:uni:null"), EVENTS);
+    }
+
+    @Test
+    public void testCompletionStage() {
+        Service service = Arc.container().instance(Service.class).get();
+        CompletionStage<String> stage = service.stage();
+        assertTrue(EVENTS.isEmpty());
+        service.complete("stage");
+        assertEquals("stage", stage.toCompletableFuture().join());
+        assertEquals(List.of("alpha:stage:null", "bravo:stage:null"), EVENTS);
+    }
+
+    @Test
+    public void testDeferredProceed() {
+        // The interceptors registering the callbacks are invoked when the Uni is subscribed
+        Uni<String> uni = Arc.container().instance(Service.class).get().deferredUni();
+        assertTrue(EVENTS.isEmpty());
+        assertEquals("deferred", uni.await().indefinitely());
+        assertEquals(List.of("alpha:deferred:null", "bravo:deferred:null"), EVENTS);
+    }
+
+    @Test
+    public void testLifecycleCallback() {
+        Arc.container().instance(LifecycleService.class).get().ping();
+        // ping() is intercepted as well
+        assertEquals(List.of("alpha-post-construct:null:null", "alpha:null:null", "bravo:null:null"), EVENTS);
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @InterceptorBinding
+    public @interface Completion {
+
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @InterceptorBinding
+    public @interface Deferred {
+
+    }
+
+    @ApplicationScoped
+    static class Service {
+
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+
+        @Completion
+        String hello() {
+            return "ok";
+        }
+
+        @Completion
+        String fail() {
+            throw new IllegalStateException();
+        }
+
+        @Completion
+        Uni<String> uni() {
+            return Uni.createFrom().item("uni");
+        }
+
+        @Completion
+        CompletionStage<String> stage() {
+            return future;
+        }
+
+        @Deferred
+        @Completion
+        Uni<String> deferredUni() {
+            return Uni.createFrom().item("deferred");
+        }
+
+        void complete(String value) {
+            future.complete(value);
+        }
+
+    }
+
+    @Completion
+    @Singleton
+    static class LifecycleService {
+
+        void ping() {
+        }
+
+    }
+
+    @Completion
+    @Priority(1)
+    @Interceptor
+    static class AlphaInterceptor {
+
+        @PostConstruct
+        void postConstruct(InvocationContext ctx) throws Exception {
+            ((ArcInvocationContext) ctx).addCompletionCallback((result, failure) -> record("alpha-post-construct", result,
+                    failure));
+            ctx.proceed();
+        }
+
+        @AroundInvoke
+        Object intercept(ArcInvocationContext ctx) throws Exception {
+            ctx.addCompletionCallback((result, failure) -> record("alpha", result, failure));
+            return ctx.proceed();
+        }
+
+    }
+
+    @Completion
+    @Priority(2)
+    @Interceptor
+    static class BravoInterceptor {
+
+        @AroundInvoke
+        Object intercept(ArcInvocationContext ctx) throws Exception {
+            ctx.addCompletionCallback((result, failure) -> record("bravo", result, failure));
+            return ctx.proceed();
+        }
+
+    }
+
+    @Deferred
+    @Priority(0)
+    @Interceptor
+    static class DeferredInterceptor {
+
+        @SuppressWarnings("unchecked")
+        @AroundInvoke
+        Object intercept(ArcInvocationContext ctx) throws Exception {
+            return Uni.createFrom().deferred(() -> {
+                try {
+                    return (Uni<Object>) ctx.proceed();
+                } catch (Exception e) {
+                    return Uni.createFrom().failure(e);
+                }
+            });
+        }
+
+    }
+
+    static void record(String name, Object result, Throwable failure) {
+        EVENTS.add(name + ":" + result + ":" + (failure != null ? failure.getClass().getSimpleName() : null));
+    }
+
+}
@@ -0,0 +1,174 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.LockStatistics;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class OptimisticLockTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class, Lock.class, LockInterceptor.class);
+
+    @Test
+    public void testOptimisticReadWithoutWriter() {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        assertEquals(0, counter.get());
+        assertEquals(0, counter.get());
+
+        LockStatistics statistics = getStatistics();
+        assertEquals(2, statistics.getOptimisticReadCount());
+        assertEquals(0, statistics.getOptimisticReadFailureCount());
+        assertEquals(0, statistics.getAcquisitionCount());
+    }
+
+    @Test
+    public void testOptimisticReadWhileWriteLockHeld() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch inside = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<?> write = executor.submit(() -> {
+                counter.increment(inside, release);
+                return null;
+            });
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            // The write lock is held - the reader must wait for the read lock
+            Future<Integer> read = executor.submit(counter::get);
+            Thread.sleep(100);
+            assertFalse(read.isDone());
+            release.countDown();
+            write.get(5, TimeUnit.SECONDS);
+            assertEquals(1, read.get(5, TimeUnit.SECONDS));
+
+            LockStatistics statistics = getStatistics();
+            assertEquals(1, statistics.getOptimisticReadCount());
+            assertEquals(1, statistics.getOptimisticReadFailureCount());
+            // write lock + read lock
+            assertEquals(2, statistics.getAcquisitionCount());
+            assertEquals(1, statistics.getContentionCount());
+            assertTrue(statistics.getMaxWaitTime().toMillis() >= 50, statistics.toString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOptimisticReadInvalidatedByWrite() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            CountDownLatch inside = new CountDownLatch(1);
+            CountDownLatch proceed = new CountDownLatch(1);
+            Future<Integer> read = executor.submit(() -> counter.slowGet(inside, proceed));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            // Write while the optimistic read is in progress - the read is invoked again while holding the read lock
+            counter.increment(new CountDownLatch(1), new CountDownLatch(0));
+            proceed.countDown();
+            assertEquals(1, read.get(5, TimeUnit.SECONDS));
+            assertEquals(2, counter.getSlowGetInvocations());
+
+            LockStatistics statistics = getStatistics();
+            assertEquals(1, statistics.getOptimisticReadFailureCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOptimisticReadErrorInvalidatedByWrite() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            CountDownLatch inside = new CountDownLatch(1);
+            CountDownLatch proceed = new CountDownLatch(1);
+            Future<Integer> read = executor.submit(() -> counter.failingGet(inside, proceed));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            // The error thrown by the invalidated optimistic read is discarded and the read is invoked again
+            counter.increment(new CountDownLatch(1), new CountDownLatch(0));
+            proceed.countDown();
+            assertEquals(1, read.get(5, TimeUnit.SECONDS));
+            assertEquals(1, getStatistics().getOptimisticReadFailureCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LockStatistics getStatistics() {
+        Collection<LockStatistics> all = Arc.container().getLockStatistics();
+        assertEquals(1, all.size());
+        LockStatistics statistics = all.iterator().next();
+        assertEquals(Counter.class.getName(), statistics.getBeanClass());
+        return statistics;
+    }
+
+    @Singleton
+    static class Counter {
+
+        private int value;
+
+        private final AtomicInteger slowGetInvocations = new AtomicInteger();
+
+        @Lock(Type.OPTIMISTIC)
+        int get() {
+            return value;
+        }
+
+        @Lock(Type.OPTIMISTIC)
+        int slowGet(CountDownLatch inside, CountDownLatch proceed) throws InterruptedException {
+            slowGetInvocations.incrementAndGet();
+            int result = value;
+            inside.countDown();
+            proceed.await();
+            return result;
+        }
+
+        @Lock(Type.OPTIMISTIC)
+        int failingGet(CountDownLatch inside, CountDownLatch proceed) throws InterruptedException {
+            if (inside.getCount() > 0) {
+                // Simulates an error caused by reading a partial write
+                inside.countDown();
+                proceed.await();
+                throw new AssertionError("Inconsistent state");
+            }
+            return value;
+        }
+
+        @Lock(Type.WRITE)
+        void increment(CountDownLatch inside, CountDownLatch release) throws InterruptedException {
+            inside.countDown();
+            release.await();
+            value++;
+        }
+
+        @Lock(Type.NONE)
+        int getSlowGetInvocations() {
+            return slowGetInvocations.get();
+        }
+
+    }
+
+}
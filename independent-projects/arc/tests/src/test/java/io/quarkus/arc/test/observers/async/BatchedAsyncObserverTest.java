@@ -0,0 +1,87 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.enterprise.inject.spi.EventMetadata;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Batched;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class BatchedAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(BatchObserver.class);
+
+    @Test
+    public void testBatchIsDeliveredWhenFull() throws Exception {
+        BatchObserver observer = Arc.container().instance(BatchObserver.class).get();
+        observer.reset(1);
+        Event<Integer> event = Arc.container().beanManager().getEvent().select(Integer.class);
+        CompletableFuture<?>[] stages = new CompletableFuture<?>[3];
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = event.fireAsync(i).toCompletableFuture();
+        }
+        CompletableFuture.allOf(stages).get(10, TimeUnit.SECONDS);
+        assertTrue(observer.latch.await(10, TimeUnit.SECONDS));
+        assertEquals(1, observer.integerBatches.size());
+        List<Integer> batch = observer.integerBatches.get(0);
+        assertEquals(3, batch.size());
+        assertTrue(batch.containsAll(List.of(0, 1, 2)));
+    }
+
+    @Test
+    public void testBatchIsDeliveredAfterDelay() throws Exception {
+        BatchObserver observer = Arc.container().instance(BatchObserver.class).get();
+        observer.reset(1);
+        Event<String> event = Arc.container().beanManager().getEvent().select(String.class);
+        event.fireAsync("foo").toCompletableFuture().get(10, TimeUnit.SECONDS);
+        event.fireAsync("bar").toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertTrue(observer.latch.await(10, TimeUnit.SECONDS));
+        assertEquals(1, observer.stringBatches.size());
+        assertEquals(List.of("foo", "bar"), observer.stringBatches.get(0));
+        assertEquals(String.class, observer.metadata.getType());
+    }
+
+    @Singleton
+    static class BatchObserver {
+
+        final List<List<Integer>> integerBatches = new CopyOnWriteArrayList<>();
+        final List<List<String>> stringBatches = new CopyOnWriteArrayList<>();
+        volatile EventMetadata metadata;
+        volatile CountDownLatch latch;
+
+        void reset(int expectedBatches) {
+            integerBatches.clear();
+            stringBatches.clear();
+            latch = new CountDownLatch(expectedBatches);
+        }
+
+        void observeIntegers(@ObservesAsync @Batched(maxSize = 3, maxDelay = 1, unit = TimeUnit.HOURS) List<Integer> events) {
+            integerBatches.add(events);
+            latch.countDown();
+        }
+
+        void observeStrings(@ObservesAsync @Batched(maxSize = 100, maxDelay = 200) List<String> events,
+                EventMetadata metadata) {
+            stringBatches.add(events);
+            this.metadata = metadata;
+            latch.countDown();
+        }
+
+    }
+
+}
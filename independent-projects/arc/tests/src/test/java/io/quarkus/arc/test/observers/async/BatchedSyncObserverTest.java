@@ -0,0 +1,40 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.DefinitionException;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Batched;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class BatchedSyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder().beanClasses(WrongObserver.class).shouldFail()
+            .build();
+
+    @Test
+    public void testFailure() {
+        Throwable error = container.getFailure();
+        assertNotNull(error);
+        assertTrue(error instanceof DefinitionException);
+        assertTrue(error.getMessage().contains("asynchronous observers"), error.getMessage());
+    }
+
+    @Singleton
+    static class WrongObserver {
+
+        void observe(@Observes @Batched List<String> events) {
+        }
+
+    }
+
+}
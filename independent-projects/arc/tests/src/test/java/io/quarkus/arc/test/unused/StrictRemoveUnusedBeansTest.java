@@ -0,0 +1,92 @@
+package io.quarkus.arc.test.unused;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class StrictRemoveUnusedBeansTest extends RemoveUnusedComponentsTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(HasObserver.class, Used.class, UsedViaInstance.class, Registry.class, Plugin.class,
+                    CycleAlpha.class, CycleBravo.class)
+            .removeUnusedBeans(true)
+            .strictUnusedBeansRemoval(true)
+            .build();
+
+    @Test
+    public void testRemoval() {
+        assertPresent(HasObserver.class);
+        assertPresent(Used.class);
+        assertPresent(UsedViaInstance.class);
+        // Registry is only referenced by Instance<Registry> of the unused CycleAlpha
+        assertNotPresent(Registry.class);
+        assertNotPresent(Plugin.class);
+        assertNotPresent(CycleAlpha.class);
+        assertNotPresent(CycleBravo.class);
+    }
+
+    @Dependent
+    static class HasObserver {
+
+        @Inject
+        Used used;
+
+        void observe(@Observes String event) {
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Used {
+
+        @Inject
+        Instance<UsedViaInstance> instance;
+
+    }
+
+    @Dependent
+    static class UsedViaInstance {
+
+    }
+
+    @ApplicationScoped
+    static class Registry {
+
+        @Inject
+        Instance<Plugin> plugins;
+
+    }
+
+    @Dependent
+    static class Plugin {
+
+    }
+
+    @ApplicationScoped
+    static class CycleAlpha {
+
+        @Inject
+        CycleBravo bravo;
+
+        @Inject
+        Instance<Registry> registry;
+
+    }
+
+    @ApplicationScoped
+    static class CycleBravo {
+
+        @Inject
+        CycleAlpha alpha;
+
+    }
+
+}
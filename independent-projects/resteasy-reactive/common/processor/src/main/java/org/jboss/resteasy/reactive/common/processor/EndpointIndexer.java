@@ -696,6 +696,7 @@ private ResourceMethod createResourceMethod(ClassInfo currentClassInfo, ClassInf
             Set<String> nameBindingNames = nameBindingNames(currentMethodInfo, classNameBindings);
             boolean blocking = isBlocking(currentMethodInfo, defaultBlocking);
             boolean runOnVirtualThread = isRunOnVirtualThread(currentMethodInfo, defaultBlocking);
+            boolean blockingInferred = isBlockingInferred(currentMethodInfo, defaultBlocking);
             // we want to allow "overriding" the blocking/non-blocking setting from an implementation class
             // when the class defining the annotations is an interface
             if (!actualEndpointInfo.equals(currentClassInfo) && Modifier.isInterface(currentClassInfo.flags())) {
@@ -708,6 +709,7 @@ private ResourceMethod createResourceMethod(ClassInfo currentClassInfo, ClassInf
                             blocking ? BlockingDefault.BLOCKING : BlockingDefault.NON_BLOCKING);
                     runOnVirtualThread = isRunOnVirtualThread(actualMethodInfo,
                             blocking ? BlockingDefault.BLOCKING : BlockingDefault.NON_BLOCKING);
+                    blockingInferred = blockingInferred && isBlockingInferred(actualMethodInfo, defaultBlocking);
                 }
             }
 
@@ -727,6 +729,7 @@ private ResourceMethod createResourceMethod(ClassInfo currentClassInfo, ClassInf
                     .setName(currentMethodInfo.name())
                     .setBlocking(blocking)
                     .setRunOnVirtualThread(runOnVirtualThread)
+                    .setBlockingInferred(blockingInferred)
                     .setSuspended(suspended)
                     .setSse(sse)
                     .setStreamElementType(streamElementType)
@@ -872,6 +875,18 @@ private boolean isBlocking(MethodInfo info, BlockingDefault defaultValue) {
         return doesMethodHaveBlockingSignature(info);
     }
 
+    /**
+     * Returns whether {@link #isBlocking(MethodInfo, BlockingDefault)} falls back to the method signature, because no
+     * annotation and no default blocking mode applies to the method.
+     */
+    private boolean isBlockingInferred(MethodInfo info, BlockingDefault defaultValue) {
+        return defaultValue == BlockingDefault.AUTOMATIC
+                && getInheritableAnnotation(info, BLOCKING) == null
+                && getInheritableAnnotation(info, NON_BLOCKING) == null
+                && getInheritableAnnotation(info, RUN_ON_VIRTUAL_THREAD) == null
+                && getInheritableAnnotation(info, TRANSACTIONAL) == null;
+    }
+
     protected boolean doesMethodHaveBlockingSignature(MethodInfo info) {
         return true;
     }
@@ -0,0 +1,28 @@
+package org.jboss.resteasy.reactive;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the serialized response of {@code GET} resource methods.
+ * <p>
+ * The response body is stored after it has been written by the {@code MessageBodyWriter}, keyed by the request path,
+ * the query string and the {@code Accept} header. Subsequent matching requests are answered from the stored bytes
+ * without invoking the resource method or serializing the entity again. Cached responses carry an {@code ETag} header
+ * and requests whose {@code If-None-Match} header matches it are answered with {@code 304 Not Modified}.
+ * <p>
+ * This must only be used on methods whose output is a pure function of the path and query parameters.
+ * Only successful ({@code 200}) responses written through a {@code MessageBodyWriter} are cached, streaming
+ * responses are never cached.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResponseCache {
+
+    /**
+     * The maximum number of responses kept for a given resource method. Once reached, the oldest entries are evicted.
+     */
+    int maxEntries() default 1000;
+}
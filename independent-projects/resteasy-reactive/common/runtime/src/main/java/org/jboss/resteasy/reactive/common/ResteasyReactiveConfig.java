@@ -31,6 +31,20 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * If greater than zero, the time in milliseconds after which the invocation of a non-blocking endpoint is considered
+     * to be blocking the IO thread. Endpoints that repeatedly exceed it are dispatched to the worker pool.
+     */
+    private long adaptiveBlockingThreshold;
+
+    /**
+     * If greater than zero, request bodies larger than the input buffer size are fed to the body reader as they are
+     * received on the IO thread, when the reader supports it, instead of being read from a blocking stream on a worker
+     * thread. This is the maximum number of bytes that can be read this way for a single request, larger requests are
+     * rejected.
+     */
+    private long maxIncrementalInputSize;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
@@ -74,4 +88,20 @@ public boolean isDefaultProduces() {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public long getAdaptiveBlockingThreshold() {
+        return adaptiveBlockingThreshold;
+    }
+
+    public void setAdaptiveBlockingThreshold(long adaptiveBlockingThreshold) {
+        this.adaptiveBlockingThreshold = adaptiveBlockingThreshold;
+    }
+
+    public long getMaxIncrementalInputSize() {
+        return maxIncrementalInputSize;
+    }
+
+    public void setMaxIncrementalInputSize(long maxIncrementalInputSize) {
+        this.maxIncrementalInputSize = maxIncrementalInputSize;
+    }
 }
@@ -62,6 +62,12 @@ public class ResourceMethod {
 
     private boolean runOnVirtualThread;
 
+    /**
+     * Whether the blocking mode was inferred from the method signature, rather than set by an annotation or by the default
+     * blocking configuration
+     */
+    private boolean blockingInferred;
+
     private boolean suspended;
 
     private boolean isSse;
@@ -197,6 +203,15 @@ public ResourceMethod setRunOnVirtualThread(boolean runOnVirtualThread) {
         return this;
     }
 
+    public boolean isBlockingInferred() {
+        return blockingInferred;
+    }
+
+    public ResourceMethod setBlockingInferred(boolean blockingInferred) {
+        this.blockingInferred = blockingInferred;
+        return this;
+    }
+
     public boolean isSuspended() {
         return suspended;
     }
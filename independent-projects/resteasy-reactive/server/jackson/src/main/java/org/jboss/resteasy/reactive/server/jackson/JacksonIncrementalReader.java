@@ -0,0 +1,100 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import org.jboss.resteasy.reactive.server.spi.IncrementalServerMessageBodyReader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Tokenizes the request body with the non-blocking Jackson parser as it is received, and binds the resulting tokens
+ * once the whole body has been read.
+ * <p>
+ * The tokens are kept in a {@link TokenBuffer}, which means that the body is never held as a whole in its serialized
+ * form and that no thread is ever blocked waiting for more input.
+ */
+public class JacksonIncrementalReader implements IncrementalServerMessageBodyReader.IncrementalReader<Object> {
+
+    private final ObjectReader reader;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final TokenBuffer tokens;
+    private final boolean useBigDecimalForFloats;
+    private boolean empty = true;
+
+    /**
+     * @param reader the reader for the type of the entity
+     */
+    public JacksonIncrementalReader(ObjectReader reader) throws IOException {
+        this.reader = reader;
+        this.parser = reader.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.tokens = new TokenBuffer(parser);
+        this.useBigDecimalForFloats = reader.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    @Override
+    public void feed(ByteBuffer data) throws IOException {
+        if (!data.hasRemaining()) {
+            return;
+        }
+        if (data.hasArray()) {
+            int start = data.arrayOffset() + data.position();
+            feeder.feedInput(data.array(), start, start + data.remaining());
+            data.position(data.limit());
+        } else {
+            byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+        }
+        copyAvailableTokens();
+    }
+
+    @Override
+    public Object complete() throws IOException {
+        feeder.endOfInput();
+        copyAvailableTokens();
+        parser.close();
+        if (empty) {
+            return null;
+        }
+        try (JsonParser bufferedParser = tokens.asParser()) {
+            return reader.readValue(bufferedParser);
+        }
+    }
+
+    private void copyAvailableTokens() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                copyFloatingPointNumber();
+            } else {
+                tokens.copyCurrentEvent(parser);
+            }
+            empty = false;
+        }
+    }
+
+    /**
+     * The token buffer keeps floating point numbers as doubles, which would lose the precision of {@link BigDecimal}
+     * properties, so numbers that a double cannot represent exactly are kept as {@link BigDecimal}.
+     */
+    private void copyFloatingPointNumber() throws IOException {
+        BigDecimal value = parser.getDecimalValue();
+        if (!useBigDecimalForFloats) {
+            double doubleValue = parser.getDoubleValue();
+            if (BigDecimal.valueOf(doubleValue).equals(value)) {
+                tokens.writeNumber(doubleValue);
+                return;
+            }
+        }
+        tokens.writeNumber(value);
+    }
+}
@@ -98,6 +98,17 @@ public static class ScanStep {
          */
         private boolean defaultProduces;
 
+        /**
+         * If greater than zero, non-blocking endpoints whose invocation repeatedly takes longer than this number of
+         * milliseconds are dispatched to the worker pool.
+         */
+        private long adaptiveBlockingThreshold;
+
+        /**
+         * If greater than zero, the maximum size of a request body that can be deserialized while it is received
+         */
+        private long maxIncrementalInputSize;
+
         private Map<DotName, ClassInfo> additionalResources = new HashMap<>();
         private Map<DotName, String> additionalResourcePaths = new HashMap<>();
         private Set<String> excludedClasses = new HashSet<>();
@@ -112,6 +123,7 @@ public ScanStep(IndexView nonCalculatingIndex) {
             //we force the indexing of some internal classes
             //so we can correctly detect their inheritors
             index.getClassByName(ResteasyReactiveServerDotNames.SERVER_MESSAGE_BODY_READER);
+            index.getClassByName(ResteasyReactiveServerDotNames.INCREMENTAL_SERVER_MESSAGE_BODY_READER);
             index.getClassByName(ResteasyReactiveServerDotNames.SERVER_MESSAGE_BODY_WRITER_ALL_WRITER);
             index.getClassByName(ResteasyReactiveServerDotNames.SERVER_MESSAGE_BODY_WRITER);
         }
@@ -153,6 +165,24 @@ public ScanStep setDefaultProduces(boolean defaultProduces) {
             return this;
         }
 
+        public long getAdaptiveBlockingThreshold() {
+            return adaptiveBlockingThreshold;
+        }
+
+        public ScanStep setAdaptiveBlockingThreshold(long adaptiveBlockingThreshold) {
+            this.adaptiveBlockingThreshold = adaptiveBlockingThreshold;
+            return this;
+        }
+
+        public long getMaxIncrementalInputSize() {
+            return maxIncrementalInputSize;
+        }
+
+        public ScanStep setMaxIncrementalInputSize(long maxIncrementalInputSize) {
+            this.maxIncrementalInputSize = maxIncrementalInputSize;
+            return this;
+        }
+
         public ScanStep addAdditionalResource(DotName className, ClassInfo classInfo) {
             additionalResources.put(className, classInfo);
             return this;
@@ -385,8 +415,11 @@ public RunnableApplication createApplication(RuntimeConfiguration runtimeConfigu
                 }
             }
 
+            ResteasyReactiveConfig config = new ResteasyReactiveConfig();
+            config.setAdaptiveBlockingThreshold(scanStep.adaptiveBlockingThreshold);
+            config.setMaxIncrementalInputSize(scanStep.maxIncrementalInputSize);
             DeploymentInfo info = new DeploymentInfo()
-                    .setResteasyReactiveConfig(new ResteasyReactiveConfig())
+                    .setResteasyReactiveConfig(config)
                     .setFeatures(sa.scannedFeatures)
                     .setInterceptors(sa.resourceInterceptors)
                     .setDynamicFeatures(sa.dynamicFeatures)
@@ -0,0 +1,52 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.ResponseCache;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.ResponseCacheCustomizer;
+
+public class ResponseCacheScanner implements MethodScanner {
+
+    private static final DotName RESPONSE_CACHE = DotName.createSimple(ResponseCache.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance responseCache = annotationStore.getAnnotation(method, RESPONSE_CACHE);
+        if (responseCache == null) {
+            responseCache = annotationStore.getAnnotation(actualEndpointClass, RESPONSE_CACHE);
+        }
+        if (responseCache == null) {
+            return Collections.emptyList();
+        }
+        if (annotationStore.getAnnotation(method, ResteasyReactiveDotNames.GET) == null) {
+            if (responseCache.target().kind() == AnnotationTarget.Kind.METHOD) {
+                throw new IllegalStateException(
+                        "'@ResponseCache' can only be used on '@GET' resource methods. Offending method is '"
+                                + method.name() + "' of class '" + method.declaringClass().name() + "'");
+            }
+            // class level annotations only apply to the GET methods of the class
+            return Collections.emptyList();
+        }
+        AnnotationValue maxEntriesValue = responseCache.value("maxEntries");
+        int maxEntries = maxEntriesValue == null ? 1000 : maxEntriesValue.asInt();
+        if (maxEntries <= 0) {
+            throw new IllegalStateException("'@ResponseCache#maxEntries' must be greater than zero. Offending method is '"
+                    + method.name() + "' of class '" + method.declaringClass().name() + "'");
+        }
+        return Collections.singletonList(new ResponseCacheCustomizer(maxEntries));
+    }
+}
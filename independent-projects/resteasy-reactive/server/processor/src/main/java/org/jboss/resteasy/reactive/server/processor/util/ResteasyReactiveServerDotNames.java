@@ -6,6 +6,7 @@
 import org.jboss.resteasy.reactive.server.ServerRequestFilter;
 import org.jboss.resteasy.reactive.server.ServerResponseFilter;
 import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.IncrementalServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
@@ -22,6 +23,8 @@ public class ResteasyReactiveServerDotNames {
             .createSimple(ServerMessageBodyWriter.AllWriteableMessageBodyWriter.class.getName());
     public static final DotName SERVER_MESSAGE_BODY_READER = DotName
             .createSimple(ServerMessageBodyReader.class.getName());
+    public static final DotName INCREMENTAL_SERVER_MESSAGE_BODY_READER = DotName
+            .createSimple(IncrementalServerMessageBodyReader.class.getName());
     public static final DotName QUARKUS_REST_CONTAINER_REQUEST_CONTEXT = DotName
             .createSimple(ResteasyReactiveContainerRequestContext.class.getName());
     public static final DotName SIMPLIFIED_RESOURCE_INFO = DotName.createSimple(SimpleResourceInfo.class.getName());
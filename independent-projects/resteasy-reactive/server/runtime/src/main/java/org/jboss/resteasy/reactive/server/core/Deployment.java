@@ -6,6 +6,7 @@
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -48,6 +49,7 @@ public class Deployment {
     private final RuntimeExceptionMapper exceptionMapper;
     private final boolean resumeOn404;
     private final ResteasyReactiveConfig resteasyReactiveConfig;
+    private final List<ResponseCacheStore> responseCacheStores;
     //this is not final, as it is set after startup
     private RuntimeConfiguration runtimeConfiguration;
 
@@ -63,6 +65,25 @@ public Deployment(ExceptionMapping exceptionMapping, ContextResolvers contextRes
             RuntimeExceptionMapper exceptionMapper,
             boolean resumeOn404,
             ResteasyReactiveConfig resteasyReactiveConfig) {
+        this(exceptionMapping, contextResolvers, serialisers, abortHandlerChain, dynamicEntityWriter, prefix,
+                paramConverterProviders, configuration, applicationSupplier, threadSetupAction, requestContextFactory,
+                preMatchHandlers, classMappers, runtimeConfigurableServerRestHandlers, exceptionMapper, resumeOn404,
+                resteasyReactiveConfig, Collections.emptyList());
+    }
+
+    public Deployment(ExceptionMapping exceptionMapping, ContextResolvers contextResolvers,
+            ServerSerialisers serialisers,
+            ServerRestHandler[] abortHandlerChain,
+            EntityWriter dynamicEntityWriter, String prefix, ParamConverterProviders paramConverterProviders,
+            ConfigurationImpl configuration, Supplier<Application> applicationSupplier,
+            ThreadSetupAction threadSetupAction, RequestContextFactory requestContextFactory,
+            List<ServerRestHandler> preMatchHandlers,
+            ArrayList<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers,
+            List<GenericRuntimeConfigurableServerRestHandler<?>> runtimeConfigurableServerRestHandlers,
+            RuntimeExceptionMapper exceptionMapper,
+            boolean resumeOn404,
+            ResteasyReactiveConfig resteasyReactiveConfig,
+            List<ResponseCacheStore> responseCacheStores) {
         this.exceptionMapping = exceptionMapping;
         this.contextResolvers = contextResolvers;
         this.serialisers = serialisers;
@@ -80,6 +101,7 @@ public Deployment(ExceptionMapping exceptionMapping, ContextResolvers contextRes
         this.exceptionMapper = exceptionMapper;
         this.resumeOn404 = resumeOn404;
         this.resteasyReactiveConfig = resteasyReactiveConfig;
+        this.responseCacheStores = responseCacheStores;
     }
 
     public RuntimeExceptionMapper getExceptionMapper() {
@@ -195,6 +217,13 @@ public List<GenericRuntimeConfigurableServerRestHandler<?>> getRuntimeConfigurab
         return runtimeConfigurableServerRestHandlers;
     }
 
+    /**
+     * @return the stores of the resource methods annotated with {@link org.jboss.resteasy.reactive.ResponseCache}
+     */
+    public List<ResponseCacheStore> getResponseCacheStores() {
+        return responseCacheStores;
+    }
+
     public RuntimeConfiguration getRuntimeConfiguration() {
         return runtimeConfiguration;
     }
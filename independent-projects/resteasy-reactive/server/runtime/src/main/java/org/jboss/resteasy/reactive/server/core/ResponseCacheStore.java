@@ -0,0 +1,111 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Holds the serialized responses of a single resource method annotated with
+ * {@link org.jboss.resteasy.reactive.ResponseCache}.
+ * <p>
+ * Reads are lock free, eviction is done in insertion order once {@code maxEntries} is exceeded. The stores of a deployment
+ * are available from {@link Deployment#getResponseCacheStores()}, so that their hit and miss counts can be monitored.
+ */
+public class ResponseCacheStore {
+
+    private final String name;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseCacheStore(int maxEntries) {
+        this(null, maxEntries);
+    }
+
+    public ResponseCacheStore(String name, int maxEntries) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the name of the resource method, i.e. {@code <class name>#<method name>}, or {@code null} if unknown
+     */
+    public String getName() {
+        return name;
+    }
+
+    public Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    public void put(String key, Entry entry) {
+        if (entries.put(key, entry) == null) {
+            insertionOrder.add(key);
+            while (entries.size() > maxEntries) {
+                String eldest = insertionOrder.poll();
+                if (eldest == null) {
+                    break;
+                }
+                entries.remove(eldest);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public void clear() {
+        entries.clear();
+        insertionOrder.clear();
+    }
+
+    public static final class Entry {
+        final byte[] body;
+        final MediaType mediaType;
+        final MultivaluedMap<String, Object> headers;
+        final String entityTag;
+
+        public Entry(byte[] body, MediaType mediaType, MultivaluedMap<String, Object> headers, String entityTag) {
+            this.body = body;
+            this.mediaType = mediaType;
+            this.headers = headers;
+            this.entityTag = entityTag;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public MultivaluedMap<String, Object> getHeaders() {
+            return headers;
+        }
+
+        public String getEntityTag() {
+            return entityTag;
+        }
+    }
+}
@@ -45,6 +45,7 @@
 import org.jboss.resteasy.reactive.server.jaxrs.UriInfoImpl;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.jboss.resteasy.reactive.server.spi.IncrementalServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
@@ -96,6 +97,10 @@
 
     private HttpHeadersImpl httpHeaders;
     private Object requestEntity;
+    /**
+     * Set when the request body has been fed to a reader while it was being received
+     */
+    private IncrementalServerMessageBodyReader.IncrementalReader<Object> incrementalReader;
     private Request request;
     private EntityWriter entityWriter;
     private ContainerRequestContextImpl containerRequestContext;
@@ -263,6 +268,16 @@ public ResteasyReactiveRequestContext setRequestEntity(Object requestEntity) {
         return this;
     }
 
+    public IncrementalServerMessageBodyReader.IncrementalReader<Object> getIncrementalReader() {
+        return incrementalReader;
+    }
+
+    public ResteasyReactiveRequestContext setIncrementalReader(
+            IncrementalServerMessageBodyReader.IncrementalReader<Object> incrementalReader) {
+        this.incrementalReader = incrementalReader;
+        return this;
+    }
+
     public EntityWriter getEntityWriter() {
         return entityWriter;
     }
@@ -31,24 +31,18 @@ public static CompletionStage<?> send(ResteasyReactiveRequestContext context,
         }
         byte[] data;
         try {
-            data = serialiseEntity(context, entity);
+            data = serialiseEntity(context, entity, prefix);
         } catch (Exception e) {
             CompletableFuture<?> ret = new CompletableFuture<>();
             ret.completeExceptionally(e);
             return ret;
         }
         setHeaders(context, response, customizers);
-        if (prefix != null) {
-            byte[] prefixBytes = prefix.getBytes(StandardCharsets.US_ASCII);
-            byte[] prefixedData = new byte[prefixBytes.length + data.length];
-            System.arraycopy(prefixBytes, 0, prefixedData, 0, prefixBytes.length);
-            System.arraycopy(data, 0, prefixedData, prefixBytes.length, data.length);
-            data = prefixedData;
-        }
         return response.write(data);
     }
 
-    private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+    private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity, String prefix)
+            throws IOException {
         ServerSerialisers serialisers = context.getDeployment().getSerialisers();
         Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
@@ -59,6 +53,10 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
                 .findWriters(null, entityClass, mediaType, RuntimeType.SERVER)
                 .toArray(ServerSerialisers.NO_WRITER);
         StreamingOutputStream baos = new StreamingOutputStream();
+        if (prefix != null) {
+            // write the prefix upfront rather than copying the serialised entity into a new array
+            baos.write(prefix.getBytes(StandardCharsets.US_ASCII));
+        }
         boolean wrote = false;
         for (MessageBodyWriter<Object> writer : writers) {
             // Spec(API) says we should use class/type/mediaType but doesn't talk about annotations
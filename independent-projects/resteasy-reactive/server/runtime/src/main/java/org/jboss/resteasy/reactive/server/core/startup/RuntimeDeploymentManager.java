@@ -28,6 +28,7 @@
 import org.jboss.resteasy.reactive.server.core.DeploymentInfo;
 import org.jboss.resteasy.reactive.server.core.ExceptionMapping;
 import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResponseCacheStore;
 import org.jboss.resteasy.reactive.server.core.RuntimeExceptionMapper;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter;
@@ -35,6 +36,7 @@
 import org.jboss.resteasy.reactive.server.handlers.ExceptionHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResourceLocatorHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResourceRequestFilterHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseCacheHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResponseWriterHandler;
 import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
@@ -104,6 +106,7 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
                     }
                 });
         List<GenericRuntimeConfigurableServerRestHandler<?>> runtimeConfigurableServerRestHandlers = new ArrayList<>();
+        List<ResponseCacheStore> responseCacheStores = new ArrayList<>();
         RuntimeResourceDeployment runtimeResourceDeployment = new RuntimeResourceDeployment(info, executorSupplier,
                 virtualExecutorSupplier,
                 interceptorDeployment, dynamicEntityWriter, resourceLocatorHandler, requestContextFactory.isDefaultBlocking());
@@ -118,6 +121,7 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
                 RuntimeResource runtimeResource = runtimeResourceDeployment.buildResourceMethod(
                         clazz, (ServerResourceMethod) method, true, classPathTemplate, info);
                 addRuntimeConfigurableHandlers(runtimeResource, runtimeConfigurableServerRestHandlers);
+                addResponseCacheStores(runtimeResource, responseCacheStores);
 
                 RuntimeMappingDeployment.buildMethodMapper(templates, method, runtimeResource);
             }
@@ -142,6 +146,7 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
                 RuntimeResource runtimeResource = runtimeResourceDeployment.buildResourceMethod(
                         clazz, (ServerResourceMethod) method, false, classTemplate, info);
                 addRuntimeConfigurableHandlers(runtimeResource, runtimeConfigurableServerRestHandlers);
+                addResponseCacheStores(runtimeResource, responseCacheStores);
 
                 RuntimeMappingDeployment.buildMethodMapper(perClassMappers, method, runtimeResource);
             }
@@ -199,7 +204,8 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
                 abortHandlingChain.toArray(EMPTY_REST_HANDLER_ARRAY), dynamicEntityWriter,
                 prefix, paramConverterProviders, configurationImpl, applicationSupplier,
                 threadSetupAction, requestContextFactory, preMatchHandlers, classMappers,
-                runtimeConfigurableServerRestHandlers, exceptionMapper, info.isResumeOn404(), info.getResteasyReactiveConfig());
+                runtimeConfigurableServerRestHandlers, exceptionMapper, info.isResumeOn404(), info.getResteasyReactiveConfig(),
+                responseCacheStores);
     }
 
     private void forEachMapperEntry(URITemplate path,
@@ -223,6 +229,18 @@ private void addRuntimeConfigurableHandlers(RuntimeResource runtimeResource,
         }
     }
 
+    private void addResponseCacheStores(RuntimeResource runtimeResource, List<ResponseCacheStore> responseCacheStores) {
+        for (ServerRestHandler serverRestHandler : runtimeResource.getHandlerChain()) {
+            if (serverRestHandler instanceof ResponseCacheHandler) {
+                // the same method may be deployed both as a resource and as a sub resource
+                ResponseCacheStore store = ((ResponseCacheHandler) serverRestHandler).getStore();
+                if (!responseCacheStores.contains(store)) {
+                    responseCacheStores.add(store);
+                }
+            }
+        }
+    }
+
     //TODO: this needs plenty more work to support all possible types and provide all information the FeatureContext allows
     private ConfigurationImpl configureFeatures(Features features, ResourceInterceptors interceptors,
             RuntimeExceptionMapper exceptionMapping) {
@@ -65,6 +65,7 @@
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriter;
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriterArray;
 import org.jboss.resteasy.reactive.server.handlers.AbortChainHandler;
+import org.jboss.resteasy.reactive.server.handlers.AdaptiveBlockingHandler;
 import org.jboss.resteasy.reactive.server.handlers.BlockingHandler;
 import org.jboss.resteasy.reactive.server.handlers.ExceptionHandler;
 import org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler;
@@ -279,6 +280,17 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                 break;
             }
         }
+        RequestDeserializeHandler requestDeserializeHandler = null;
+        if (bodyParameter != null) {
+            Class<Object> typeClass = loadClass(bodyParameter.declaredType);
+            Type genericType = typeClass;
+            if (!bodyParameter.type.equals(bodyParameter.declaredType)) {
+                // we only need to parse the signature and create generic type when the declared type differs from the type
+                genericType = TypeSignatureParser.parse(bodyParameter.signature);
+            }
+            requestDeserializeHandler = new RequestDeserializeHandler(typeClass, genericType, consumesMediaTypes,
+                    serialisers, bodyParameterIndex);
+        }
         // form params can be everywhere (field, beanparam, param)
         boolean checkReadBodyRequestFilters = false;
         if (method.isFormParamRequired()) {
@@ -289,7 +301,14 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
             if (!defaultBlocking) {
                 if (!method.isBlocking()) {
                     // allow the body to be read by chunks
-                    handlers.add(new InputHandler(resteasyReactiveConfig.getInputBufferSize(), executorSupplier));
+                    if (resteasyReactiveConfig.getMaxIncrementalInputSize() > 0 && !hasReadBodyRequestFilters) {
+                        // large bodies can be deserialized while they are received, as long as no filter needs them
+                        handlers.add(new InputHandler(resteasyReactiveConfig.getInputBufferSize(),
+                                resteasyReactiveConfig.getMaxIncrementalInputSize(), requestDeserializeHandler,
+                                executorSupplier));
+                    } else {
+                        handlers.add(new InputHandler(resteasyReactiveConfig.getInputBufferSize(), executorSupplier));
+                    }
                     checkReadBodyRequestFilters = true;
                 }
             }
@@ -310,15 +329,8 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         }
 
         // if we need the body, let's deserialize it
-        if (bodyParameter != null) {
-            Class<Object> typeClass = loadClass(bodyParameter.declaredType);
-            Type genericType = typeClass;
-            if (!bodyParameter.type.equals(bodyParameter.declaredType)) {
-                // we only need to parse the signature and create generic type when the declared type differs from the type
-                genericType = TypeSignatureParser.parse(bodyParameter.signature);
-            }
-            handlers.add(new RequestDeserializeHandler(typeClass, genericType, consumesMediaTypes, serialisers,
-                    bodyParameterIndex));
+        if (requestDeserializeHandler != null) {
+            handlers.add(requestDeserializeHandler);
         }
 
         // given that we may inject form params in the endpoint we need to make sure we read the body before
@@ -368,11 +380,15 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE);
         EndpointInvoker invoker = method.getInvoker().get();
         ServerRestHandler alternate = alternateInvoker(method, invoker);
-        if (alternate != null) {
-            handlers.add(alternate);
-        } else {
-            handlers.add(new InvocationHandler(invoker));
+        ServerRestHandler invocationHandler = alternate != null ? alternate : new InvocationHandler(invoker);
+        // an endpoint explicitly annotated with @NonBlocking must always run on the event loop
+        if (!defaultBlocking && !method.isBlocking() && !method.isRunOnVirtualThread() && method.isBlockingInferred()
+                && method.getHttpMethod() != null && resteasyReactiveConfig.getAdaptiveBlockingThreshold() > 0) {
+            invocationHandler = new AdaptiveBlockingHandler(invocationHandler, executorSupplier,
+                    resteasyReactiveConfig.getAdaptiveBlockingThreshold(),
+                    clazz.getClassName() + "#" + method.getName());
         }
+        handlers.add(invocationHandler);
         boolean afterMethodInvokeHandlersAdded = addHandlers(handlers, clazz, method, info,
                 HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE);
         boolean afterMethodInvokeHandlersSecondRoundAdded = addHandlers(handlers, clazz, method, info,
@@ -0,0 +1,94 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Wraps the invocation of a non-blocking endpoint and measures how long the invocation takes on the IO thread.
+ * <p>
+ * Once the endpoint has been slower than the configured threshold {@value #SLOW_INVOCATIONS} times, it is considered
+ * to be blocking the IO thread and all subsequent invocations are dispatched to the worker pool, just like for an
+ * endpoint annotated with {@code @Blocking}.
+ */
+public class AdaptiveBlockingHandler implements ServerRestHandler {
+
+    private static final Logger log = Logger.getLogger(AdaptiveBlockingHandler.class);
+
+    /**
+     * The number of slow invocations after which the endpoint is moved to the worker pool, so that a single slow
+     * invocation (caused by a GC pause, class loading or a cold cache) is not enough
+     */
+    static final int SLOW_INVOCATIONS = 3;
+
+    private final ServerRestHandler invocationHandler;
+    private final Supplier<Executor> supplier;
+    private final long thresholdNanos;
+    private final String endpoint;
+    private final AtomicInteger slowInvocations = new AtomicInteger();
+    private volatile Executor executor;
+    private volatile boolean blocking;
+
+    public AdaptiveBlockingHandler(ServerRestHandler invocationHandler, Supplier<Executor> supplier, long thresholdMillis,
+            String endpoint) {
+        this.invocationHandler = invocationHandler;
+        this.supplier = supplier;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (blocking) {
+            if (!BlockingOperationSupport.isBlockingAllowed()) {
+                if (executor == null) {
+                    executor = supplier.get();
+                }
+                // the chain resumes with the next handler, so make sure this one runs again on the worker thread
+                requestContext.setPosition(requestContext.getPosition() - 1);
+                requestContext.suspend();
+                requestContext.resume(executor);
+                return;
+            }
+            invocationHandler.handle(requestContext);
+            return;
+        }
+        if (!requestContext.serverRequest().isOnIoThread()) {
+            invocationHandler.handle(requestContext);
+            return;
+        }
+        long start = System.nanoTime();
+        invocationHandler.handle(requestContext);
+        if ((System.nanoTime() - start) > thresholdNanos
+                && slowInvocations.incrementAndGet() == SLOW_INVOCATIONS) {
+            blocking = true;
+            log.warnf("Endpoint %s took more than %dms to run on the IO thread %d times, it is now dispatched to a worker"
+                    + " thread. Consider annotating it with @Blocking.", endpoint,
+                    TimeUnit.NANOSECONDS.toMillis(thresholdNanos), SLOW_INVOCATIONS);
+        }
+    }
+
+    /**
+     * @return {@code true} if the endpoint has been moved to the worker pool
+     */
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    /**
+     * @return the number of invocations on the IO thread that exceeded the threshold
+     */
+    public int getSlowInvocations() {
+        return slowInvocations.get();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -8,8 +8,12 @@
 import java.util.function.Supplier;
 
 import javax.ws.rs.HttpMethod;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
 
+import org.jboss.resteasy.reactive.common.util.EmptyInputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.IncrementalServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
@@ -20,17 +24,30 @@
  * to allow the request to stay on the IO thread. If the request is too large
  * it will be delegated to an executor and a blocking stream used instead.
  * <p>
+ * If a maximum incremental input size is set and the body reader supports it, a request that is too large is instead
+ * fed to an {@link IncrementalServerMessageBodyReader} as it is received, so that it stays on the IO thread without
+ * being buffered. Requests larger than the maximum incremental input size are rejected.
+ * <p>
  * TODO: the stream implementation here could be a lot more efficient.
  */
 public class InputHandler implements ServerRestHandler {
 
     final long maxBufferSize;
+    final long maxIncrementalInputSize;
+    private final RequestDeserializeHandler deserializeHandler;
     private volatile Executor executor;
     private final Supplier<Executor> supplier;
     private final ClassLoader originalTCCL;
 
     public InputHandler(long maxBufferSize, Supplier<Executor> supplier) {
+        this(maxBufferSize, 0, null, supplier);
+    }
+
+    public InputHandler(long maxBufferSize, long maxIncrementalInputSize, RequestDeserializeHandler deserializeHandler,
+            Supplier<Executor> supplier) {
         this.maxBufferSize = maxBufferSize;
+        this.maxIncrementalInputSize = maxIncrementalInputSize;
+        this.deserializeHandler = deserializeHandler;
         this.supplier = supplier;
         // capture the proper TCCL in order to avoid losing it to Vert.x in dev-mode
         this.originalTCCL = Thread.currentThread().getContextClassLoader();
@@ -65,6 +82,9 @@ class InputListener implements ServerHttpRequest.ReadCallback {
         final ResteasyReactiveRequestContext context;
         int dataCount;
         final List<ByteBuffer> data = new ArrayList<>();
+        IncrementalServerMessageBodyReader.IncrementalReader<Object> incrementalReader;
+        long incrementalCount;
+        boolean failed;
 
         InputListener(ResteasyReactiveRequestContext context) {
             this.context = context;
@@ -72,6 +92,16 @@ class InputListener implements ServerHttpRequest.ReadCallback {
 
         @Override
         public void done() {
+            if (incrementalReader != null) {
+                if (failed) {
+                    return;
+                }
+                context.setIncrementalReader(incrementalReader);
+                context.setInputStream(EmptyInputStream.INSTANCE);
+                Thread.currentThread().setContextClassLoader(originalTCCL);
+                context.resume();
+                return;
+            }
             //super inefficient
             //TODO: write a stream that just uses the existing vert.x buffers
             byte[] ar = new byte[dataCount];
@@ -88,10 +118,16 @@ public void done() {
 
         @Override
         public void data(ByteBuffer event) {
-
+            if (incrementalReader != null) {
+                feed(event);
+                return;
+            }
             dataCount += event.remaining();
             data.add(event);
             if (dataCount > maxBufferSize) {
+                if (startIncrementalRead()) {
+                    return;
+                }
                 context.serverRequest().pauseRequestInput();
                 if (executor == null) {
                     executor = supplier.get();
@@ -110,5 +146,48 @@ public void data(ByteBuffer event) {
                 context.resume(executor);
             }
         }
+
+        private boolean startIncrementalRead() {
+            if (deserializeHandler == null) {
+                return false;
+            }
+            try {
+                incrementalReader = deserializeHandler.createIncrementalReader(context);
+            } catch (Throwable t) {
+                // the reader will report the problem when the body is read from a stream
+                return false;
+            }
+            if (incrementalReader == null) {
+                return false;
+            }
+            for (ByteBuffer i : data) {
+                feed(i);
+            }
+            data.clear();
+            return true;
+        }
+
+        private void feed(ByteBuffer event) {
+            if (failed) {
+                // discard the rest of the body, the error is already being handled
+                return;
+            }
+            incrementalCount += event.remaining();
+            if (incrementalCount > maxIncrementalInputSize) {
+                fail(new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE));
+                return;
+            }
+            try {
+                incrementalReader.feed(event);
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        private void fail(Throwable t) {
+            failed = true;
+            Thread.currentThread().setContextClassLoader(originalTCCL);
+            context.resume(t, true);
+        }
     }
 }
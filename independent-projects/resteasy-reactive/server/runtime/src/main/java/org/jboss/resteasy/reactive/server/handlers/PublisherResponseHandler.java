@@ -6,6 +6,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -21,6 +22,7 @@
 import org.jboss.resteasy.reactive.server.core.StreamingUtil;
 import org.jboss.resteasy.reactive.server.jaxrs.OutboundSseEventImpl;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer.Phase;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.spi.StreamingResponse;
 import org.reactivestreams.Publisher;
@@ -107,6 +109,16 @@ private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
         private boolean json;
         private String nextJsonPrefix;
         private boolean hadItem;
+        private volatile boolean failed;
+        private final AtomicBoolean waitingForDrain = new AtomicBoolean();
+        private final Runnable onDrain = new Runnable() {
+            @Override
+            public void run() {
+                if (waitingForDrain.compareAndSet(true, false)) {
+                    subscription.request(1);
+                }
+            }
+        };
 
         StreamingMultiSubscriber(ResteasyReactiveRequestContext requestContext, List<StreamingResponseCustomizer> customizers,
                 boolean json) {
@@ -123,7 +135,8 @@ public void onNext(Object item) {
                     .handle(new BiFunction<Object, Throwable, Object>() {
                         @Override
                         public Object apply(Object v, Throwable t) {
-                            if (t != null) {
+                            if (t != null && !failed) {
+                                failed = true;
                                 // need to cancel because the exception didn't come from the Multi
                                 try {
                                     subscription.cancel();
@@ -131,15 +144,28 @@ public Object apply(Object v, Throwable t) {
                                     t2.printStackTrace();
                                 }
                                 handleException(requestContext, t);
-                            } else {
-                                // next item will need this prefix if json
-                                nextJsonPrefix = ",";
-                                // send in the next item
-                                subscription.request(1);
                             }
                             return null;
                         }
                     });
+            if (failed) {
+                return;
+            }
+            // next item will need this prefix if json
+            nextJsonPrefix = ",";
+            // the write is queued by the connection, so we don't need to wait for it to complete before asking
+            // for the next item, as long as the write queue has room for it
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (response.isWriteQueueFull()) {
+                waitingForDrain.set(true);
+                response.addDrainHandler(onDrain);
+                // the queue may have been drained before the handler was registered
+                if (!response.isWriteQueueFull()) {
+                    onDrain.run();
+                }
+            } else {
+                subscription.request(1);
+            }
         }
 
         @Override
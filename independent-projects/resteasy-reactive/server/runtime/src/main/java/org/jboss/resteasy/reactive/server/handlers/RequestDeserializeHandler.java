@@ -22,6 +22,7 @@
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.jaxrs.ReaderInterceptorContextImpl;
+import org.jboss.resteasy.reactive.server.spi.IncrementalServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
@@ -47,26 +48,26 @@ public RequestDeserializeHandler(Class<?> type, Type genericType, List<MediaType
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
-        MediaType effectiveRequestType = null;
-        Object requestType = requestContext.getHeader(HttpHeaders.CONTENT_TYPE, true);
-        if (requestType != null) {
+        IncrementalServerMessageBodyReader.IncrementalReader<Object> incrementalReader = requestContext
+                .getIncrementalReader();
+        if (incrementalReader != null) {
+            // the body has already been fed to the reader by the InputHandler while it was received
+            requestContext.setIncrementalReader(null);
+            Object result;
             try {
-                effectiveRequestType = MediaType.valueOf((String) requestType);
+                requestContext.requireCDIRequestScope();
+                result = incrementalReader.complete();
             } catch (Exception e) {
-                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
-            }
-
-            // We need to verify media type for sub-resources, this mimics what is done in {@code ClassRoutingHandler}
-            if (MediaTypeHelper.getFirstMatch(
-                    acceptableMediaTypes,
-                    Collections.singletonList(effectiveRequestType)) == null) {
-                throw new NotSupportedException("The content-type header value did not match the value in @Consumes");
+                log.debug("Error occurred during deserialization of input", e);
+                requestContext.handleException(e, true);
+                requestContext.resume();
+                return;
             }
-        } else if (!acceptableMediaTypes.isEmpty()) {
-            effectiveRequestType = acceptableMediaTypes.get(0);
-        } else {
-            effectiveRequestType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+            requestContext.setRequestEntity(result);
+            requestContext.resume();
+            return;
         }
+        MediaType effectiveRequestType = getEffectiveRequestType(requestContext);
         List<MessageBodyReader<?>> readers = serialisers.findReaders(null, type, effectiveRequestType, RuntimeType.SERVER);
         if (readers.isEmpty()) {
             throw new NotSupportedException();
@@ -104,6 +105,59 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
         throw new NotSupportedException("No supported MessageBodyReader found");
     }
 
+    private MediaType getEffectiveRequestType(ResteasyReactiveRequestContext requestContext) {
+        MediaType effectiveRequestType;
+        Object requestType = requestContext.getHeader(HttpHeaders.CONTENT_TYPE, true);
+        if (requestType != null) {
+            try {
+                effectiveRequestType = MediaType.valueOf((String) requestType);
+            } catch (Exception e) {
+                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
+            }
+
+            // We need to verify media type for sub-resources, this mimics what is done in {@code ClassRoutingHandler}
+            if (MediaTypeHelper.getFirstMatch(
+                    acceptableMediaTypes,
+                    Collections.singletonList(effectiveRequestType)) == null) {
+                throw new NotSupportedException("The content-type header value did not match the value in @Consumes");
+            }
+        } else if (!acceptableMediaTypes.isEmpty()) {
+            effectiveRequestType = acceptableMediaTypes.get(0);
+        } else {
+            effectiveRequestType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+        }
+        return effectiveRequestType;
+    }
+
+    /**
+     * @return a reader that can deserialize the body of the current request as it is received, or {@code null} if the
+     *         body has to be read from an input stream
+     */
+    @SuppressWarnings("unchecked")
+    public IncrementalServerMessageBodyReader.IncrementalReader<Object> createIncrementalReader(
+            ResteasyReactiveRequestContext requestContext) throws IOException {
+        if (requestContext.getReaderInterceptors() != null) {
+            return null;
+        }
+        MediaType effectiveRequestType;
+        try {
+            effectiveRequestType = getEffectiveRequestType(requestContext);
+        } catch (WebApplicationException e) {
+            // the error will be reported when the body is deserialized
+            return null;
+        }
+        for (MessageBodyReader<?> reader : serialisers.findReaders(null, type, effectiveRequestType, RuntimeType.SERVER)) {
+            if (isReadable(reader, requestContext, effectiveRequestType)) {
+                if (reader instanceof IncrementalServerMessageBodyReader) {
+                    return ((IncrementalServerMessageBodyReader<Object>) reader).createIncrementalReader((Class) type,
+                            genericType, effectiveRequestType, requestContext);
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
     private boolean isReadable(MessageBodyReader<?> reader, ResteasyReactiveRequestContext requestContext,
             MediaType requestType) {
         if (reader instanceof ServerMessageBodyReader) {
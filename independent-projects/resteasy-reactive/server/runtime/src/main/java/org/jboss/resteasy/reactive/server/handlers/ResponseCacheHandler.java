@@ -0,0 +1,105 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.ResponseCacheStore;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Answers a request from the {@link ResponseCacheStore} of the resource method if a serialized response is available,
+ * in which case the resource method is never invoked.
+ */
+public class ResponseCacheHandler implements ServerRestHandler {
+
+    private final ResponseCacheStore store;
+
+    public ResponseCacheHandler(ResponseCacheStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        String method = requestContext.getMethod();
+        if (!method.equals(HttpMethod.GET) && !method.equals(HttpMethod.HEAD)) {
+            return;
+        }
+        ResponseCacheStore.Entry entry = store.get(cacheKey(requestContext));
+        if (entry == null) {
+            return;
+        }
+        Response.ResponseBuilder builder;
+        if (ifNoneMatch(requestContext, entry.getEntityTag())) {
+            builder = Response.notModified();
+            copyHeader(entry, builder, HttpHeaders.ETAG);
+            copyHeader(entry, builder, HttpHeaders.CACHE_CONTROL);
+            copyHeader(entry, builder, HttpHeaders.VARY);
+        } else {
+            builder = Response.ok(entry.getBody(), entry.getMediaType());
+            for (Map.Entry<String, List<Object>> header : entry.getHeaders().entrySet()) {
+                for (Object value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+        }
+        requestContext.abortWith(builder.build());
+    }
+
+    private static void copyHeader(ResponseCacheStore.Entry entry, Response.ResponseBuilder builder, String name) {
+        List<Object> values = entry.getHeaders().get(name);
+        if (values != null) {
+            for (Object value : values) {
+                builder.header(name, value);
+            }
+        }
+    }
+
+    private static boolean ifNoneMatch(ResteasyReactiveRequestContext requestContext, String entityTag) {
+        List<String> ifNoneMatch = requestContext.serverRequest().getAllRequestHeaders(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < ifNoneMatch.size(); i++) {
+            String header = ifNoneMatch.get(i);
+            int start = 0;
+            while (start < header.length()) {
+                int end = header.indexOf(',', start);
+                if (end == -1) {
+                    end = header.length();
+                }
+                String candidate = header.substring(start, end).trim();
+                // If-None-Match uses the weak comparison function
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(entityTag)) {
+                    return true;
+                }
+                start = end + 1;
+            }
+        }
+        return false;
+    }
+
+    static String cacheKey(ResteasyReactiveRequestContext requestContext) {
+        String query = requestContext.serverRequest().query();
+        String accept = requestContext.serverRequest().getRequestHeader(HttpHeaders.ACCEPT);
+        StringBuilder key = new StringBuilder(requestContext.getPath());
+        if (query != null && !query.isEmpty()) {
+            key.append('?').append(query);
+        }
+        if (accept != null) {
+            key.append('\n').append(accept);
+        }
+        return key.toString();
+    }
+
+    public ResponseCacheStore getStore() {
+        return store;
+    }
+}
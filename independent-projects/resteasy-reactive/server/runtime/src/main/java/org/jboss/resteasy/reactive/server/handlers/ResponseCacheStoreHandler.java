@@ -0,0 +1,124 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+import org.jboss.resteasy.reactive.server.core.ResponseCacheStore;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Captures the bytes written by the {@code MessageBodyWriter} of a successful response and stores them in the
+ * {@link ResponseCacheStore} of the resource method, so that {@link ResponseCacheHandler} can serve them later.
+ */
+public class ResponseCacheStoreHandler implements ServerRestHandler {
+
+    private final ResponseCacheStore store;
+
+    public ResponseCacheStoreHandler(ResponseCacheStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (!requestContext.getMethod().equals(HttpMethod.GET)
+                || requestContext.getResponseEntity() == null
+                || requestContext.getOutputStream() != null) {
+            return;
+        }
+        Response response = requestContext.getResponse().get();
+        if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+            return;
+        }
+        // the headers are captured before the response filters run, as they will run again when serving a cached entry
+        MultivaluedMap<String, Object> headers = new CaseInsensitiveMap<>();
+        for (Map.Entry<String, List<Object>> header : response.getHeaders().entrySet()) {
+            if (!header.getKey().equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)) {
+                headers.addAll(header.getKey(), header.getValue());
+            }
+        }
+        requestContext.setOutputStream(
+                new CapturingOutputStream(requestContext, store, ResponseCacheHandler.cacheKey(requestContext), headers));
+    }
+
+    private static String entityTag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Buffers the serialized entity, and once it is complete stores it and writes it out to the client.
+     */
+    static final class CapturingOutputStream extends OutputStream {
+
+        private final ResteasyReactiveRequestContext requestContext;
+        private final ResponseCacheStore store;
+        private final String key;
+        private final MultivaluedMap<String, Object> headers;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private boolean written;
+        private boolean closed;
+
+        CapturingOutputStream(ResteasyReactiveRequestContext requestContext, ResponseCacheStore store, String key,
+                MultivaluedMap<String, Object> headers) {
+            this.requestContext = requestContext;
+            this.store = store;
+            this.key = key;
+            this.headers = headers;
+        }
+
+        @Override
+        public void write(int b) {
+            written = true;
+            buffer.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written = true;
+            buffer.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!written) {
+                // nothing was serialized through this stream, e.g. the response was streamed
+                return;
+            }
+            byte[] body = buffer.toByteArray();
+            Response response = requestContext.getResponse().get();
+            if (response.getStatus() == Response.Status.OK.getStatusCode()) {
+                String entityTag = response.getHeaderString(HttpHeaders.ETAG);
+                if (entityTag == null) {
+                    entityTag = entityTag(body);
+                    headers.putSingle(HttpHeaders.ETAG, entityTag);
+                    response.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+                }
+                store.put(key, new ResponseCacheStore.Entry(body, requestContext.getResponseMediaType(), headers, entityTag));
+            }
+            try (OutputStream out = requestContext.serverResponse().createResponseOutputStream()) {
+                out.write(body);
+            }
+        }
+    }
+}
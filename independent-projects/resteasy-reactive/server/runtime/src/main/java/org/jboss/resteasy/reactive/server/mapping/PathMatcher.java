@@ -18,11 +18,13 @@
 class PathMatcher<T> implements Dumpable {
 
     private final T defaultHandler;
+    private final SubstringMap.SubstringMatch<T> defaultMatch;
     private final SubstringMap<T> paths;
     private final int[] lengths;
 
     PathMatcher(T defaultHandler, SubstringMap<T> paths, int[] lengths) {
         this.defaultHandler = defaultHandler;
+        this.defaultMatch = new SubstringMap.SubstringMatch<>("/", defaultHandler);
         this.paths = paths;
         this.lengths = lengths;
     }
@@ -53,6 +55,31 @@ PathMatch<T> match(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
 
+    /**
+     * Matches a path against the registered handlers without allocating.
+     * <p>
+     * The returned match is shared and its key is the matched prefix, so the length of the key is the
+     * number of characters of the path that were consumed. If no prefix matched the default match is returned,
+     * which has a key of {@code /} and may have a {@code null} value.
+     *
+     * @param path The relative path to match
+     * @return The match, never null
+     */
+    SubstringMap.SubstringMatch<T> matchPrefix(String path) {
+        int length = path.length();
+        final int[] lengths = this.lengths;
+        for (int i = 0; i < lengths.length; ++i) {
+            int pathLength = lengths[i];
+            if (pathLength <= length) {
+                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
+                if (next != null) {
+                    return next;
+                }
+            }
+        }
+        return defaultMatch;
+    }
+
     static class Builder<T> {
 
         private static final String STRING_PATH_SEPARATOR = "/";
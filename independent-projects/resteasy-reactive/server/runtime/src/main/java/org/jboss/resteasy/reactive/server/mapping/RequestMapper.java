@@ -30,7 +30,7 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
                 aggregates.put(i.template.stem, paths = new ArrayList<>());
             }
             paths.add(i);
-            max = Math.max(max, i.template.countPathParamNames());
+            max = Math.max(max, i.pathParamCount);
         }
         aggregates.forEach(this::sortAggregates);
         aggregates.forEach(this::addPrefixPaths);
@@ -54,19 +54,25 @@ private void addPrefixPaths(String stem, ArrayList<RequestPath<T>> list) {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public RequestMatch<T> map(String path) {
         int pathLength = path.length();
-        PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch = requestPaths.match(path);
+        SubstringMap.SubstringMatch<ArrayList<RequestPath<T>>> initialMatch = requestPaths.matchPrefix(path);
         if (initialMatch.getValue() == null) {
             return null;
         }
 
         ArrayList<RequestPath<T>> value = initialMatch.getValue();
+        int initialMatchLength = initialMatch.getKey().length();
+        // the params array is only allocated once a candidate actually has path params, and is then reused
+        // for the remaining candidates as every candidate overwrites it from the start
+        String[] params = EMPTY_STRING_ARRAY;
         for (int index = 0; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            if (params.length == 0 && potentialMatch.pathParamCount > 0) {
+                params = new String[maxParams];
+            }
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
+            int matchPos = initialMatchLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -140,11 +146,13 @@ public RequestMatch<T> map(String path) {
         public final boolean prefixTemplate;
         public final URITemplate template;
         public final T value;
+        final int pathParamCount;
 
         public RequestPath(boolean prefixTemplate, URITemplate template, T value) {
             this.prefixTemplate = prefixTemplate;
             this.template = template;
             this.value = value;
+            this.pathParamCount = template.countPathParamNames();
         }
 
         @Override
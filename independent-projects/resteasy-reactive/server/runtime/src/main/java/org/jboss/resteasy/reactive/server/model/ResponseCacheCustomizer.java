@@ -0,0 +1,56 @@
+package org.jboss.resteasy.reactive.server.model;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.server.core.ResponseCacheStore;
+import org.jboss.resteasy.reactive.server.handlers.ResponseCacheHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseCacheStoreHandler;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Adds the handlers that serve and populate the response cache of a method annotated with
+ * {@link org.jboss.resteasy.reactive.ResponseCache}.
+ * <p>
+ * Both handlers share the same {@link ResponseCacheStore}, which is created when the handler chain is built.
+ */
+public class ResponseCacheCustomizer implements HandlerChainCustomizer {
+
+    private int maxEntries;
+    private ResponseCacheStore store;
+
+    public ResponseCacheCustomizer(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public ResponseCacheCustomizer() {
+    }
+
+    @Override
+    public List<ServerRestHandler> handlers(Phase phase, ResourceClass resourceClass,
+            ServerResourceMethod serverResourceMethod) {
+        if (phase == Phase.BEFORE_METHOD_INVOKE) {
+            return Collections.singletonList(new ResponseCacheHandler(getStore(resourceClass, serverResourceMethod)));
+        } else if (phase == Phase.AFTER_RESPONSE_CREATED) {
+            return Collections.singletonList(new ResponseCacheStoreHandler(getStore(resourceClass, serverResourceMethod)));
+        }
+        return Collections.emptyList();
+    }
+
+    private ResponseCacheStore getStore(ResourceClass resourceClass, ServerResourceMethod serverResourceMethod) {
+        if (store == null) {
+            store = new ResponseCacheStore(resourceClass.getClassName() + "#" + serverResourceMethod.getName(), maxEntries);
+        }
+        return store;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public ResponseCacheCustomizer setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+        return this;
+    }
+}
@@ -0,0 +1,145 @@
+package org.jboss.resteasy.reactive.server.providers.serialisers;
+
+import java.util.function.Consumer;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.LazyResponse;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+/**
+ * Sends whole files with {@link ServerHttpResponse#sendFile(String, long, long)}, honoring single byte range requests
+ * as per RFC 7233.
+ * <p>
+ * Multiple ranges and conditional range requests ({@code If-Range}) are not supported, in which case the whole file is
+ * sent as the RFC allows.
+ */
+final class FileRangeSupport {
+
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String RANGE = "Range";
+    private static final String BYTES = "bytes";
+    private static final String BYTES_PREFIX = "bytes=";
+
+    private FileRangeSupport() {
+    }
+
+    static void sendFile(ServerRequestContext context, String path, long fileLength) {
+        ServerHttpResponse response = context.serverResponse();
+        response.setResponseHeader(ACCEPT_RANGES, BYTES);
+        String range = getRangeHeader(context);
+        if (range != null) {
+            long[] bounds = parseRange(range, fileLength);
+            if (bounds == null) {
+                overrideStatus(response, Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode(),
+                        BYTES + " */" + fileLength);
+                response.end();
+                return;
+            }
+            if (bounds.length == 2) {
+                long start = bounds[0];
+                long end = bounds[1];
+                overrideStatus(response, Response.Status.PARTIAL_CONTENT.getStatusCode(),
+                        BYTES + " " + start + "-" + end + "/" + fileLength);
+                // sendFile implies end(), even though javadoc doesn't say, if you add end() it will throw
+                response.sendFile(path, start, end - start + 1);
+                return;
+            }
+        }
+        // sendFile implies end(), even though javadoc doesn't say, if you add end() it will throw
+        response.sendFile(path, 0, fileLength);
+    }
+
+    /**
+     * @return the {@code Range} header if it should be honored for this request, {@code null} otherwise
+     */
+    private static String getRangeHeader(ServerRequestContext context) {
+        if (!(context instanceof ResteasyReactiveRequestContext)) {
+            return null;
+        }
+        ResteasyReactiveRequestContext requestContext = (ResteasyReactiveRequestContext) context;
+        ServerHttpRequest request = requestContext.serverRequest();
+        if (!HttpMethod.GET.equals(request.getRequestMethod())) {
+            return null;
+        }
+        String range = request.getRequestHeader(RANGE);
+        if (range == null || request.getRequestHeader(IF_RANGE) != null) {
+            return null;
+        }
+        // only a successful response may be turned into a partial one
+        LazyResponse response = requestContext.getResponse();
+        if ((response.isCreated() || !response.isPredetermined())
+                && response.get().getStatus() != Response.Status.OK.getStatusCode()) {
+            return null;
+        }
+        return range;
+    }
+
+    /**
+     * @return the inclusive bounds of the requested range, {@code null} if the range cannot be satisfied, or an empty
+     *         array if the header is malformed or not supported and should be ignored
+     */
+    private static long[] parseRange(String range, long fileLength) {
+        if (!range.regionMatches(true, 0, BYTES_PREFIX, 0, BYTES_PREFIX.length()) || range.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = range.substring(BYTES_PREFIX.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        long start;
+        long end;
+        try {
+            if (dash == 0) {
+                // suffix range: the last N bytes
+                long suffixLength = Long.parseLong(spec.substring(1));
+                if (suffixLength <= 0 || fileLength == 0) {
+                    return null;
+                }
+                start = Math.max(0, fileLength - suffixLength);
+                end = fileLength - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(dash + 1));
+                if (end < start) {
+                    return new long[0];
+                }
+                if (start >= fileLength) {
+                    return null;
+                }
+                end = Math.min(end, fileLength - 1);
+            }
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+        return new long[] { start, end };
+    }
+
+    /**
+     * The status and headers of the JAX-RS response are encoded when the response is committed, so the range status has
+     * to be applied after them.
+     */
+    private static void overrideStatus(ServerHttpResponse response, int status, String contentRange) {
+        response.setPreCommitListener(new Consumer<ResteasyReactiveRequestContext>() {
+            @Override
+            public void accept(ResteasyReactiveRequestContext context) {
+                ServerSerialisers.encodeResponseHeaders(context);
+                ServerHttpResponse serverResponse = context.serverResponse();
+                serverResponse.setStatusCode(status);
+                serverResponse.setResponseHeader(CONTENT_RANGE, contentRange);
+                if (status == Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode()) {
+                    serverResponse.removeResponseHeader(HttpHeaders.CONTENT_TYPE);
+                }
+            }
+        });
+    }
+}
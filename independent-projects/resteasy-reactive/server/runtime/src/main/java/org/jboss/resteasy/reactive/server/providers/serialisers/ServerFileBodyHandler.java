@@ -30,6 +30,6 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
 
     @Override
     public void writeResponse(File o, Type genericType, ServerRequestContext context) throws WebApplicationException {
-        context.serverResponse().sendFile(o.getAbsolutePath(), 0, o.length());
+        FileRangeSupport.sendFile(context, o.getAbsolutePath(), o.length());
     }
 }
@@ -12,7 +12,6 @@
 
 import org.jboss.resteasy.reactive.common.providers.serialisers.PathBodyHandler;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
-import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -36,8 +35,12 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
     @Override
     public void writeResponse(java.nio.file.Path o, Type genericType, ServerRequestContext context)
             throws WebApplicationException {
-        ServerHttpResponse serverResponse = context.serverResponse();
-        // sendFile implies end(), even though javadoc doesn't say, if you add end() it will throw
-        serverResponse.sendFile(o.toString(), 0, Long.MAX_VALUE);
+        long length;
+        try {
+            length = Files.size(o);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        FileRangeSupport.sendFile(context, o.toString(), length);
     }
 }
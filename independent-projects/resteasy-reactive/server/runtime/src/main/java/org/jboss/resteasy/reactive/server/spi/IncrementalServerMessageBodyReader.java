@@ -0,0 +1,36 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A {@link ServerMessageBodyReader} that is able to deserialize the request body chunk by chunk as it is received on
+ * the IO thread, so that large bodies neither block a worker thread nor need to be buffered as a whole.
+ */
+public interface IncrementalServerMessageBodyReader<T> extends ServerMessageBodyReader<T> {
+
+    /**
+     * @return a reader that will be fed the request body, or {@code null} if this body cannot be read incrementally,
+     *         in which case it will be read from a blocking stream on a worker thread
+     */
+    IncrementalReader<T> createIncrementalReader(Class<T> type, Type genericType, MediaType mediaType,
+            ServerRequestContext context) throws IOException;
+
+    interface IncrementalReader<T> {
+
+        /**
+         * Feeds the next chunk of the request body. The chunk must be fully consumed before this method returns.
+         */
+        void feed(ByteBuffer data) throws IOException;
+
+        /**
+         * Called once the whole request body has been fed, from the handler chain, when the entity is needed.
+         *
+         * @return the deserialized entity
+         */
+        T complete() throws IOException;
+    }
+}
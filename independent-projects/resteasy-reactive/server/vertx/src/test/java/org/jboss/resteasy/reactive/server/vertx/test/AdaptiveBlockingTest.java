@@ -0,0 +1,102 @@
+package org.jboss.resteasy.reactive.server.vertx.test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class AdaptiveBlockingTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.setAdaptiveBlockingThreshold(20);
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class);
+                }
+            });
+
+    @Test
+    public void testSlowEndpointIsMovedToWorkerPool() {
+        for (int i = 0; i < 3; i++) {
+            RestAssured.get("/adaptive/slow")
+                    .then()
+                    .statusCode(200)
+                    .body(equalTo("false"));
+        }
+        RestAssured.get("/adaptive/slow")
+                .then()
+                .statusCode(200)
+                .body(equalTo("true"));
+    }
+
+    @Test
+    public void testFastEndpointStaysOnIoThread() {
+        for (int i = 0; i < 5; i++) {
+            RestAssured.get("/adaptive/fast")
+                    .then()
+                    .statusCode(200)
+                    .body(equalTo("false"));
+        }
+    }
+
+    @Test
+    public void testExplicitNonBlockingEndpointStaysOnIoThread() {
+        for (int i = 0; i < 5; i++) {
+            RestAssured.get("/adaptive/explicit")
+                    .then()
+                    .statusCode(200)
+                    .body(equalTo("false"));
+        }
+    }
+
+    @Path("adaptive")
+    public static class Resource {
+
+        // the non-blocking mode of these endpoints is inferred from their return type
+
+        @GET
+        @Path("slow")
+        public CompletionStage<String> slow() throws InterruptedException {
+            Thread.sleep(50);
+            return CompletableFuture.completedFuture(String.valueOf(BlockingOperationSupport.isBlockingAllowed()));
+        }
+
+        @GET
+        @Path("fast")
+        public CompletionStage<String> fast() {
+            return CompletableFuture.completedFuture(String.valueOf(BlockingOperationSupport.isBlockingAllowed()));
+        }
+
+        @GET
+        @Path("explicit")
+        @NonBlocking
+        public String explicit() throws InterruptedException {
+            Thread.sleep(50);
+            return String.valueOf(BlockingOperationSupport.isBlockingAllowed());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.jboss.resteasy.reactive.server.vertx.test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.common.providers.serialisers.MessageReaderUtil;
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.spi.IncrementalServerMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class IncrementalInputTest {
+
+    private static final int MAX_INCREMENTAL_INPUT_SIZE = 100_000;
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.setMaxIncrementalInputSize(MAX_INCREMENTAL_INPUT_SIZE);
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class, Input.class, IncrementalInputReader.class);
+                }
+            });
+
+    @Test
+    public void testBodyIsReadOnIoThread() {
+        RestAssured.with().body("a".repeat(50_000)).contentType("text/test")
+                .post("/incremental")
+                .then()
+                .statusCode(200)
+                .body(equalTo("50000/false"));
+    }
+
+    @Test
+    public void testTooLargeBody() {
+        RestAssured.with().body("a".repeat(MAX_INCREMENTAL_INPUT_SIZE + 1)).contentType("text/test")
+                .post("/incremental")
+                .then()
+                .statusCode(413);
+    }
+
+    @Path("incremental")
+    public static class Resource {
+
+        @POST
+        @NonBlocking
+        @Consumes("text/test")
+        public String post(Input input) {
+            return input.length + "/" + input.blockingAllowed;
+        }
+    }
+
+    public static class Input {
+
+        long length;
+        boolean blockingAllowed;
+    }
+
+    @Provider
+    @Consumes("text/test")
+    public static class IncrementalInputReader implements IncrementalServerMessageBodyReader<Input> {
+
+        @Override
+        public IncrementalReader<Input> createIncrementalReader(Class<Input> type, Type genericType, MediaType mediaType,
+                ServerRequestContext context) {
+            Input input = new Input();
+            return new IncrementalReader<>() {
+                @Override
+                public void feed(ByteBuffer data) {
+                    input.length += data.remaining();
+                    input.blockingAllowed |= BlockingOperationSupport.isBlockingAllowed();
+                    data.position(data.limit());
+                }
+
+                @Override
+                public Input complete() {
+                    return input;
+                }
+            };
+        }
+
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo lazyMethod,
+                MediaType mediaType) {
+            return type.equals(Input.class);
+        }
+
+        @Override
+        public Input readFrom(Class<Input> type, Type genericType, MediaType mediaType, ServerRequestContext context)
+                throws WebApplicationException, IOException {
+            Input input = new Input();
+            input.length = MessageReaderUtil.readBytes(context.getInputStream()).length;
+            input.blockingAllowed = true;
+            return input;
+        }
+
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type.equals(Input.class);
+        }
+
+        @Override
+        public Input readFrom(Class<Input> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
+                throws IOException, WebApplicationException {
+            Input input = new Input();
+            input.length = MessageReaderUtil.readBytes(entityStream).length;
+            input.blockingAllowed = true;
+            return input;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+import org.jboss.resteasy.reactive.Cache;
+import org.jboss.resteasy.reactive.ResponseCache;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.CacheControlScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.ResponseCacheScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+
+public class ResponseCacheTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new CacheControlScanner());
+                    scanStep.addMethodScanner(new ResponseCacheScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(CachedResource.class);
+                }
+            });
+
+    @Test
+    public void testCachedResponse() {
+        String etag = RestAssured.get("/cached/greeting/foo?suffix=!")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo! 1"))
+                .header("ETag", notNullValue())
+                .header("Cache-Control", "max-age=100")
+                .extract().header("ETag");
+
+        RestAssured.get("/cached/greeting/foo?suffix=!")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo! 1"))
+                .header("ETag", etag)
+                .header("Cache-Control", "max-age=100");
+
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/cached/greeting/foo?suffix=!")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+
+        RestAssured.get("/cached/greeting/foo?suffix=.")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo. 2"));
+
+        RestAssured.get("/cached/greeting/bar?suffix=!")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello bar! 3"));
+
+        RestAssured.get("/cached/greeting/foo?suffix=.")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo. 2"));
+    }
+
+    @Test
+    public void testEviction() {
+        RestAssured.get("/cached/evicting/a").then().statusCode(200).body(equalTo("a1"));
+        RestAssured.get("/cached/evicting/a").then().statusCode(200).body(equalTo("a1"));
+        RestAssured.get("/cached/evicting/b").then().statusCode(200).body(equalTo("b2"));
+        // only a single entry is kept, so the first one must have been evicted
+        RestAssured.get("/cached/evicting/a").then().statusCode(200).body(equalTo("a3"));
+    }
+
+    @Test
+    public void testNotCachedForNonGet() {
+        RestAssured.post("/cached/post").then().statusCode(200).body(equalTo("1"));
+        RestAssured.post("/cached/post").then().statusCode(200).body(equalTo("2"));
+    }
+
+    @Path("cached")
+    public static class CachedResource {
+
+        static final AtomicInteger COUNTER = new AtomicInteger();
+        static final AtomicInteger EVICTING_COUNTER = new AtomicInteger();
+        static final AtomicInteger POST_COUNTER = new AtomicInteger();
+
+        @Path("greeting/{name}")
+        @GET
+        @ResponseCache
+        @Cache(maxAge = 100)
+        public String greeting(@PathParam("name") String name, @QueryParam("suffix") String suffix) {
+            return "hello " + name + suffix + " " + COUNTER.incrementAndGet();
+        }
+
+        @Path("evicting/{id}")
+        @GET
+        @ResponseCache(maxEntries = 1)
+        public String evicting(@PathParam("id") String id) {
+            return id + EVICTING_COUNTER.incrementAndGet();
+        }
+
+        @Path("post")
+        @POST
+        public String post() {
+            return String.valueOf(POST_COUNTER.incrementAndGet());
+        }
+    }
+}
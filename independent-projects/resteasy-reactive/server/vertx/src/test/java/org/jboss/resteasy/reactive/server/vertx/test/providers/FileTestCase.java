@@ -69,6 +69,53 @@ public void testFiles() throws Exception {
                 .body(Matchers.equalTo(content.substring(20, 30)));
     }
 
+    @Test
+    public void testRanges() throws Exception {
+        String content = Files.readString(Path.of(FILE));
+        int length = content.length();
+        for (String resource : new String[] { "/providers/file/file", "/providers/file/path" }) {
+            RestAssured.get(resource)
+                    .then()
+                    .statusCode(200)
+                    .header("Accept-Ranges", "bytes");
+            RestAssured.given().header("Range", "bytes=20-29")
+                    .get(resource)
+                    .then()
+                    .statusCode(206)
+                    .header(HttpHeaders.CONTENT_LENGTH, "10")
+                    .header("Content-Range", "bytes 20-29/" + length)
+                    .body(Matchers.equalTo(content.substring(20, 30)));
+            RestAssured.given().header("Range", "bytes=100-")
+                    .get(resource)
+                    .then()
+                    .statusCode(206)
+                    .header("Content-Range", "bytes 100-" + (length - 1) + "/" + length)
+                    .body(Matchers.equalTo(content.substring(100)));
+            RestAssured.given().header("Range", "bytes=-10")
+                    .get(resource)
+                    .then()
+                    .statusCode(206)
+                    .header("Content-Range", "bytes " + (length - 10) + "-" + (length - 1) + "/" + length)
+                    .body(Matchers.equalTo(content.substring(length - 10)));
+            RestAssured.given().header("Range", "bytes=" + length + "-")
+                    .get(resource)
+                    .then()
+                    .statusCode(416)
+                    .header("Content-Range", "bytes */" + length);
+            // multiple ranges are not supported, the whole file is sent
+            RestAssured.given().header("Range", "bytes=0-1,5-6")
+                    .get(resource)
+                    .then()
+                    .statusCode(200)
+                    .body(Matchers.equalTo(content));
+            RestAssured.given().header("Range", "bytes=20-29").header("If-Range", "\"foo\"")
+                    .get(resource)
+                    .then()
+                    .statusCode(200)
+                    .body(Matchers.equalTo(content));
+        }
+    }
+
     @Test
     public void testChecks() throws IOException {
         // creation-time checks
@@ -0,0 +1,81 @@
+package org.jboss.resteasy.reactive.server.vertx.test.stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Multi;
+
+public class JsonArrayStreamingTest {
+
+    private static final int ITEMS = 5000;
+    private static final String PADDING = "x".repeat(1024);
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClass(Resource.class);
+                }
+            });
+
+    @Test
+    public void testLargeArray() {
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < ITEMS; i++) {
+            if (i > 0) {
+                expected.append(',');
+            }
+            expected.append(item(i));
+        }
+        expected.append(']');
+        RestAssured.get("/json-stream/large")
+                .then()
+                .statusCode(200)
+                .body(equalTo(expected.toString()));
+    }
+
+    @Test
+    public void testEmptyArray() {
+        RestAssured.get("/json-stream/empty")
+                .then()
+                .statusCode(200)
+                .body(equalTo("[]"));
+    }
+
+    private static String item(int i) {
+        return "\"" + i + PADDING + "\"";
+    }
+
+    @Path("json-stream")
+    public static class Resource {
+
+        @GET
+        @Path("large")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<String> large() {
+            return Multi.createFrom().range(0, ITEMS).map(JsonArrayStreamingTest::item);
+        }
+
+        @GET
+        @Path("empty")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<String> empty() {
+            return Multi.createFrom().empty();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.quarkus.it.micrometer.prometheus;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.jboss.resteasy.reactive.ResponseCache;
+
+@Path("cached/{value}")
+public class ResponseCacheResource {
+    @GET
+    @ResponseCache
+    public String get(@PathParam("value") String value) {
+        return "Cached: " + value;
+    }
+}
@@ -86,6 +86,15 @@ void testTemplatedPathOnClass() {
 
     @Test
     @Order(10)
+    void testResponseCache() {
+        when().get("/cached/one").then().statusCode(200)
+                .body(containsString("Cached: one"));
+        when().get("/cached/one").then().statusCode(200)
+                .body(containsString("Cached: one"));
+    }
+
+    @Test
+    @Order(11)
     void testPrometheusScrapeEndpoint() {
         when().get("/q/metrics").then().statusCode(200)
 
@@ -113,6 +122,12 @@ void testPrometheusScrapeEndpoint() {
                 .body(containsString(
                         "http_server_requests_seconds_count{env=\"test\",method=\"GET\",outcome=\"SUCCESS\",registry=\"prometheus\",status=\"200\",uri=\"/template/path/{value}\""))
 
+                // Verify the response cache metrics
+                .body(containsString(
+                        "http_server_response_cache_hits_total{env=\"test\",method=\"io.quarkus.it.micrometer.prometheus.ResponseCacheResource#get\",registry=\"prometheus\",} 1.0"))
+                .body(containsString(
+                        "http_server_response_cache_misses_total{env=\"test\",method=\"io.quarkus.it.micrometer.prometheus.ResponseCacheResource#get\",registry=\"prometheus\",} 1.0"))
+
                 // Verify Hibernate Metrics
                 .body(containsString(
                         "hibernate_sessions_open_total{entityManagerFactory=\"<default>\",env=\"test\",registry=\"prometheus\",} 2.0"))